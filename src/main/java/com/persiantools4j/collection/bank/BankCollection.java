@@ -20,13 +20,17 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.persiantools4j.collection.Collection;
 import com.persiantools4j.objectmapper.ObjectMapperWrapper;
+import com.persiantools4j.util.PersianFoldedKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * The {@code BankCollection} class extends the {@link Collection} abstract class to provide a collection
@@ -39,6 +43,7 @@ import java.util.List;
 public final class BankCollection extends Collection<Bank> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BankCollection.class);
+    private final Map<PersianFoldedKey, Bank> persianNameIndex = new HashMap<>();
 
     /**
      * Private constructor to prevent direct instantiation. The data is read from the
@@ -54,6 +59,25 @@ public final class BankCollection extends Collection<Bank> {
             LOGGER.error("Bank collection cannot be parsed", e);
             collectionList = Collections.emptyList();
         }
+        for (Bank bank : collectionList) {
+            persianNameIndex.putIfAbsent(new PersianFoldedKey(bank.getPersianName()), bank);
+        }
+    }
+
+    /**
+     * Finds the bank with the given Persian name, e.g. {@code بانک ملت}.
+     * <p>
+     * Names are compared under the rules of {@link com.persiantools4j.util.StringUtils#normalizePersian(String)},
+     * so Arabic yeh and kaf and surrounding whitespace do not prevent a match.
+     *
+     * @param persianName the Persian name of the bank
+     * @return an {@link Optional} containing the {@link Bank} if found; otherwise, an empty {@link Optional}
+     */
+    public Optional<Bank> findByPersianName(CharSequence persianName) {
+        if (persianName == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(persianNameIndex.get(new PersianFoldedKey(persianName)));
     }
 
     /**
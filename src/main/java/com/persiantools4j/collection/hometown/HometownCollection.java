@@ -20,13 +20,17 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.persiantools4j.collection.Collection;
 import com.persiantools4j.objectmapper.ObjectMapperWrapper;
+import com.persiantools4j.util.PersianFoldedKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The {@code HometownCollection} class extends the {@link Collection} abstract class to provide a collection
@@ -39,6 +43,7 @@ import java.util.List;
 public final class HometownCollection extends Collection<Hometown> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HometownCollection.class);
+    private final Map<PersianFoldedKey, List<Hometown>> cityIndex = new HashMap<>();
 
     /**
      * Private constructor to prevent direct instantiation. The data is read from the
@@ -54,6 +59,27 @@ public final class HometownCollection extends Collection<Hometown> {
             LOGGER.error("Hometown collection cannot be parsed", e);
             collectionList = Collections.emptyList();
         }
+        for (Hometown hometown : collectionList) {
+            cityIndex.computeIfAbsent(new PersianFoldedKey(hometown.getCity()), city -> new ArrayList<>())
+                    .add(hometown);
+        }
+    }
+
+    /**
+     * Finds all hometowns of the given city, e.g. {@code تهران مرکزی}.
+     * <p>
+     * Cities are compared under the rules of {@link com.persiantools4j.util.StringUtils#normalizePersian(String)},
+     * so Arabic yeh and kaf and surrounding whitespace do not prevent a match.
+     *
+     * @param city the city of the hometowns
+     * @return a {@link List} of the hometowns of the city, or an empty list if there is none
+     */
+    public List<Hometown> findAllByCity(CharSequence city) {
+        if (city == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(cityIndex.getOrDefault(new PersianFoldedKey(city),
+                Collections.emptyList()));
     }
 
     /**
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.collection.operator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.persiantools4j.Generated;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a mobile network {@code Operator}, encapsulating its ID, name, persian name and prefix(es).
+ * <p>
+ * This class is immutable and should be instantiated using the static factory method.
+ */
+@Generated
+public final class Operator {
+
+    private final String id;
+    private final String name;
+    private final String persianName;
+    private final List<String> prefixes;
+
+    /**
+     * Constructs an immutable {@code Operator} instance.
+     * <p>
+     * This constructor is annotated with {@link JsonCreator} to enable Jackson deserialization,
+     * mapping the specified JSON properties to the corresponding fields.
+     *
+     * @param id          the operator ID, mapped from the {@code "id"} JSON property
+     * @param name        the name of the operator in English, mapped from the {@code "name"} JSON property
+     * @param persianName the name of the operator in Persian (Farsi), mapped from the {@code "persianName"} JSON
+     *                    property
+     * @param prefixes    a list of mobile number prefix(es) associated to the operator, without the leading zero,
+     *                    mapped from the {@code "prefix"} JSON property
+     */
+    @JsonCreator
+    public Operator(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("persianName") String persianName,
+            @JsonProperty("prefix") List<String> prefixes
+    ) {
+        this.id = id;
+        this.name = name;
+        this.persianName = persianName;
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * Returns the ID for this operator.
+     *
+     * @return the operator ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the English name for this operator.
+     *
+     * @return the operator name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the Persian (Farsi) name for this operator.
+     *
+     * @return the operator Persian name
+     */
+    public String getPersianName() {
+        return persianName;
+    }
+
+    /**
+     * Returns the list of mobile number prefix(es), without the leading zero, associated with this operator.
+     *
+     * @return the list of prefix(es)
+     */
+    public List<String> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * Compares this {@code Operator} instance with the specified object for equality.
+     * <p>
+     * Two {@code Operator} objects are considered equal if they have the same ID, name, persian name and prefix(es).
+     *
+     * @param o the object to compare with
+     * @return {@code true} if the specified object is equal to this {@code Operator}, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Operator)) {
+            return false;
+        }
+        Operator operator = (Operator) o;
+        return Objects.equals(id, operator.id) &&
+                Objects.equals(name, operator.name) &&
+                Objects.equals(persianName, operator.persianName) &&
+                Objects.equals(prefixes, operator.prefixes);
+    }
+
+    /**
+     * Returns a hash code value for this {@code Operator} instance.
+     * <p>
+     * The hash code is generated based on the ID, name, persian name and prefix(es).
+     *
+     * @return a hash code value for this {@code Operator} instance
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, persianName, prefixes);
+    }
+
+    /**
+     * Returns a string representation of this {@code Operator} instance.
+     * <p>
+     * The string representation includes the ID, name, persian name and prefix(es).
+     *
+     * @return a string representation of the {@code Operator} object
+     */
+    @Override
+    public String toString() {
+        return "Operator{" + "id='" + id + '\'' + ", name='" + name + '\'' + ", persianName='" + persianName + '\'' +
+                ", prefixes=" + prefixes + '}';
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.collection.operator;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.persiantools4j.collection.Collection;
+import com.persiantools4j.objectmapper.ObjectMapperWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@code OperatorCollection} class extends the {@link Collection} abstract class to provide a collection
+ * of {@link Operator} objects. It follows the Singleton design pattern to ensure that only a single instance
+ * of this class is used throughout the application.
+ * <p>
+ * The operator data is loaded from a JSON file ({@code phonenumber/operators-data.json}) the first time the
+ * collection is accessed.
+ */
+public final class OperatorCollection extends Collection<Operator> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OperatorCollection.class);
+
+    /**
+     * Private constructor to prevent direct instantiation. The data is read from the
+     * {@code phonenumber/operators-data.json} file and parsed into a {@link List} of {@link Operator} objects.
+     */
+    private OperatorCollection() {
+        ObjectMapper objectMapper = ObjectMapperWrapper.getInstance();
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (InputStream inputStream = contextClassLoader.getResourceAsStream("phonenumber/operators-data.json")) {
+            collectionList = objectMapper.readValue(inputStream, new TypeReference<List<Operator>>() {
+            });
+        } catch (IOException e) {
+            LOGGER.error("Operator collection cannot be parsed", e);
+            collectionList = Collections.emptyList();
+        }
+    }
+
+    /**
+     * Retrieves the singleton instance of {@code OperatorCollection}.
+     *
+     * @return the singleton instance of {@code OperatorCollection}
+     */
+    public static OperatorCollection getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Private static helper class to implement the Singleton design pattern.
+     */
+    private static class InstanceHolder {
+        private static final OperatorCollection INSTANCE = new OperatorCollection();
+    }
+
+}
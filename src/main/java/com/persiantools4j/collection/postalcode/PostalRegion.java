@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.collection.postalcode;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.persiantools4j.Generated;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a {@code PostalRegion}, encapsulating its province and postal code prefix(es).
+ * <p>
+ * This class is immutable and should be instantiated using the static factory method.
+ */
+@Generated
+public final class PostalRegion {
+
+    private final String province;
+    private final List<String> codes;
+
+    /**
+     * Constructs an immutable {@code PostalRegion} instance.
+     * <p>
+     * This constructor is annotated with {@link JsonCreator} to enable Jackson deserialization,
+     * mapping the specified JSON properties to the corresponding fields.
+     *
+     * @param province the name of the province covered by the region, mapped from the {@code "province"} JSON property
+     * @param codes    a list of postal code prefix(es) associated with the {@code PostalRegion},
+     *                 mapped from the {@code "code"} JSON property
+     */
+    @JsonCreator
+    public PostalRegion(
+            @JsonProperty("province") String province,
+            @JsonProperty("code") List<String> codes
+    ) {
+        this.province = province;
+        this.codes = codes;
+    }
+
+    /**
+     * Returns the name of the province for this {@code PostalRegion}.
+     *
+     * @return the province name
+     */
+    public String getProvince() {
+        return province;
+    }
+
+    /**
+     * Returns the list of postal code prefix(es) associated with this {@code PostalRegion}.
+     *
+     * @return the list of prefix(es)
+     */
+    public List<String> getCodes() {
+        return codes;
+    }
+
+    /**
+     * Compares this {@code PostalRegion} instance with the specified object for equality.
+     * <p>
+     * Two {@code PostalRegion} objects are considered equal if they have the same province and prefix(es).
+     *
+     * @param o the object to compare with
+     * @return {@code true} if the specified object is equal to this {@code PostalRegion}, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PostalRegion)) {
+            return false;
+        }
+        PostalRegion postalRegion = (PostalRegion) o;
+        return Objects.equals(province, postalRegion.province)
+                && Objects.equals(codes, postalRegion.codes);
+    }
+
+    /**
+     * Returns a hash code value for this {@code PostalRegion} instance.
+     * <p>
+     * The hash code is generated based on the province and prefix(es).
+     *
+     * @return a hash code value for this {@code PostalRegion} instance
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(province, codes);
+    }
+
+    /**
+     * Returns a string representation of this {@code PostalRegion} instance.
+     * <p>
+     * The string representation includes the province and prefix(es).
+     *
+     * @return a string representation of the {@code PostalRegion} object
+     */
+    @Override
+    public String toString() {
+        return "PostalRegion{" + "province='" + province + '\'' + ", codes=" + codes + '}';
+    }
+
+}
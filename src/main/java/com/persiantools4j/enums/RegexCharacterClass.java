@@ -16,10 +16,17 @@
 
 package com.persiantools4j.enums;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 /**
  * Enum representing various character classes for regex patterns.
  * <p>
- * Specifically tailored for Persian and Arabic characters, numerics, symbols, and their combinations.
+ * Specifically tailored for Persian and Arabic characters, numerics, symbols, and their combinations. Besides the
+ * regex string, each character class is precompiled into bitmaps over the ASCII range and the Arabic block
+ * ({@code U+0600} to {@code U+06FF}) plus a sorted array of the remaining characters, so that text can be classified
+ * with {@link #matches(char)}, {@link #matchesAll(CharSequence)} and {@link #indexOfNonMatching(CharSequence, int)}
+ * without regex matching or allocation.
  */
 public enum RegexCharacterClass {
 
@@ -87,11 +94,31 @@ public enum RegexCharacterClass {
     PERSIAN(NUMERIC.classStr + PERSIAN_ALPHABET.classStr + PERSIAN_ARABIC_SHORT_VOWEL.classStr +
             PERSIAN_ARABIC_TANVIN.classStr + PERSIAN_ARABIC_SYMBOL.classStr + SYMBOL.classStr);
 
+    private static final char ARABIC_BLOCK_START = '\u0600';
+    private static final char ARABIC_BLOCK_END = '\u06FF';
+    private static final char ASCII_END = '\u007F';
+
     /**
      * The string representation of the regex character class.
      */
     private final String classStr;
 
+    /**
+     * The bitmap of the matching ASCII characters, bit {@code ch % 64} of element {@code ch / 64}.
+     */
+    private final long[] asciiBits = new long[2];
+
+    /**
+     * The bitmap of the matching characters of the Arabic block, bit {@code (ch - U+0600) % 64} of element
+     * {@code (ch - U+0600) / 64}.
+     */
+    private final long[] arabicBits = new long[4];
+
+    /**
+     * The sorted matching characters outside the ASCII range and the Arabic block.
+     */
+    private final char[] otherChars;
+
     /**
      * Constructs a {@code RegexCharacterClass} with the specified regex string.
      *
@@ -99,6 +126,63 @@ public enum RegexCharacterClass {
      */
     RegexCharacterClass(String classStr) {
         this.classStr = classStr;
+        BitSet chars = parseClassStr(classStr);
+        StringBuilder otherChars = new StringBuilder();
+        for (int ch = chars.nextSetBit(0); ch >= 0; ch = chars.nextSetBit(ch + 1)) {
+            if (ch <= ASCII_END) {
+                asciiBits[ch >>> 6] |= 1L << ch;
+            } else if (ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END) {
+                arabicBits[(ch - ARABIC_BLOCK_START) >>> 6] |= 1L << (ch - ARABIC_BLOCK_START);
+            } else {
+                otherChars.append((char) ch);
+            }
+        }
+        this.otherChars = otherChars.toString().toCharArray();
+    }
+
+    /**
+     * Parses the characters of the given regex character class string, consisting of literal characters,
+     * Unicode escapes, the digit class, escaped characters and ranges.
+     *
+     * @param classStr the string representation of the regex character class
+     * @return the set of the characters of the class
+     */
+    private static BitSet parseClassStr(String classStr) {
+        BitSet chars = new BitSet(Character.MAX_VALUE + 1);
+        int previous = -1;
+        boolean range = false;
+        int i = 0;
+        while (i < classStr.length()) {
+            char ch = classStr.charAt(i);
+            if (ch == '\\' && classStr.charAt(i + 1) == 'd') {
+                chars.set('0', '9' + 1);
+                previous = -1;
+                i += 2;
+                continue;
+            }
+            if (ch == '\\' && classStr.charAt(i + 1) == 'u') {
+                ch = (char) Integer.parseInt(classStr.substring(i + 2, i + 6), 16);
+                i += 6;
+            } else if (ch == '\\') {
+                ch = classStr.charAt(i + 1);
+                i += 2;
+            } else if (ch == '-' && previous >= 0 && i + 1 < classStr.length()) {
+                range = true;
+                i++;
+                continue;
+            } else {
+                i++;
+            }
+            if (range) {
+                chars.set(previous, ch + 1);
+                range = false;
+                previous = -1;
+            } else {
+                chars.set(ch);
+                previous = ch;
+            }
+        }
+        return chars;
     }
 
     /**
@@ -110,4 +194,47 @@ public enum RegexCharacterClass {
         return classStr;
     }
 
+    /**
+     * Checks if the given character belongs to this character class.
+     *
+     * @param ch the character to check
+     * @return {@code true} if the character belongs to this character class, otherwise {@code false}
+     */
+    public boolean matches(char ch) {
+        if (ch <= ASCII_END) {
+            return (asciiBits[ch >>> 6] & 1L << ch) != 0;
+        } else if (ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END) {
+            return (arabicBits[(ch - ARABIC_BLOCK_START) >>> 6] & 1L << (ch - ARABIC_BLOCK_START)) != 0;
+        }
+        return otherChars.length != 0 && Arrays.binarySearch(otherChars, ch) >= 0;
+    }
+
+    /**
+     * Checks if all characters of the given character sequence belong to this character class.
+     *
+     * @param input the character sequence to check
+     * @return {@code true} if all characters belong to this character class, including when the character sequence
+     * is empty, otherwise {@code false}
+     */
+    public boolean matchesAll(CharSequence input) {
+        return indexOfNonMatching(input, 0) < 0;
+    }
+
+    /**
+     * Returns the index of the first character of the given character sequence, from the given index, that does not
+     * belong to this character class.
+     *
+     * @param input     the character sequence to search
+     * @param fromIndex the index to start from
+     * @return the index of the first non-matching character, or {@code -1} if all characters match
+     */
+    public int indexOfNonMatching(CharSequence input, int fromIndex) {
+        for (int i = Math.max(fromIndex, 0); i < input.length(); i++) {
+            if (!matches(input.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.enums;
+
+/**
+ * Enum representing the types of the tokens produced by the
+ * {@link com.persiantools4j.tokenizer.PersianTokenizer}. Tokens store their type as its {@link #getCode() code}, so
+ * that they fit in an {@code int} buffer.
+ */
+public enum TokenType {
+
+    /**
+     * A word of Persian, Arabic or Latin letters, possibly joined by zero-width non-joiners.
+     */
+    WORD,
+
+    /**
+     * A number of Latin, Persian or Arabic digits, possibly with decimal and thousands separators.
+     */
+    NUMBER,
+
+    /**
+     * A single punctuation mark or symbol.
+     */
+    PUNCTUATION;
+
+    private static final TokenType[] VALUES = values();
+
+    /**
+     * Returns the code of this token type, as stored in token buffers.
+     *
+     * @return the code of this token type
+     */
+    public int getCode() {
+        return ordinal();
+    }
+
+    /**
+     * Returns the token type of the given code.
+     *
+     * @param code the code of the token type
+     * @return the token type of the code
+     * @throws IllegalArgumentException if the code is not the code of any token type
+     */
+    public static TokenType ofCode(int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Invalid token type code: " + code);
+        }
+        return VALUES[code];
+    }
+
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.keyboard;
+
+import com.persiantools4j.enums.RegexCharacterClass;
+import com.persiantools4j.util.StringUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The {@code PersianKeyboardLayout} class maps between the keys of the English (US) keyboard layout and the standard
+ * Persian keyboard layout, to fix text typed on the wrong layout, e.g. {@code sghl} to {@code سلام} and
+ * {@code اثممخ} to {@code hello}.
+ * <p>
+ * Characters are mapped through static tables indexed by character, in place on {@code char[]} ranges or into an
+ * {@link Appendable}, without allocation. Characters without a counterpart on the other layout are kept as they are.
+ * Whether a text was typed on the wrong layout is estimated by {@link #isMistypedPersian(CharSequence)} and
+ * {@link #isMistypedLatin(CharSequence)}, which classify its letters through {@link RegexCharacterClass} and compare
+ * how many of its letter bigrams are common in English and in Persian, before and after mapping.
+ */
+@SuppressWarnings("UnnecessaryUnicodeEscape")
+public final class PersianKeyboardLayout {
+
+    private static final char ASCII_END = '\u0080';
+    private static final char ARABIC_BLOCK_START = '\u0600';
+    private static final int ARABIC_BLOCK_SIZE = 0x100;
+    private static final String LATIN_KEYS = "qwertyuiop[]asdfghjkl;'zxcvbnm,?CHM0123456789";
+    private static final String PERSIAN_KEYS = "ضصثقفغعهخحجچشسیبلاتنمکگظطزرذدپو؟ژآء۰۱۲۳۴۵۶۷۸۹";
+    private static final String PERSIAN_LETTERS = "آابپتثجچحخدذرزژسشصضطظعغفقکگلمنوهی";
+    private static final String ENGLISH_BIGRAMS = "th he in er an re on at en nd ti es or te of ed is it al ar st to " +
+            "nt ng se ha as ou io le ve co me de hi ri ro ic ne ea ra ce li ch ll be ma si om ur ca el ta la ns ge " +
+            "ly ei os no pe do su pa ec ac ot di ol tr sh il wa wh ho lo fo mo ow ke ad wi ab ct ee oo us ut em ss " +
+            "wo ld";
+    private static final String PERSIAN_BIGRAMS = "ان ار ای ین ده ها ست در ور ند من ره یر را بر می ات ام ما دا ال " +
+            "ون یم ته کن ری نی ید یت شد وا به کا گا اد اس تر سا سی با زا یک کر رد دی نه هم خو شه مه گر لا سل مر " +
+            "وی یا اه تا دن رو مو یش شت شا نا لی ول عل مد مل فت رف ود نم جه بی سر زی تو پر حا خا خت چه آن آم اب " +
+            "بد دو لم قر فر رس کی هر زم فا نت مت پی گی یه هی نگ اک ذا عه دم یس بو";
+
+    /**
+     * The Persian counterparts of the ASCII characters, zero for characters without a counterpart.
+     */
+    private static final char[] LATIN_TO_PERSIAN = new char[ASCII_END];
+
+    /**
+     * The ASCII counterparts of the characters of the Arabic block, zero for characters without a counterpart.
+     */
+    private static final char[] PERSIAN_TO_LATIN = new char[ARABIC_BLOCK_SIZE];
+
+    /**
+     * The indexes of the characters of the Arabic block in {@link #PERSIAN_LETTERS}, {@code -1} for other characters.
+     */
+    private static final byte[] PERSIAN_LETTER_INDEXES = new byte[ARABIC_BLOCK_SIZE];
+
+    /**
+     * The common English bigrams, bit {@code b} of element {@code a} set for the bigram of the letters at indexes
+     * {@code a} and {@code b} of the alphabet.
+     */
+    private static final long[] ENGLISH_BIGRAM_BITS = new long[26];
+
+    /**
+     * The common Persian bigrams, bit {@code b} of element {@code a} set for the bigram of the letters at indexes
+     * {@code a} and {@code b} of {@link #PERSIAN_LETTERS}.
+     */
+    private static final long[] PERSIAN_BIGRAM_BITS = new long[PERSIAN_LETTERS.length()];
+
+    static {
+        for (int i = 0; i < LATIN_KEYS.length(); i++) {
+            char latin = LATIN_KEYS.charAt(i);
+            char persian = PERSIAN_KEYS.charAt(i);
+            LATIN_TO_PERSIAN[latin] = persian;
+            PERSIAN_TO_LATIN[persian - ARABIC_BLOCK_START] = latin;
+            char upper = Character.toUpperCase(latin);
+            if (upper != latin && LATIN_KEYS.indexOf(upper) < 0) {
+                LATIN_TO_PERSIAN[upper] = persian;
+            }
+        }
+        LATIN_TO_PERSIAN['\\'] = 'پ';
+        for (int i = 0; i < ARABIC_BLOCK_SIZE; i++) {
+            char normalized = StringUtils.normalizePersian((char) (ARABIC_BLOCK_START + i));
+            if (PERSIAN_TO_LATIN[i] == 0 && normalized >= ARABIC_BLOCK_START &&
+                    normalized < ARABIC_BLOCK_START + ARABIC_BLOCK_SIZE) {
+                PERSIAN_TO_LATIN[i] = PERSIAN_TO_LATIN[normalized - ARABIC_BLOCK_START];
+            }
+        }
+        Arrays.fill(PERSIAN_LETTER_INDEXES, (byte) -1);
+        for (int i = 0; i < PERSIAN_LETTERS.length(); i++) {
+            PERSIAN_LETTER_INDEXES[PERSIAN_LETTERS.charAt(i) - ARABIC_BLOCK_START] = (byte) i;
+        }
+        for (String bigram : ENGLISH_BIGRAMS.split(" ")) {
+            ENGLISH_BIGRAM_BITS[bigram.charAt(0) - 'a'] |= 1L << (bigram.charAt(1) - 'a');
+        }
+        for (String bigram : PERSIAN_BIGRAMS.split(" ")) {
+            PERSIAN_BIGRAM_BITS[persianLetterIndex(bigram.charAt(0))] |= 1L << persianLetterIndex(bigram.charAt(1));
+        }
+    }
+
+    /**
+     * Private constructor to prevent direct instantiation.
+     */
+    private PersianKeyboardLayout() {
+
+    }
+
+    /**
+     * Returns the character typed on the Persian layout by the key of the given character on the English layout.
+     *
+     * @param ch the character typed on the English layout
+     * @return the Persian counterpart of the character, or the character itself if it has none
+     */
+    public static char toPersian(char ch) {
+        if (ch < ASCII_END && LATIN_TO_PERSIAN[ch] != 0) {
+            return LATIN_TO_PERSIAN[ch];
+        }
+        return ch;
+    }
+
+    /**
+     * Returns the character typed on the English layout by the key of the given character on the Persian layout.
+     * Arabic variants of Persian letters and digits map as their Persian equivalents.
+     *
+     * @param ch the character typed on the Persian layout
+     * @return the English counterpart of the character, or the character itself if it has none
+     */
+    public static char toLatin(char ch) {
+        if (ch >= ARABIC_BLOCK_START && ch < ARABIC_BLOCK_START + ARABIC_BLOCK_SIZE &&
+                PERSIAN_TO_LATIN[ch - ARABIC_BLOCK_START] != 0) {
+            return PERSIAN_TO_LATIN[ch - ARABIC_BLOCK_START];
+        }
+        return ch;
+    }
+
+    /**
+     * Maps the given range of a character array, typed on the English layout, to the Persian layout in place.
+     *
+     * @param chars  the character array to map
+     * @param offset the index of the first character to map
+     * @param length the number of characters to map
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character array
+     */
+    public static void toPersian(char[] chars, int offset, int length) {
+        checkRange(chars, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            chars[i] = toPersian(chars[i]);
+        }
+    }
+
+    /**
+     * Maps the given range of a character array, typed on the Persian layout, to the English layout in place.
+     *
+     * @param chars  the character array to map
+     * @param offset the index of the first character to map
+     * @param length the number of characters to map
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character array
+     */
+    public static void toLatin(char[] chars, int offset, int length) {
+        checkRange(chars, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            chars[i] = toLatin(chars[i]);
+        }
+    }
+
+    /**
+     * Appends the given character sequence, typed on the English layout, to the given {@link Appendable}, mapped to
+     * the Persian layout.
+     *
+     * @param input  the character sequence to map
+     * @param output the {@link Appendable} receiving the mapped characters
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IOException if appending to the output fails
+     */
+    public static <A extends Appendable> A toPersian(CharSequence input, A output) throws IOException {
+        for (int i = 0; i < input.length(); i++) {
+            output.append(toPersian(input.charAt(i)));
+        }
+        return output;
+    }
+
+    /**
+     * Appends the given character sequence, typed on the Persian layout, to the given {@link Appendable}, mapped to
+     * the English layout.
+     *
+     * @param input  the character sequence to map
+     * @param output the {@link Appendable} receiving the mapped characters
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IOException if appending to the output fails
+     */
+    public static <A extends Appendable> A toLatin(CharSequence input, A output) throws IOException {
+        for (int i = 0; i < input.length(); i++) {
+            output.append(toLatin(input.charAt(i)));
+        }
+        return output;
+    }
+
+    /**
+     * Checks if the given text was likely meant to be Persian but typed on the English layout, e.g. {@code sghl}.
+     * <p>
+     * The text must consist of Latin letters, at least two, and non-letters. Its letter bigrams that are common in
+     * English are then compared with its bigrams mapped to the Persian layout that are common in Persian, words
+     * without any vowel counting slightly in favor of Persian.
+     *
+     * @param text the text to check
+     * @return {@code true} if the text is likely Persian typed on the English layout
+     */
+    public static boolean isMistypedPersian(CharSequence text) {
+        return text != null && score(text, true) > 0;
+    }
+
+    /**
+     * Checks if the given text was likely meant to be English but typed on the Persian layout, e.g. {@code اثممخ}.
+     * <p>
+     * The text must consist of Persian letters, at least two, and non-letters. Its letter bigrams that are common in
+     * Persian are then compared with its bigrams mapped to the English layout that are common in English.
+     *
+     * @param text the text to check
+     * @return {@code true} if the text is likely English typed on the Persian layout
+     */
+    public static boolean isMistypedLatin(CharSequence text) {
+        return text != null && score(text, false) < 0;
+    }
+
+    /**
+     * Scores the given text, positive if it reads better as Persian and negative if it reads better as English,
+     * considering only the letters typed on the expected layout.
+     *
+     * @param text  the text to score
+     * @param latin whether the letters of the text are expected to be Latin, otherwise Persian
+     * @return the score of the text, or zero if it has less than two letters or letters of the other script
+     */
+    static int score(CharSequence text, boolean latin) {
+        int englishHits = 0;
+        int persianHits = 0;
+        int letterCount = 0;
+        boolean vowel = false;
+        int previousLatin = -1;
+        int previousPersian = -1;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            char latinChar = latin ? Character.toLowerCase(ch) : toLatin(ch);
+            char persianChar = StringUtils.normalizePersian(latin ? toPersian(ch) : ch);
+            boolean isLatin = ch < ASCII_END && Character.isLetter(ch);
+            boolean isPersian = RegexCharacterClass.PERSIAN_ALPHABET.matches(StringUtils.normalizePersian(ch));
+            if (latin ? isPersian : isLatin) {
+                return 0;
+            }
+            int latinIndex = latinChar >= 'a' && latinChar <= 'z' ? latinChar - 'a' : -1;
+            int persianIndex = persianLetterIndex(persianChar);
+            if (latin ? !isLatin : !isPersian) {
+                latinIndex = -1;
+                persianIndex = -1;
+            } else {
+                letterCount++;
+                vowel |= "aeiouy".indexOf(latinChar) >= 0;
+            }
+            if (previousLatin >= 0 && latinIndex >= 0 &&
+                    (ENGLISH_BIGRAM_BITS[previousLatin] >>> latinIndex & 1) != 0) {
+                englishHits++;
+            }
+            if (previousPersian >= 0 && persianIndex >= 0 &&
+                    (PERSIAN_BIGRAM_BITS[previousPersian] >>> persianIndex & 1) != 0) {
+                persianHits++;
+            }
+            previousLatin = latinIndex;
+            previousPersian = persianIndex;
+        }
+        if (letterCount < 2) {
+            return 0;
+        }
+        int score = 2 * (persianHits - englishHits);
+        if (latin && !vowel && letterCount >= 3) {
+            score++;
+        }
+        return score;
+    }
+
+    /**
+     * Returns the index of the given character in {@link #PERSIAN_LETTERS}, through the
+     * {@link #PERSIAN_LETTER_INDEXES}.
+     *
+     * @param ch the character
+     * @return the index of the character, or {@code -1} if it is not a Persian letter
+     */
+    private static int persianLetterIndex(char ch) {
+        if (ch < ARABIC_BLOCK_START || ch >= ARABIC_BLOCK_START + ARABIC_BLOCK_SIZE) {
+            return -1;
+        }
+        return PERSIAN_LETTER_INDEXES[ch - ARABIC_BLOCK_START];
+    }
+
+    /**
+     * Checks that the given range is within the bounds of the given character array.
+     *
+     * @param chars  the character array
+     * @param offset the index of the first character of the range
+     * @param length the number of characters of the range
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character array
+     */
+    private static void checkRange(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > chars.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ", " + offset + " + " + length +
+                    ") of array of length " + chars.length);
+        }
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.bank.cardnumber;
+
+import com.persiantools4j.collection.bank.Bank;
+import com.persiantools4j.collection.bank.BankCollection;
+import com.persiantools4j.util.GeneratorSpliterator;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+/**
+ * The {@code CardNumberGenerator} class generates synthetic 16-digit card numbers for a set of BINs, with a
+ * configurable fraction of invalid card numbers.
+ * <p>
+ * A valid card number consists of a BIN picked uniformly from the given BINs, nine random digits and the Luhn check
+ * digit. An invalid card number either has a wrong check digit or is made up of a single repeated digit, both of
+ * which are rejected by {@link CardNumberService#validate(String)}. Generators built with the same seed and arguments
+ * produce the same sequence of card numbers.
+ * <p>
+ * Like {@link SplittableRandom}, an instance is not thread-safe. To generate in parallel, give each thread its own
+ * generator obtained through {@link #split()}, or use a parallel {@link #longs(long)} stream.
+ */
+public final class CardNumberGenerator {
+
+    private static final Pattern BIN_PATTERN = Pattern.compile("\\d{6}");
+    private static final long ACCOUNT_BOUND = 1_000_000_000L;
+    private static final long REPEATED_ONES = 1111111111111111L;
+    private static final int CARD_NUMBER_LENGTH = 16;
+
+    private final long[] bins;
+    private final double invalidFraction;
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a {@code CardNumberGenerator} of valid card numbers over all BINs of the {@link BankCollection}.
+     *
+     * @param seed the seed of the random number generator
+     */
+    public CardNumberGenerator(long seed) {
+        this(seed, 0);
+    }
+
+    /**
+     * Constructs a {@code CardNumberGenerator} over all BINs of the {@link BankCollection}, producing invalid card
+     * numbers with the given probability.
+     *
+     * @param seed            the seed of the random number generator
+     * @param invalidFraction the probability, between 0 and 1, that a generated card number is invalid
+     * @throws IllegalArgumentException if the invalid fraction is out of range
+     */
+    public CardNumberGenerator(long seed, double invalidFraction) {
+        this(seed, BankCollection.getInstance().findAllBy(bank -> true).stream()
+                .flatMap(bank -> bank.getBins().stream())
+                .toArray(String[]::new), invalidFraction);
+    }
+
+    /**
+     * Constructs a {@code CardNumberGenerator} of valid card numbers over the BINs of the given {@link Bank}.
+     *
+     * @param seed the seed of the random number generator
+     * @param bank the bank whose BINs are used
+     * @throws IllegalArgumentException if the bank is {@code null} or has no BIN
+     */
+    public CardNumberGenerator(long seed, Bank bank) {
+        this(seed, bank, 0);
+    }
+
+    /**
+     * Constructs a {@code CardNumberGenerator} over the BINs of the given {@link Bank}, producing invalid card numbers
+     * with the given probability.
+     *
+     * @param seed            the seed of the random number generator
+     * @param bank            the bank whose BINs are used
+     * @param invalidFraction the probability, between 0 and 1, that a generated card number is invalid
+     * @throws IllegalArgumentException if the bank is {@code null} or has no BIN, or the invalid fraction is out of
+     *                                  range
+     */
+    public CardNumberGenerator(long seed, Bank bank, double invalidFraction) {
+        this(seed, bank == null ? null : bank.getBins(), invalidFraction);
+    }
+
+    /**
+     * Constructs a {@code CardNumberGenerator} over the given BINs, producing invalid card numbers with the given
+     * probability.
+     *
+     * @param seed            the seed of the random number generator
+     * @param bins            the 6-digit BINs to pick from
+     * @param invalidFraction the probability, between 0 and 1, that a generated card number is invalid
+     * @throws IllegalArgumentException if the BINs are {@code null}, empty or malformed, or the invalid fraction is
+     *                                  out of range
+     */
+    public CardNumberGenerator(long seed, List<String> bins, double invalidFraction) {
+        this(seed, bins == null ? null : bins.toArray(new String[0]), invalidFraction);
+    }
+
+    /**
+     * Constructs a {@code CardNumberGenerator} over the given BINs.
+     *
+     * @param seed            the seed of the random number generator
+     * @param bins            the 6-digit BINs to pick from
+     * @param invalidFraction the probability, between 0 and 1, that a generated card number is invalid
+     */
+    private CardNumberGenerator(long seed, String[] bins, double invalidFraction) {
+        if (bins == null || bins.length == 0) {
+            throw new IllegalArgumentException("BINs are null or empty");
+        }
+        if (!(invalidFraction >= 0 && invalidFraction <= 1)) {
+            throw new IllegalArgumentException("Invalid fraction is out of range: " + invalidFraction);
+        }
+        this.bins = new long[bins.length];
+        for (int i = 0; i < bins.length; i++) {
+            if (bins[i] == null || !BIN_PATTERN.matcher(bins[i]).matches()) {
+                throw new IllegalArgumentException("Invalid BIN: " + bins[i]);
+            }
+            this.bins[i] = Long.parseLong(bins[i]);
+        }
+        this.invalidFraction = invalidFraction;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Constructs a {@code CardNumberGenerator} sharing the BINs and invalid fraction of another generator.
+     *
+     * @param generator the generator whose configuration is shared
+     * @param random    the random number generator of the new instance
+     */
+    private CardNumberGenerator(CardNumberGenerator generator, SplittableRandom random) {
+        this.bins = generator.bins;
+        this.invalidFraction = generator.invalidFraction;
+        this.random = random;
+    }
+
+    /**
+     * Returns a new generator with the same configuration and an independent random number generator split from
+     * this one.
+     *
+     * @return a new {@code CardNumberGenerator} to be used by another thread
+     */
+    public CardNumberGenerator split() {
+        return new CardNumberGenerator(this, random.split());
+    }
+
+    /**
+     * Generates the numeric value of a card number. Leading zeros are implied, so the value is always formatted with
+     * 16 digits.
+     *
+     * @return the numeric value of a card number, invalid with the configured probability
+     */
+    public long nextLong() {
+        boolean invalid = invalidFraction > 0 && random.nextDouble() < invalidFraction;
+        if (invalid && random.nextBoolean()) {
+            return REPEATED_ONES * random.nextInt(10);
+        }
+        long bin = bins.length == 1 ? bins[0] : bins[random.nextInt(bins.length)];
+        long firstFifteenDigits = bin * ACCOUNT_BOUND + random.nextLong(ACCOUNT_BOUND);
+        int checkDigit = CardNumberService.computeLuhnCheckDigit(firstFifteenDigits);
+        if (invalid) {
+            checkDigit = (checkDigit + 1 + random.nextInt(9)) % 10;
+        }
+        return firstFifteenDigits * 10 + checkDigit;
+    }
+
+    /**
+     * Generates a card number as a 16-digit string.
+     *
+     * @return a card number, invalid with the configured probability
+     */
+    public String next() {
+        char[] digits = new char[CARD_NUMBER_LENGTH];
+        long cardNumber = nextLong();
+        for (int i = CARD_NUMBER_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + cardNumber % 10);
+            cardNumber /= 10;
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Generates a card number and writes its 16 ASCII digits into the given array.
+     *
+     * @param sink   the array receiving the digits
+     * @param offset the index of the first digit in the array
+     * @return the index following the last written digit
+     * @throws IndexOutOfBoundsException if the array cannot hold 16 digits from the offset
+     */
+    public int next(byte[] sink, int offset) {
+        if (offset < 0 || offset > sink.length - CARD_NUMBER_LENGTH) {
+            throw new IndexOutOfBoundsException("Cannot write a card number at offset " + offset);
+        }
+        long cardNumber = nextLong();
+        for (int i = offset + CARD_NUMBER_LENGTH - 1; i >= offset; i--) {
+            sink[i] = (byte) ('0' + cardNumber % 10);
+            cardNumber /= 10;
+        }
+        return offset + CARD_NUMBER_LENGTH;
+    }
+
+    /**
+     * Returns a stream of the numeric values of card numbers, drawn from a generator split from this one.
+     * <p>
+     * The stream is sequential and may be made parallel: like {@link SplittableRandom#longs(long)}, it splits its
+     * generator whenever it is split across threads.
+     *
+     * @param size the number of card numbers to generate
+     * @return a {@link LongStream} of the numeric values of card numbers
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public LongStream longs(long size) {
+        return GeneratorSpliterator.longs(split(), size, CardNumberGenerator::nextLong, CardNumberGenerator::split);
+    }
+
+}
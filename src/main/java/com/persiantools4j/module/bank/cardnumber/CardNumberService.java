@@ -20,13 +20,14 @@ import com.persiantools4j.Validatable;
 import com.persiantools4j.collection.bank.Bank;
 import com.persiantools4j.collection.bank.BankCollection;
 import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.BulkUtils;
 import com.persiantools4j.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 /**
  * The {@code CardNumberService} class implements the {@link Validatable} interface, providing functionality
@@ -39,6 +40,7 @@ public final class CardNumberService implements Validatable<String> {
     private static final Logger LOGGER = LoggerFactory.getLogger(CardNumberService.class);
     private static final Pattern CARD_NUMBER_PATTERN = Pattern.compile("\\d{16}");
     private static final Pattern CARD_NUMBER_REPEATED_DIGITS_PATTERN = Pattern.compile("(\\d)\\1{15}");
+    private static final int CARD_NUMBER_LENGTH = 16;
 
     /**
      * Validates the format of the provided card number.
@@ -70,22 +72,7 @@ public final class CardNumberService implements Validatable<String> {
     @Override
     public void validate(String cardNumber) throws ValidationException {
         validateFormat(cardNumber);
-        int sum = IntStream.range(0, 16)
-                .boxed()
-                .reduce(0, (Integer partialResult, Integer index) -> {
-                    int digit = StringUtils.getNumericValue(cardNumber, index);
-                    if ((index + 1) % 2 != 0) {
-                        int doubledDigit = digit * 2;
-                        if (doubledDigit > 9) {
-                            return partialResult + (doubledDigit - 9);
-                        } else {
-                            return partialResult + doubledDigit;
-                        }
-                    } else {
-                        return partialResult + digit;
-                    }
-                }, Integer::sum);
-        if (sum % 10 != 0) {
+        if (!hasValidLuhnChecksum(Long.parseLong(cardNumber))) {
             throw new ValidationException("Invalid card number: " + cardNumber);
         }
     }
@@ -109,4 +96,91 @@ public final class CardNumberService implements Validatable<String> {
                 .findBy(bank -> bank.getBins().contains(firstSixDigits));
     }
 
+    /**
+     * Validates fixed-width card numbers stored as ASCII digits directly in the given {@link ByteBuffer}, without
+     * copying them into {@link String}s.
+     * <p>
+     * Record {@code i} starts at absolute index {@code offset + i * stride} and consists of exactly 16 ASCII digits.
+     * Bit {@code i % 64} of {@code bitmask[i / 64]} is set if record {@code i} is a valid card number and cleared
+     * otherwise. The position, limit and mark of the buffer are not modified.
+     *
+     * @param buffer  the buffer containing the records, either heap or direct
+     * @param offset  the absolute index of the first record
+     * @param stride  the distance in bytes between the starts of two consecutive records, at least 16
+     * @param count   the number of records to validate
+     * @param bitmask the array receiving the validation result of each record, of at least {@code (count + 63) / 64}
+     *                elements
+     * @return the number of valid records
+     * @throws IllegalArgumentException  if the buffer or bitmask is {@code null}, the stride is shorter than a card
+     *                                   number, the count is negative or the bitmask is too short
+     * @throws IndexOutOfBoundsException if the records exceed the limit of the buffer
+     */
+    public int isValidAll(ByteBuffer buffer, int offset, int stride, int count, long[] bitmask) {
+        BulkUtils.checkRecords(buffer, offset, stride, count, CARD_NUMBER_LENGTH);
+        BulkUtils.checkBitmask(bitmask, count);
+        int validCount = 0;
+        for (int i = 0; i < count; i++) {
+            boolean valid = isValidRecord(buffer, offset + i * stride);
+            BulkUtils.setBit(bitmask, i, valid);
+            if (valid) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Checks whether the 16 ASCII digits starting at the given absolute index of the buffer form a valid card number.
+     *
+     * @param buffer the buffer containing the record
+     * @param index  the absolute index of the record
+     * @return {@code true} if the record is a valid card number, otherwise {@code false}
+     */
+    private static boolean isValidRecord(ByteBuffer buffer, int index) {
+        long cardNumber = 0;
+        for (int i = 0; i < CARD_NUMBER_LENGTH; i++) {
+            int digit = buffer.get(index + i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            cardNumber = cardNumber * 10 + digit;
+        }
+        return cardNumber % 1111111111111111L != 0 && hasValidLuhnChecksum(cardNumber);
+    }
+
+    /**
+     * Checks the Luhn checksum of a 16-digit card number given as its numeric value.
+     *
+     * @param cardNumber the numeric value of the card number
+     * @return {@code true} if the checksum is valid, otherwise {@code false}
+     */
+    private static boolean hasValidLuhnChecksum(long cardNumber) {
+        return cardNumber % 10 == computeLuhnCheckDigit(cardNumber / 10);
+    }
+
+    /**
+     * Computes the Luhn check digit for the first 15 digits of a card number given as their numeric value.
+     * <p>
+     * Starting from the rightmost of the 15 digits, every second digit is doubled (subtracting 9 when the result
+     * exceeds 9) and the check digit is the amount needed to bring the sum of all digits to a multiple of 10.
+     *
+     * @param firstFifteenDigits the numeric value of the first 15 digits
+     * @return the Luhn check digit
+     */
+    static int computeLuhnCheckDigit(long firstFifteenDigits) {
+        int sum = 0;
+        for (int i = 0; i < CARD_NUMBER_LENGTH - 1; i++) {
+            int digit = (int) (firstFifteenDigits % 10);
+            firstFifteenDigits /= 10;
+            if ((i & 1) == 0) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
 }
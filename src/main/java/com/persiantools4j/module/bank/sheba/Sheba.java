@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.bank.sheba;
+
+import com.persiantools4j.Generated;
+import com.persiantools4j.collection.bank.Bank;
+
+import java.util.Objects;
+
+/**
+ * Represents a Sheba (Iranian IBAN) in a result of parsing action with various components such as
+ * check digits, bank code, account number and the associated {@link Bank}.
+ */
+@Generated
+public final class Sheba {
+
+    private final String id;
+    private final int checkDigits;
+    private final String bankCode;
+    private final String accountNumber;
+    private final Bank bank;
+
+    /**
+     * Constructs a new {@code Sheba} instance with the specified details.
+     *
+     * @param id            the normalized Sheba string
+     * @param checkDigits   the two check digits following the country code
+     * @param bankCode      the code of the bank extracted from the Sheba
+     * @param accountNumber the account number segment following the bank code
+     * @param bank          the {@link Bank} associated with the bank code
+     */
+    Sheba(String id, int checkDigits, String bankCode, String accountNumber, Bank bank) {
+        this.id = id;
+        this.checkDigits = checkDigits;
+        this.bankCode = bankCode;
+        this.accountNumber = accountNumber;
+        this.bank = bank;
+    }
+
+    /**
+     * Retrieves the normalized Sheba string.
+     *
+     * @return the Sheba string
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the two check digits of the Sheba.
+     *
+     * @return the check digits
+     */
+    public int getCheckDigits() {
+        return checkDigits;
+    }
+
+    /**
+     * Gets the bank code of the Sheba.
+     *
+     * @return the bank code
+     */
+    public String getBankCode() {
+        return bankCode;
+    }
+
+    /**
+     * Gets the account number segment within the Sheba.
+     *
+     * @return the account number
+     */
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    /**
+     * Retrieves the bank associated with this Sheba.
+     *
+     * @return the {@link Bank} instance
+     */
+    public Bank getBank() {
+        return bank;
+    }
+
+    /**
+     * Compares this {@code Sheba} instance with the specified object for equality.
+     * <p>
+     * Two {@code Sheba} objects are considered equal if they have the same Sheba string.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if the specified object is equal to this {@code Sheba}, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Sheba)) {
+            return false;
+        }
+        Sheba that = (Sheba) o;
+        return Objects.equals(id, that.id);
+    }
+
+    /**
+     * Returns a hash code value for this {@code Sheba} instance.
+     * <p>
+     * The hash code is generated based on the Sheba string.
+     *
+     * @return a hash code value for this {@code Sheba} instance
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    /**
+     * Returns a string representation of this {@code Sheba} instance.
+     * <p>
+     * The string representation includes the Sheba, check digits, bank code, account number and {@code Bank}.
+     *
+     * @return a string representation of the {@code Sheba} object
+     */
+    @Override
+    public String toString() {
+        return "Sheba{" + "id='" + id + '\'' + ", checkDigits=" + checkDigits + ", bankCode='" + bankCode + '\'' +
+                ", accountNumber='" + accountNumber + '\'' + ", bank=" + bank + '}';
+    }
+
+}
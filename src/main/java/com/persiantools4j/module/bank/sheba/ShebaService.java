@@ -0,0 +1,220 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.bank.sheba;
+
+import com.persiantools4j.Parsable;
+import com.persiantools4j.Validatable;
+import com.persiantools4j.collection.bank.Bank;
+import com.persiantools4j.collection.bank.BankCollection;
+import com.persiantools4j.exception.ParseException;
+import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.BulkUtils;
+import com.persiantools4j.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * The {@code ShebaService} class implements the {@link Validatable} and {@link Parsable} interfaces, providing
+ * functionality for validating Sheba numbers (Iranian IBAN), normalize them and parsing them to extract the
+ * associated {@link Bank} and other relevant information.
+ * <p>
+ * A Sheba consists of the {@code IR} country code, two check digits and 22 digits starting with the 3-digit bank
+ * code. Inputs may contain whitespace, Persian or Arabic digits and may omit the {@code IR} country code.
+ *
+ * @see Validatable
+ * @see Parsable
+ */
+public final class ShebaService implements Validatable<String>, Parsable<String, Sheba> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShebaService.class);
+    private static final int SHEBA_LENGTH = 26;
+    private static final int BANK_CODE_END = 7;
+    private static final int INVALID_FORMAT = -1;
+    private static final int INVALID_CHECKSUM = -2;
+
+    /**
+     * Scans the given Sheba in a single pass, checking its format and its ISO 7064 mod-97 checksum.
+     * <p>
+     * The checksum is computed incrementally over the digits as if the country code and check digits were moved to
+     * the end, with {@code I} and {@code R} replaced by 18 and 27, so no big number is ever materialized.
+     *
+     * @param sheba the Sheba to scan
+     * @return the numeric bank code if the Sheba is valid, {@link #INVALID_FORMAT} if its format is invalid or
+     * {@link #INVALID_CHECKSUM} if its checksum is invalid
+     */
+    private static int scan(CharSequence sheba) {
+        int position = 0;
+        int checkDigits = 0;
+        int remainder = 0;
+        int bankCode = 0;
+        for (int i = 0; i < sheba.length(); i++) {
+            char ch = sheba.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                continue;
+            }
+            if (position < 2 && (ch == "IR".charAt(position) || ch == "ir".charAt(position))) {
+                position++;
+                continue;
+            }
+            int digit = StringUtils.getDigitValue(ch);
+            if (digit < 0 || position == 1 || position == SHEBA_LENGTH) {
+                return INVALID_FORMAT;
+            }
+            if (position == 0) {
+                position = 2;
+            }
+            if (position < 4) {
+                checkDigits = checkDigits * 10 + digit;
+            } else {
+                remainder = (remainder * 10 + digit) % 97;
+                if (position < BANK_CODE_END) {
+                    bankCode = bankCode * 10 + digit;
+                }
+            }
+            position++;
+        }
+        if (position != SHEBA_LENGTH) {
+            return INVALID_FORMAT;
+        }
+        remainder = (remainder * 100 + 18) % 97;
+        remainder = (remainder * 100 + 27) % 97;
+        remainder = (remainder * 100 + checkDigits) % 97;
+        return remainder == 1 ? bankCode : INVALID_CHECKSUM;
+    }
+
+    @Override
+    public String normalize(String sheba) throws ValidationException {
+        if (StringUtils.isBlank(sheba)) {
+            throw new ValidationException("Sheba is null or empty");
+        }
+        if (scan(sheba) == INVALID_FORMAT) {
+            throw new ValidationException("Invalid Sheba format: " + sheba);
+        }
+        char[] normalized = new char[SHEBA_LENGTH];
+        normalized[0] = 'I';
+        normalized[1] = 'R';
+        int position = 2;
+        for (int i = 0; i < sheba.length(); i++) {
+            int digit = StringUtils.getDigitValue(sheba.charAt(i));
+            if (digit >= 0) {
+                normalized[position++] = (char) ('0' + digit);
+            }
+        }
+        return new String(normalized);
+    }
+
+    @Override
+    public boolean isValid(String sheba) {
+        try {
+            validate(sheba);
+        } catch (ValidationException e) {
+            LOGGER.warn(e.getMessage(), e);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void validate(String sheba) throws ValidationException {
+        if (StringUtils.isBlank(sheba)) {
+            throw new ValidationException("Sheba is null or empty");
+        }
+        int result = scan(sheba);
+        if (result == INVALID_FORMAT) {
+            throw new ValidationException("Invalid Sheba format: " + sheba);
+        }
+        if (result == INVALID_CHECKSUM) {
+            throw new ValidationException("Invalid Sheba: " + sheba);
+        }
+    }
+
+    @Override
+    public Sheba parse(String sheba) {
+        validate(sheba);
+        String finalSheba = normalize(sheba);
+        String bankCode = finalSheba.substring(4, BANK_CODE_END);
+        Bank bank = BanksByCodeHolder.BANKS_BY_CODE[Integer.parseInt(bankCode)];
+        if (bank == null) {
+            throw new ParseException("Unable to find bank associated to the Sheba: " + finalSheba);
+        }
+        int checkDigits = Integer.parseInt(finalSheba.substring(2, 4));
+        return new Sheba(finalSheba, checkDigits, bankCode, finalSheba.substring(BANK_CODE_END), bank);
+    }
+
+    /**
+     * Finds the {@link Bank} associated with the given Sheba.
+     * <p>
+     * The bank is resolved in constant time from the bank code embedded in the Sheba.
+     *
+     * @param sheba the Sheba for which to find the {@link Bank}
+     * @return an {@link Optional} containing the {@link Bank} if found; otherwise, an empty {@link Optional}
+     * @throws ValidationException if the Sheba is not valid
+     */
+    public Optional<Bank> findBank(String sheba) {
+        validate(sheba);
+        return Optional.ofNullable(BanksByCodeHolder.BANKS_BY_CODE[scan(sheba)]);
+    }
+
+    /**
+     * Validates the given Sheba numbers in bulk, without throwing or logging for invalid ones.
+     * <p>
+     * Bit {@code i % 64} of {@code bitmask[i / 64]} is set if {@code shebas[i]} is a valid Sheba and cleared
+     * otherwise. {@code null} elements are considered invalid.
+     *
+     * @param shebas  the Sheba numbers to validate
+     * @param bitmask the array receiving the validation result of each Sheba, of at least
+     *                {@code (shebas.length + 63) / 64} elements
+     * @return the number of valid Sheba numbers
+     * @throws IllegalArgumentException if the Sheba numbers are {@code null} or the bitmask is too short
+     */
+    public int isValidAll(CharSequence[] shebas, long[] bitmask) {
+        if (shebas == null) {
+            throw new IllegalArgumentException("Sheba numbers are null");
+        }
+        BulkUtils.checkBitmask(bitmask, shebas.length);
+        int validCount = 0;
+        for (int i = 0; i < shebas.length; i++) {
+            boolean valid = shebas[i] != null && scan(shebas[i]) >= 0;
+            BulkUtils.setBit(bitmask, i, valid);
+            if (valid) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Private static helper class holding the banks indexed by their numeric bank code, built lazily from the
+     * {@link BankCollection} the first time a bank is resolved.
+     */
+    private static class BanksByCodeHolder {
+        private static final Bank[] BANKS_BY_CODE = createBanksByCode();
+
+        private static Bank[] createBanksByCode() {
+            Bank[] banksByCode = new Bank[1000];
+            for (Bank bank : BankCollection.getInstance().findAllBy(bank -> true)) {
+                for (String code : bank.getCodes()) {
+                    banksByCode[Integer.parseInt(code)] = bank;
+                }
+            }
+            return banksByCode;
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.bill;
+
+import com.persiantools4j.Generated;
+
+/**
+ * Represents a utility bill (Ghabz) in a result of parsing action with its bill ID and payment ID, and the amount,
+ * service type and company code encoded in them.
+ */
+@Generated
+public final class Bill {
+
+    private final long billId;
+    private final long paymentId;
+    private final long amount;
+    private final int serviceType;
+    private final int companyCode;
+
+    /**
+     * Constructs a new {@code Bill} instance with the specified details.
+     *
+     * @param billId      the numeric value of the bill ID
+     * @param paymentId   the numeric value of the payment ID
+     * @param amount      the amount of the bill in Rials
+     * @param serviceType the service type digit of the bill ID
+     * @param companyCode the company code of the bill ID
+     */
+    Bill(long billId, long paymentId, long amount, int serviceType, int companyCode) {
+        this.billId = billId;
+        this.paymentId = paymentId;
+        this.amount = amount;
+        this.serviceType = serviceType;
+        this.companyCode = companyCode;
+    }
+
+    /**
+     * Retrieves the numeric value of the bill ID (Shenase Ghabz).
+     *
+     * @return the bill ID
+     */
+    public long getBillId() {
+        return billId;
+    }
+
+    /**
+     * Retrieves the numeric value of the payment ID (Shenase Pardakht).
+     *
+     * @return the payment ID
+     */
+    public long getPaymentId() {
+        return paymentId;
+    }
+
+    /**
+     * Retrieves the amount of the bill in Rials.
+     *
+     * @return the amount
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    /**
+     * Retrieves the service type of the bill, e.g. {@code 1} for water, {@code 2} for electricity, {@code 3} for gas,
+     * {@code 4} for landline, {@code 5} for mobile, {@code 6} for municipality, {@code 8} for tax and {@code 9} for
+     * traffic fines.
+     *
+     * @return the service type digit
+     */
+    public int getServiceType() {
+        return serviceType;
+    }
+
+    /**
+     * Retrieves the code of the company issuing the bill.
+     *
+     * @return the company code
+     */
+    public int getCompanyCode() {
+        return companyCode;
+    }
+
+    /**
+     * Compares this {@code Bill} instance with the specified object for equality.
+     * <p>
+     * Two {@code Bill} objects are considered equal if they have the same bill ID and payment ID.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if the specified object is equal to this {@code Bill}, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Bill)) {
+            return false;
+        }
+        Bill that = (Bill) o;
+        return billId == that.billId && paymentId == that.paymentId;
+    }
+
+    /**
+     * Returns a hash code value for this {@code Bill} instance.
+     * <p>
+     * The hash code is generated based on the bill ID and payment ID.
+     *
+     * @return a hash code value for this {@code Bill} instance
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(billId) + Long.hashCode(paymentId);
+    }
+
+    /**
+     * Returns a string representation of this {@code Bill} instance.
+     * <p>
+     * The string representation includes the bill ID, payment ID, amount, service type and company code.
+     *
+     * @return a string representation of the {@code Bill} object
+     */
+    @Override
+    public String toString() {
+        return "Bill{" + "billId=" + billId + ", paymentId=" + paymentId + ", amount=" + amount +
+                ", serviceType=" + serviceType + ", companyCode=" + companyCode + '}';
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.bill;
+
+import com.persiantools4j.Parsable;
+import com.persiantools4j.Validatable;
+import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.BulkUtils;
+import com.persiantools4j.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@code BillService} class provides functionality for validating utility bills by their bill ID (Shenase Ghabz)
+ * and payment ID (Shenase Pardakht), and parsing them to extract the amount and service type.
+ * <p>
+ * Both IDs have 6 to 13 digits and are protected by mod-11 check digits, with weights from 2 to 7 repeating from
+ * the right: the last digit of the bill ID checks the bill ID, the second-to-last digit of the payment ID checks the
+ * payment ID and its last digit checks the bill ID followed by the payment ID. As a bill is only valid as a pair of
+ * IDs, this class exposes two-argument counterparts of the {@link Validatable} and {@link Parsable} methods instead
+ * of implementing them. Inputs may contain Persian or Arabic digits and surrounding whitespace.
+ */
+public final class BillService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BillService.class);
+    private static final int MAX_ID_LENGTH = 13;
+    private static final long MIN_ID_VALUE = 100_000L;
+    private static final long ID_BOUND = 10_000_000_000_000L;
+    private static final int INVALID_FORMAT = -1;
+
+    /**
+     * Scans the given bill ID or payment ID in a single pass, ignoring surrounding whitespace and converting Persian
+     * and Arabic digits. Leading zeros, as found in zero-padded barcodes, are allowed.
+     *
+     * @param id the bill ID or payment ID to scan
+     * @return the numeric value of the ID, or {@link #INVALID_FORMAT} if its format is invalid
+     */
+    private static long scan(CharSequence id) {
+        int start = 0;
+        int end = id.length();
+        while (start < end && Character.isWhitespace(id.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(id.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start > MAX_ID_LENGTH) {
+            return INVALID_FORMAT;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = StringUtils.getDigitValue(id.charAt(i));
+            if (digit < 0) {
+                return INVALID_FORMAT;
+            }
+            value = value * 10 + digit;
+        }
+        return value < MIN_ID_VALUE ? INVALID_FORMAT : value;
+    }
+
+    /**
+     * Computes the weighted sum of the digits of the given value, the digit at the given position from the right
+     * being weighted by 2 to 7 repeatedly.
+     *
+     * @param value    the non-negative value whose digits to sum
+     * @param position the position, from the right, of the last digit of the value
+     * @return the weighted sum of the digits
+     */
+    private static long weightedSum(long value, int position) {
+        long sum = 0;
+        for (; value > 0; value /= 10, position++) {
+            sum += value % 10 * (2 + position % 6);
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the check digit of the given weighted sum.
+     *
+     * @param weightedSum the weighted sum of the checked digits
+     * @return {@code 0} if the remainder of the sum divided by 11 is 0 or 1, otherwise 11 minus the remainder
+     */
+    private static int toCheckDigit(long weightedSum) {
+        int remainder = (int) (weightedSum % 11);
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    /**
+     * Counts the decimal digits of the given positive value.
+     *
+     * @param value the positive value
+     * @return the number of digits of the value
+     */
+    private static int digitCount(long value) {
+        int count = 0;
+        for (; value > 0; value /= 10) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Checks the numeric value of a bill ID against its check digit.
+     *
+     * @param billId the numeric value of the bill ID
+     * @return {@code true} if the bill ID is valid, otherwise {@code false}
+     */
+    public boolean isValidBillId(long billId) {
+        return billId >= MIN_ID_VALUE && billId < ID_BOUND && toCheckDigit(weightedSum(billId / 10, 0)) == billId % 10;
+    }
+
+    /**
+     * Checks the numeric values of a bill ID and payment ID against their three check digits.
+     *
+     * @param billId    the numeric value of the bill ID
+     * @param paymentId the numeric value of the payment ID
+     * @return {@code true} if the pair is valid, otherwise {@code false}
+     */
+    public boolean isValid(long billId, long paymentId) {
+        return isValidBillId(billId) && isValidPaymentId(billId, paymentId);
+    }
+
+    /**
+     * Validates the numeric values of bill ID and payment ID pairs in bulk, e.g. the records of a settlement file.
+     * <p>
+     * Bit {@code i % 64} of {@code bitmask[i / 64]} is set if {@code billIds[i]} and {@code paymentIds[i]} form a
+     * valid pair and cleared otherwise.
+     *
+     * @param billIds    the numeric values of the bill IDs to validate
+     * @param paymentIds the numeric values of the payment IDs to validate, as many as the bill IDs
+     * @param bitmask    the array receiving the validation result of each pair, of at least
+     *                   {@code (billIds.length + 63) / 64} elements
+     * @return the number of valid pairs
+     * @throws IllegalArgumentException if an array is {@code null}, the arrays of IDs differ in length or the bitmask
+     *                                  is too short
+     */
+    public int isValidAll(long[] billIds, long[] paymentIds, long[] bitmask) {
+        if (billIds == null || paymentIds == null || billIds.length != paymentIds.length) {
+            throw new IllegalArgumentException("Bill IDs or payment IDs are null or differ in length");
+        }
+        BulkUtils.checkBitmask(bitmask, billIds.length);
+        int validCount = 0;
+        for (int i = 0; i < billIds.length; i++) {
+            boolean valid = isValid(billIds[i], paymentIds[i]);
+            BulkUtils.setBit(bitmask, i, valid);
+            if (valid) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Checks if the specified bill ID and payment ID form a valid pair.
+     *
+     * @param billId    the bill ID to validate
+     * @param paymentId the payment ID to validate
+     * @return {@code true} if the pair is valid, {@code false} otherwise
+     */
+    public boolean isValid(String billId, String paymentId) {
+        try {
+            validate(billId, paymentId);
+        } catch (ValidationException e) {
+            LOGGER.warn(e.getMessage(), e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Validates the specified bill ID and payment ID as a pair.
+     *
+     * @param billId    the bill ID to validate
+     * @param paymentId the payment ID to validate
+     * @throws ValidationException if either ID is {@code null}, empty, in an invalid format or fails its check digits
+     */
+    public void validate(String billId, String paymentId) throws ValidationException {
+        checkPair(billId, paymentId, scanOrThrow(billId, "Bill ID"), scanOrThrow(paymentId, "Payment ID"));
+    }
+
+    /**
+     * Parses the specified bill ID and payment ID into a {@link Bill}.
+     * <p>
+     * The amount, in Rials, is the payment ID without its last five digits, multiplied by 1000. The service type is
+     * the second-to-last digit of the bill ID and the company code the three digits before it.
+     *
+     * @param billId    the bill ID to parse
+     * @param paymentId the payment ID to parse
+     * @return the parsed {@link Bill}
+     * @throws ValidationException if the pair is invalid
+     */
+    public Bill parse(String billId, String paymentId) {
+        long billIdValue = scanOrThrow(billId, "Bill ID");
+        long paymentIdValue = scanOrThrow(paymentId, "Payment ID");
+        checkPair(billId, paymentId, billIdValue, paymentIdValue);
+        return new Bill(billIdValue, paymentIdValue, paymentIdValue / 100_000 * 1000,
+                (int) (billIdValue / 10 % 10), (int) (billIdValue / 100 % 1000));
+    }
+
+    /**
+     * Checks the numeric value of a payment ID against its two check digits.
+     *
+     * @param billId    the numeric value of the bill ID the payment ID belongs to
+     * @param paymentId the numeric value of the payment ID
+     * @return {@code true} if the payment ID is valid for the bill ID, otherwise {@code false}
+     */
+    private boolean isValidPaymentId(long billId, long paymentId) {
+        if (paymentId < MIN_ID_VALUE || paymentId >= ID_BOUND) {
+            return false;
+        }
+        long checkedPaymentId = paymentId / 10;
+        if (toCheckDigit(weightedSum(checkedPaymentId / 10, 0)) != checkedPaymentId % 10) {
+            return false;
+        }
+        long weightedSum = weightedSum(checkedPaymentId, 0) + weightedSum(billId, digitCount(checkedPaymentId));
+        return toCheckDigit(weightedSum) == paymentId % 10;
+    }
+
+    /**
+     * Checks the scanned values of a bill ID and payment ID, throwing a {@link ValidationException} if they fail
+     * their check digits.
+     *
+     * @param billId         the bill ID, for the exception messages
+     * @param paymentId      the payment ID, for the exception messages
+     * @param billIdValue    the numeric value of the bill ID
+     * @param paymentIdValue the numeric value of the payment ID
+     * @throws ValidationException if the bill ID or payment ID fails its check digits
+     */
+    private void checkPair(String billId, String paymentId, long billIdValue, long paymentIdValue)
+            throws ValidationException {
+        if (!isValidBillId(billIdValue)) {
+            throw new ValidationException("Invalid bill ID: " + billId);
+        }
+        if (!isValidPaymentId(billIdValue, paymentIdValue)) {
+            throw new ValidationException("Invalid payment ID: " + paymentId);
+        }
+    }
+
+    /**
+     * Scans the given bill ID or payment ID, throwing a {@link ValidationException} if its format is invalid.
+     *
+     * @param id   the bill ID or payment ID to scan
+     * @param name the name of the ID for the exception messages
+     * @return the numeric value of the ID
+     * @throws ValidationException if the ID is {@code null}, empty or in an invalid format
+     */
+    private long scanOrThrow(String id, String name) throws ValidationException {
+        if (StringUtils.isBlank(id)) {
+            throw new ValidationException(name + " is null or empty");
+        }
+        long value = scan(id);
+        if (value == INVALID_FORMAT) {
+            throw new ValidationException("Invalid " + Character.toLowerCase(name.charAt(0)) + name.substring(1) +
+                    " format: " + id);
+        }
+        return value;
+    }
+
+}
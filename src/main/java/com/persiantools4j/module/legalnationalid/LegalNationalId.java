@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.legalnationalid;
+
+import com.persiantools4j.Generated;
+
+import java.util.Objects;
+
+/**
+ * Represents a legal entity national ID (Shenase Melli) in a result of parsing action with its numeric value and
+ * control digit.
+ */
+@Generated
+public final class LegalNationalId {
+
+    private final String id;
+    private final long value;
+    private final int controlDigit;
+
+    /**
+     * Constructs a new {@code LegalNationalId} instance with the specified details.
+     *
+     * @param id           the legal national ID string
+     * @param value        the numeric value of the legal national ID
+     * @param controlDigit the control digit used for validation
+     */
+    LegalNationalId(String id, long value, int controlDigit) {
+        this.id = id;
+        this.value = value;
+        this.controlDigit = controlDigit;
+    }
+
+    /**
+     * Retrieves the legal national ID string.
+     *
+     * @return the legal national ID string
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the numeric value of the legal national ID.
+     *
+     * @return the numeric value
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieves the control digit used in the legal national ID.
+     *
+     * @return the control digit
+     */
+    public int getControlDigit() {
+        return controlDigit;
+    }
+
+    /**
+     * Compares this {@code LegalNationalId} instance with the specified object for equality.
+     * <p>
+     * Two {@code LegalNationalId} objects are considered equal if they have the same legal national ID string.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if the specified object is equal to this {@code LegalNationalId}, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LegalNationalId)) {
+            return false;
+        }
+        LegalNationalId that = (LegalNationalId) o;
+        return Objects.equals(id, that.id);
+    }
+
+    /**
+     * Returns a hash code value for this {@code LegalNationalId} instance.
+     * <p>
+     * The hash code is generated based on the legal national ID string.
+     *
+     * @return a hash code value for this {@code LegalNationalId} instance
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    /**
+     * Returns a string representation of this {@code LegalNationalId} instance.
+     * <p>
+     * The string representation includes the legal national ID, numeric value and control digit.
+     *
+     * @return a string representation of the {@code LegalNationalId} object
+     */
+    @Override
+    public String toString() {
+        return "LegalNationalId{" + "id='" + id + '\'' + ", value=" + value + ", controlDigit=" + controlDigit + '}';
+    }
+
+}
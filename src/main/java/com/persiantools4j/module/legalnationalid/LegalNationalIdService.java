@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.legalnationalid;
+
+import com.persiantools4j.Parsable;
+import com.persiantools4j.Validatable;
+import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.BulkUtils;
+import com.persiantools4j.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@code LegalNationalIdService} class implements the {@link Validatable} and {@link Parsable} interfaces,
+ * providing functionality for validating 11-digit legal entity national IDs (Shenase Melli), normalize them and
+ * parsing them.
+ * <p>
+ * Inputs may contain Persian or Arabic digits and surrounding whitespace. For bulk processing, legal national IDs can
+ * also be validated from their numeric values with {@link #isValid(long)} and {@link #isValidAll(long[], long[])}.
+ *
+ * @see Validatable
+ * @see Parsable
+ */
+public final class LegalNationalIdService implements Validatable<String>, Parsable<String, LegalNationalId> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LegalNationalIdService.class);
+    private static final int LEGAL_NATIONAL_ID_LENGTH = 11;
+    private static final long LEGAL_NATIONAL_ID_BOUND = 100_000_000_000L;
+    private static final int[] WEIGHTS = {17, 19, 23, 27, 29, 17, 19, 23, 27, 29};
+    private static final int INVALID_FORMAT = -1;
+
+    /**
+     * Scans the given legal national ID in a single pass, ignoring surrounding whitespace and converting Persian and
+     * Arabic digits.
+     *
+     * @param legalNationalId the legal national ID to scan
+     * @return the numeric value of the legal national ID, or {@link #INVALID_FORMAT} if its format is invalid
+     */
+    private static long scan(CharSequence legalNationalId) {
+        int start = 0;
+        int end = legalNationalId.length();
+        while (start < end && Character.isWhitespace(legalNationalId.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(legalNationalId.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start != LEGAL_NATIONAL_ID_LENGTH) {
+            return INVALID_FORMAT;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = StringUtils.getDigitValue(legalNationalId.charAt(i));
+            if (digit < 0) {
+                return INVALID_FORMAT;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Checks the numeric value of a legal national ID.
+     * <p>
+     * Each of the first ten digits is increased by the tenth digit plus 2 and weighted, from left to right, by 29,
+     * 27, 23, 19 and 17 twice. The remainder of the sum divided by 11, with 10 mapped to 0, must equal the control
+     * digit. The six digits from the fourth to the ninth must not all be zero.
+     *
+     * @param legalNationalId the numeric value of the legal national ID
+     * @return {@code true} if the legal national ID is valid, otherwise {@code false}
+     */
+    public boolean isValid(long legalNationalId) {
+        if (legalNationalId < 0 || legalNationalId >= LEGAL_NATIONAL_ID_BOUND ||
+                legalNationalId / 100 % 1_000_000 == 0) {
+            return false;
+        }
+        int controlDigit = (int) (legalNationalId % 10);
+        long remaining = legalNationalId / 10;
+        int decimal = (int) (remaining % 10) + 2;
+        int sum = 0;
+        for (int weight : WEIGHTS) {
+            sum += ((int) (remaining % 10) + decimal) * weight;
+            remaining /= 10;
+        }
+        int remainder = sum % LEGAL_NATIONAL_ID_LENGTH;
+        return (remainder == 10 ? 0 : remainder) == controlDigit;
+    }
+
+    /**
+     * Validates the numeric values of legal national IDs in bulk.
+     * <p>
+     * Bit {@code i % 64} of {@code bitmask[i / 64]} is set if {@code legalNationalIds[i]} is valid and cleared
+     * otherwise.
+     *
+     * @param legalNationalIds the numeric values of the legal national IDs to validate
+     * @param bitmask          the array receiving the validation result of each legal national ID, of at least
+     *                         {@code (legalNationalIds.length + 63) / 64} elements
+     * @return the number of valid legal national IDs
+     * @throws IllegalArgumentException if the legal national IDs are {@code null} or the bitmask is too short
+     */
+    public int isValidAll(long[] legalNationalIds, long[] bitmask) {
+        if (legalNationalIds == null) {
+            throw new IllegalArgumentException("Legal national IDs are null");
+        }
+        BulkUtils.checkBitmask(bitmask, legalNationalIds.length);
+        int validCount = 0;
+        for (int i = 0; i < legalNationalIds.length; i++) {
+            boolean valid = isValid(legalNationalIds[i]);
+            BulkUtils.setBit(bitmask, i, valid);
+            if (valid) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    @Override
+    public String normalize(String legalNationalId) throws ValidationException {
+        if (StringUtils.isBlank(legalNationalId)) {
+            throw new ValidationException("Legal national ID is null or empty");
+        }
+        long value = scan(legalNationalId);
+        if (value == INVALID_FORMAT) {
+            throw new ValidationException("Invalid legal national ID format: " + legalNationalId);
+        }
+        char[] digits = new char[LEGAL_NATIONAL_ID_LENGTH];
+        for (int i = LEGAL_NATIONAL_ID_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(digits);
+    }
+
+    @Override
+    public boolean isValid(String legalNationalId) {
+        try {
+            validate(legalNationalId);
+        } catch (ValidationException e) {
+            LOGGER.warn(e.getMessage(), e);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void validate(String legalNationalId) throws ValidationException {
+        String finalLegalNationalId = normalize(legalNationalId);
+        if (!isValid(Long.parseLong(finalLegalNationalId))) {
+            throw new ValidationException("Invalid legal national ID: " + finalLegalNationalId);
+        }
+    }
+
+    @Override
+    public LegalNationalId parse(String legalNationalId) {
+        String finalLegalNationalId = normalize(legalNationalId);
+        validate(finalLegalNationalId);
+        long value = Long.parseLong(finalLegalNationalId);
+        return new LegalNationalId(finalLegalNationalId, value, (int) (value % 10));
+    }
+
+}
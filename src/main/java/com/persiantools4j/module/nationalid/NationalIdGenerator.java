@@ -0,0 +1,244 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.nationalid;
+
+import com.persiantools4j.collection.hometown.Hometown;
+import com.persiantools4j.collection.hometown.HometownCollection;
+import com.persiantools4j.util.GeneratorSpliterator;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.LongStream;
+
+/**
+ * The {@code NationalIdGenerator} class generates synthetic, valid national IDs whose hometown codes follow a
+ * weighted distribution over the {@link HometownCollection}.
+ * <p>
+ * Each generated national ID consists of a hometown code picked according to the weight of its {@link Hometown},
+ * a uniformly random personal code and the control digit computed with the same rules as
+ * {@link NationalIdService#validate(String)}. Generators built with the same seed and weights produce the same
+ * sequence of national IDs.
+ * <p>
+ * Like {@link SplittableRandom}, an instance is not thread-safe. To generate in parallel, give each thread its own
+ * generator obtained through {@link #split()}, or use a parallel {@link #longs(long)} stream.
+ */
+public final class NationalIdGenerator {
+
+    private static final int PERSONAL_CODE_BOUND = 1_000_000;
+    private static final int NATIONAL_ID_LENGTH = 10;
+    private static final NationalIdService NATIONAL_ID_SERVICE = new NationalIdService();
+
+    /**
+     * The cumulative weights of the selected hometowns, normalized so that the last element is {@code 1.0}.
+     */
+    private final double[] cumulativeWeights;
+
+    /**
+     * The hometown codes of each selected hometown, in the same order as {@link #cumulativeWeights}.
+     */
+    private final int[][] hometownCodes;
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a {@code NationalIdGenerator} in which every hometown of the {@link HometownCollection} is equally
+     * likely.
+     *
+     * @param seed the seed of the random number generator
+     */
+    public NationalIdGenerator(long seed) {
+        this(seed, hometown -> 1);
+    }
+
+    /**
+     * Constructs a {@code NationalIdGenerator} in which each hometown of the {@link HometownCollection} is picked
+     * proportionally to the given weight. Hometowns with a weight of zero are never picked.
+     *
+     * @param seed   the seed of the random number generator
+     * @param weight a function returning the non-negative weight of a hometown
+     * @throws IllegalArgumentException if the weight function is {@code null}, returns a negative or non-finite
+     *                                  weight, or the weights of all hometowns are zero
+     */
+    public NationalIdGenerator(long seed, ToDoubleFunction<Hometown> weight) {
+        if (weight == null) {
+            throw new IllegalArgumentException("Weight function is null");
+        }
+        List<Hometown> hometowns = HometownCollection.getInstance().findAllBy(hometown -> true);
+        double[] weights = new double[hometowns.size()];
+        int[][] codes = new int[hometowns.size()][];
+        int size = 0;
+        double total = 0;
+        for (Hometown hometown : hometowns) {
+            double hometownWeight = weight.applyAsDouble(hometown);
+            if (hometownWeight < 0 || Double.isNaN(hometownWeight) || Double.isInfinite(hometownWeight)) {
+                throw new IllegalArgumentException("Invalid weight for hometown " + hometown.getCity() + ": " +
+                        hometownWeight);
+            }
+            if (hometownWeight > 0) {
+                total += hometownWeight;
+                weights[size] = total;
+                codes[size] = hometown.getCodes().stream().mapToInt(Integer::parseInt).toArray();
+                size++;
+            }
+        }
+        if (size == 0) {
+            throw new IllegalArgumentException("No hometown has a positive weight");
+        }
+        for (int i = 0; i < size; i++) {
+            weights[i] /= total;
+        }
+        weights[size - 1] = 1.0;
+        this.cumulativeWeights = Arrays.copyOf(weights, size);
+        this.hometownCodes = Arrays.copyOf(codes, size);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Constructs a {@code NationalIdGenerator} sharing the precomputed distribution of another generator.
+     *
+     * @param generator the generator whose distribution is shared
+     * @param random    the random number generator of the new instance
+     */
+    private NationalIdGenerator(NationalIdGenerator generator, SplittableRandom random) {
+        this.cumulativeWeights = generator.cumulativeWeights;
+        this.hometownCodes = generator.hometownCodes;
+        this.random = random;
+    }
+
+    /**
+     * Returns a hometown weight function that spreads the weight of each province evenly over its hometowns.
+     * <p>
+     * This is useful to weight national IDs by province, e.g. proportionally to the population of each province,
+     * regardless of how many hometowns a province has.
+     *
+     * @param provinceWeight a function returning the non-negative weight of a province name
+     * @return a hometown weight function to be passed to {@link #NationalIdGenerator(long, ToDoubleFunction)}
+     */
+    public static ToDoubleFunction<Hometown> byProvince(ToDoubleFunction<String> provinceWeight) {
+        Map<String, Integer> hometownCounts = new HashMap<>();
+        for (Hometown hometown : HometownCollection.getInstance().findAllBy(hometown -> true)) {
+            hometownCounts.merge(hometown.getProvince(), 1, Integer::sum);
+        }
+        return hometown -> provinceWeight.applyAsDouble(hometown.getProvince()) /
+                hometownCounts.get(hometown.getProvince());
+    }
+
+    /**
+     * Returns a new generator with the same distribution and an independent random number generator split from this
+     * one. The sequence of the new generator is determined by the seed and the sequence of calls on this generator.
+     *
+     * @return a new {@code NationalIdGenerator} to be used by another thread
+     */
+    public NationalIdGenerator split() {
+        return new NationalIdGenerator(this, random.split());
+    }
+
+    /**
+     * Generates the numeric value of a valid national ID. Leading zeros of the national ID are implied, so the
+     * value is always formatted with 10 digits.
+     *
+     * @return the numeric value of a valid national ID
+     */
+    public long nextLong() {
+        long nationalId;
+        do {
+            int[] codes = hometownCodes[nextHometownIndex()];
+            int hometownCode = codes.length == 1 ? codes[0] : codes[random.nextInt(codes.length)];
+            long firstNineDigits = (long) hometownCode * PERSONAL_CODE_BOUND + random.nextInt(PERSONAL_CODE_BOUND);
+            nationalId = firstNineDigits * 10 + NationalIdService.computeControlDigit(firstNineDigits);
+        } while (!NATIONAL_ID_SERVICE.isValid(nationalId));
+        return nationalId;
+    }
+
+    /**
+     * Generates a valid national ID as a 10-digit string.
+     *
+     * @return a valid national ID
+     */
+    public String next() {
+        char[] digits = new char[NATIONAL_ID_LENGTH];
+        long nationalId = nextLong();
+        for (int i = NATIONAL_ID_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + nationalId % 10);
+            nationalId /= 10;
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Generates a valid national ID and writes its 10 ASCII digits into the given array.
+     *
+     * @param sink   the array receiving the digits
+     * @param offset the index of the first digit in the array
+     * @return the index following the last written digit
+     * @throws IndexOutOfBoundsException if the array cannot hold 10 digits from the offset
+     */
+    public int next(byte[] sink, int offset) {
+        if (offset < 0 || offset > sink.length - NATIONAL_ID_LENGTH) {
+            throw new IndexOutOfBoundsException("Cannot write a national ID at offset " + offset);
+        }
+        long nationalId = nextLong();
+        for (int i = offset + NATIONAL_ID_LENGTH - 1; i >= offset; i--) {
+            sink[i] = (byte) ('0' + nationalId % 10);
+            nationalId /= 10;
+        }
+        return offset + NATIONAL_ID_LENGTH;
+    }
+
+    /**
+     * Generates a valid national ID and appends its 10 digits to the given {@link Appendable}.
+     *
+     * @param sink the {@link Appendable} receiving the digits
+     * @throws IOException if the {@link Appendable} fails
+     */
+    public void next(Appendable sink) throws IOException {
+        long nationalId = nextLong();
+        for (long divisor = 1_000_000_000L; divisor > 0; divisor /= 10) {
+            sink.append((char) ('0' + nationalId / divisor % 10));
+        }
+    }
+
+    /**
+     * Returns a stream of the numeric values of valid national IDs, drawn from a generator split from this one.
+     * <p>
+     * The stream is sequential and may be made parallel: like {@link SplittableRandom#longs(long)}, it splits its
+     * generator whenever it is split across threads.
+     *
+     * @param size the number of national IDs to generate
+     * @return a {@link LongStream} of the numeric values of valid national IDs
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public LongStream longs(long size) {
+        return GeneratorSpliterator.longs(split(), size, NationalIdGenerator::nextLong, NationalIdGenerator::split);
+    }
+
+    /**
+     * Picks the index of a hometown according to the cumulative weights.
+     *
+     * @return the index of the picked hometown
+     */
+    private int nextHometownIndex() {
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+}
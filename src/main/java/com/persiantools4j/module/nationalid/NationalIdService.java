@@ -22,19 +22,23 @@ import com.persiantools4j.collection.hometown.Hometown;
 import com.persiantools4j.collection.hometown.HometownCollection;
 import com.persiantools4j.exception.ParseException;
 import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.BulkUtils;
 import com.persiantools4j.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 /**
  * The {@code NationalIdService} class implements the {@link Validatable} and {@link Parsable} interfaces, providing
  * functionality for validating national IDs, normalize it and parsing them to extract associated {@link Hometown}
  * and other relevant information.
+ * <p>
+ * For bulk processing, national IDs can also be validated from their numeric values with {@link #isValid(long)} and
+ * {@link #isValidAll(long[], long[])}.
  *
  * @see Validatable
  * @see Parsable
@@ -43,6 +47,8 @@ public final class NationalIdService implements Validatable<String>, Parsable<St
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NationalIdService.class);
     private static final Pattern NATIONAL_ID_PATTERN = Pattern.compile("\\d{8,10}");
+    private static final int NATIONAL_ID_LENGTH = 10;
+    private static final long NATIONAL_ID_BOUND = 10_000_000_000L;
     private static final List<String> BLACKLISTED_NATIONAL_IDS = Arrays.asList(
             "0123456789",
             "1234567890"
@@ -92,18 +98,7 @@ public final class NationalIdService implements Validatable<String>, Parsable<St
         if (BLACKLISTED_NATIONAL_IDS.contains(finalNationalId)) {
             throw new ValidationException(exceptionMessage);
         }
-        int length = finalNationalId.length();
-        int sum = IntStream.range(0, length - 1)
-                .boxed()
-                .reduce(0, (Integer partialResult, Integer index) -> {
-                    int digit = StringUtils.getNumericValue(finalNationalId, index);
-                    return partialResult + digit * (length - index);
-                }, Integer::sum);
-        int remainder = sum % (length + 1);
-        int controlDigit = StringUtils.getNumericValue(finalNationalId, length - 1);
-        boolean remainderLessThanTwo = (remainder < 2) && (controlDigit == remainder);
-        boolean remainderEqualAndMoreThanTwo = (remainder >= 2) && (remainder + controlDigit == (length + 1));
-        if (!remainderLessThanTwo && !remainderEqualAndMoreThanTwo) {
+        if (!hasValidControlDigit(Long.parseLong(finalNationalId))) {
             throw new ValidationException(exceptionMessage);
         }
     }
@@ -123,4 +118,129 @@ public final class NationalIdService implements Validatable<String>, Parsable<St
         return new NationalId(finalNationalId, hometownCode, personalCode, controlDigit, hometowns);
     }
 
+    /**
+     * Validates fixed-width national IDs stored as ASCII digits directly in the given {@link ByteBuffer}, without
+     * copying them into {@link String}s.
+     * <p>
+     * Record {@code i} starts at absolute index {@code offset + i * stride} and consists of exactly 10 ASCII digits.
+     * Bit {@code i % 64} of {@code bitmask[i / 64]} is set if record {@code i} is a valid national ID and cleared
+     * otherwise. The position, limit and mark of the buffer are not modified, so it can be shared between threads
+     * as long as no one writes to it.
+     *
+     * @param buffer  the buffer containing the records, either heap or direct
+     * @param offset  the absolute index of the first record
+     * @param stride  the distance in bytes between the starts of two consecutive records, at least 10
+     * @param count   the number of records to validate
+     * @param bitmask the array receiving the validation result of each record, of at least {@code (count + 63) / 64}
+     *                elements
+     * @return the number of valid records
+     * @throws IllegalArgumentException  if the buffer or bitmask is {@code null}, the stride is shorter than a national
+     *                                   ID, the count is negative or the bitmask is too short
+     * @throws IndexOutOfBoundsException if the records exceed the limit of the buffer
+     */
+    public int isValidAll(ByteBuffer buffer, int offset, int stride, int count, long[] bitmask) {
+        BulkUtils.checkRecords(buffer, offset, stride, count, NATIONAL_ID_LENGTH);
+        BulkUtils.checkBitmask(bitmask, count);
+        int validCount = 0;
+        for (int i = 0; i < count; i++) {
+            boolean valid = isValidRecord(buffer, offset + i * stride);
+            BulkUtils.setBit(bitmask, i, valid);
+            if (valid) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Checks whether the 10 ASCII digits starting at the given absolute index of the buffer form a valid national ID.
+     *
+     * @param buffer the buffer containing the record
+     * @param index  the absolute index of the record
+     * @return {@code true} if the record is a valid national ID, otherwise {@code false}
+     */
+    private boolean isValidRecord(ByteBuffer buffer, int index) {
+        long nationalId = 0;
+        for (int i = 0; i < NATIONAL_ID_LENGTH; i++) {
+            int digit = buffer.get(index + i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            nationalId = nationalId * 10 + digit;
+        }
+        return isValid(nationalId);
+    }
+
+    /**
+     * Checks the numeric value of a national ID, applying the same repeated digits, blacklist and control digit rules
+     * as {@link #validate(String)}. Leading zeros of the national ID are implied.
+     *
+     * @param nationalId the numeric value of the national ID
+     * @return {@code true} if the national ID is valid, otherwise {@code false}
+     */
+    public boolean isValid(long nationalId) {
+        if (nationalId < 0 || nationalId >= NATIONAL_ID_BOUND) {
+            return false;
+        }
+        boolean repeatedDigits = nationalId % 1111111111L == 0 && nationalId != 1111111111L;
+        boolean blacklisted = nationalId == 123456789L || nationalId == 1234567890L;
+        return !repeatedDigits && !blacklisted && hasValidControlDigit(nationalId);
+    }
+
+    /**
+     * Validates the numeric values of national IDs in bulk.
+     * <p>
+     * Bit {@code i % 64} of {@code bitmask[i / 64]} is set if {@code nationalIds[i]} is valid and cleared otherwise.
+     *
+     * @param nationalIds the numeric values of the national IDs to validate
+     * @param bitmask     the array receiving the validation result of each national ID, of at least
+     *                    {@code (nationalIds.length + 63) / 64} elements
+     * @return the number of valid national IDs
+     * @throws IllegalArgumentException if the national IDs are {@code null} or the bitmask is too short
+     */
+    public int isValidAll(long[] nationalIds, long[] bitmask) {
+        if (nationalIds == null) {
+            throw new IllegalArgumentException("National IDs are null");
+        }
+        BulkUtils.checkBitmask(bitmask, nationalIds.length);
+        int validCount = 0;
+        for (int i = 0; i < nationalIds.length; i++) {
+            boolean valid = isValid(nationalIds[i]);
+            BulkUtils.setBit(bitmask, i, valid);
+            if (valid) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Checks the control digit of a 10-digit national ID given as its numeric value.
+     *
+     * @param nationalId the numeric value of the national ID
+     * @return {@code true} if the control digit matches, otherwise {@code false}
+     */
+    private static boolean hasValidControlDigit(long nationalId) {
+        return nationalId % 10 == computeControlDigit(nationalId / 10);
+    }
+
+    /**
+     * Computes the control digit for the first nine digits of a national ID given as their numeric value.
+     * <p>
+     * The digits are weighted from 10 down to 2 and the remainder of their sum divided by 11 decides the control
+     * digit: remainders below 2 are used as is, otherwise the control digit is 11 minus the remainder.
+     *
+     * @param firstNineDigits the numeric value of the first nine digits
+     * @return the control digit
+     */
+    static int computeControlDigit(long firstNineDigits) {
+        int sum = 0;
+        for (int weight = 2; weight <= NATIONAL_ID_LENGTH; weight++) {
+            sum += (int) (firstNineDigits % 10) * weight;
+            firstNineDigits /= 10;
+        }
+        int remainder = sum % (NATIONAL_ID_LENGTH + 1);
+        return remainder < 2 ? remainder : NATIONAL_ID_LENGTH + 1 - remainder;
+    }
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.phonenumber;
+
+import com.persiantools4j.Generated;
+import com.persiantools4j.collection.operator.Operator;
+
+import java.util.Objects;
+
+/**
+ * Represents an Iranian mobile phone number in a result of parsing action with its canonical forms and the
+ * associated {@link Operator}.
+ */
+@Generated
+public final class PhoneNumber {
+
+    private final String number;
+    private final long value;
+    private final Operator operator;
+
+    /**
+     * Constructs a new {@code PhoneNumber} instance with the specified details.
+     *
+     * @param number   the normalized phone number string, starting with {@code 09}
+     * @param value    the canonical numeric value of the phone number, without the leading zero
+     * @param operator the {@link Operator} associated with the phone number prefix
+     */
+    PhoneNumber(String number, long value, Operator operator) {
+        this.number = number;
+        this.value = value;
+        this.operator = operator;
+    }
+
+    /**
+     * Retrieves the normalized phone number string, e.g. {@code 09121234567}.
+     *
+     * @return the phone number string
+     */
+    public String getNumber() {
+        return number;
+    }
+
+    /**
+     * Retrieves the canonical numeric value of the phone number, e.g. {@code 9121234567}.
+     *
+     * @return the numeric value
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieves the operator associated with this phone number.
+     *
+     * @return the {@link Operator} instance
+     */
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Compares this {@code PhoneNumber} instance with the specified object for equality.
+     * <p>
+     * Two {@code PhoneNumber} objects are considered equal if they have the same numeric value.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if the specified object is equal to this {@code PhoneNumber}, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PhoneNumber)) {
+            return false;
+        }
+        PhoneNumber that = (PhoneNumber) o;
+        return value == that.value;
+    }
+
+    /**
+     * Returns a hash code value for this {@code PhoneNumber} instance.
+     * <p>
+     * The hash code is generated based on the numeric value.
+     *
+     * @return a hash code value for this {@code PhoneNumber} instance
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    /**
+     * Returns a string representation of this {@code PhoneNumber} instance.
+     * <p>
+     * The string representation includes the phone number, numeric value and {@code Operator}.
+     *
+     * @return a string representation of the {@code PhoneNumber} object
+     */
+    @Override
+    public String toString() {
+        return "PhoneNumber{" + "number='" + number + '\'' + ", value=" + value + ", operator=" + operator + '}';
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.phonenumber;
+
+import com.persiantools4j.Parsable;
+import com.persiantools4j.Validatable;
+import com.persiantools4j.collection.operator.Operator;
+import com.persiantools4j.collection.operator.OperatorCollection;
+import com.persiantools4j.exception.ParseException;
+import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.DigitTrie;
+import com.persiantools4j.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * The {@code PhoneNumberService} class implements the {@link Validatable} and {@link Parsable} interfaces, providing
+ * functionality for validating Iranian mobile phone numbers, normalize them and parsing them to resolve the
+ * associated {@link Operator}.
+ * <p>
+ * Phone numbers are accepted as {@code +989121234567}, {@code 00989121234567}, {@code 989121234567},
+ * {@code 09121234567} or {@code 9121234567}, with Persian or Arabic digits, whitespace and hyphens. They are
+ * canonicalized into the 10-digit numeric value starting with {@code 9}, e.g. {@code 9121234567}, and the operator
+ * is resolved through a prefix trie built from the {@link OperatorCollection}.
+ *
+ * @see Validatable
+ * @see Parsable
+ */
+public final class PhoneNumberService implements Validatable<String>, Parsable<String, PhoneNumber> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PhoneNumberService.class);
+    private static final int CANONICAL_LENGTH = 10;
+    private static final long CANONICAL_BOUND = 10_000_000_000L;
+    private static final long CANONICAL_START = 9_000_000_000L;
+    private static final long COUNTRY_CODE = 98;
+    private static final int MAX_DIGITS = 14;
+
+    /**
+     * Canonicalizes the given phone number in a single pass into its 10-digit numeric value.
+     * <p>
+     * Whitespace and hyphens are ignored, Persian and Arabic digits are converted and a leading {@code +},
+     * {@code 0098}, {@code 98} or {@code 0} is removed. The operator prefix is not checked.
+     *
+     * @param phoneNumber the phone number to canonicalize
+     * @return the canonical numeric value of the phone number, e.g. {@code 9121234567}, or {@code -1} if the format
+     * of the phone number is invalid
+     */
+    public long canonicalize(CharSequence phoneNumber) {
+        if (phoneNumber == null) {
+            return -1;
+        }
+        boolean plus = false;
+        int digitCount = 0;
+        long value = 0;
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char ch = phoneNumber.charAt(i);
+            if (Character.isWhitespace(ch) || ch == '-') {
+                continue;
+            }
+            if (ch == '+' && !plus && digitCount == 0) {
+                plus = true;
+                continue;
+            }
+            int digit = StringUtils.getDigitValue(ch);
+            if (digit < 0 || ++digitCount > MAX_DIGITS) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        long prefix = value / CANONICAL_BOUND;
+        boolean valid;
+        if (plus) {
+            valid = digitCount == 12 && prefix == COUNTRY_CODE;
+        } else {
+            valid = (digitCount == 14 || digitCount == 12) && prefix == COUNTRY_CODE ||
+                    (digitCount == 11 || digitCount == 10) && prefix == 0;
+        }
+        long canonical = value % CANONICAL_BOUND;
+        return valid && canonical >= CANONICAL_START ? canonical : -1;
+    }
+
+    /**
+     * Finds the {@link Operator} of the given canonical phone number through the operator prefix trie.
+     *
+     * @param canonicalPhoneNumber the canonical numeric value of the phone number, as returned by
+     *                             {@link #canonicalize(CharSequence)}
+     * @return an {@link Optional} containing the {@link Operator} if found; otherwise, an empty {@link Optional}
+     */
+    public Optional<Operator> findOperator(long canonicalPhoneNumber) {
+        if (canonicalPhoneNumber < CANONICAL_START || canonicalPhoneNumber >= CANONICAL_BOUND) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(OperatorTrieHolder.OPERATOR_TRIE.findLongestPrefix(canonicalPhoneNumber,
+                CANONICAL_LENGTH));
+    }
+
+    /**
+     * Finds the {@link Operator} associated with the given phone number.
+     *
+     * @param phoneNumber the phone number for which to find the {@link Operator}
+     * @return an {@link Optional} containing the {@link Operator} if found; otherwise, an empty {@link Optional}
+     * @throws ValidationException if the phone number format is invalid
+     */
+    public Optional<Operator> findOperator(String phoneNumber) {
+        return findOperator(canonicalizeOrThrow(phoneNumber));
+    }
+
+    /**
+     * Canonicalizes a batch of phone numbers, e.g. the recipients of an SMS batch, without throwing or logging for
+     * invalid ones.
+     * <p>
+     * Element {@code i} of {@code canonicalPhoneNumbers} receives the canonical numeric value of
+     * {@code phoneNumbers[i]}, or {@code -1} if it is {@code null}, its format is invalid or its prefix does not
+     * belong to any known operator.
+     *
+     * @param phoneNumbers          the phone numbers to canonicalize
+     * @param canonicalPhoneNumbers the array receiving the canonical numeric values, at least as long as
+     *                              {@code phoneNumbers}
+     * @return the number of valid phone numbers
+     * @throws IllegalArgumentException if an array is {@code null} or the output array is too short
+     */
+    public int canonicalizeAll(CharSequence[] phoneNumbers, long[] canonicalPhoneNumbers) {
+        if (phoneNumbers == null || canonicalPhoneNumbers == null ||
+                canonicalPhoneNumbers.length < phoneNumbers.length) {
+            throw new IllegalArgumentException("Phone numbers are null or output array is too short");
+        }
+        DigitTrie<Operator> operatorTrie = OperatorTrieHolder.OPERATOR_TRIE;
+        int validCount = 0;
+        for (int i = 0; i < phoneNumbers.length; i++) {
+            long canonical = canonicalize(phoneNumbers[i]);
+            if (canonical >= 0 && operatorTrie.findLongestPrefix(canonical, CANONICAL_LENGTH) != null) {
+                validCount++;
+            } else {
+                canonical = -1;
+            }
+            canonicalPhoneNumbers[i] = canonical;
+        }
+        return validCount;
+    }
+
+    @Override
+    public String normalize(String phoneNumber) throws ValidationException {
+        return "0" + canonicalizeOrThrow(phoneNumber);
+    }
+
+    @Override
+    public boolean isValid(String phoneNumber) {
+        try {
+            validate(phoneNumber);
+        } catch (ValidationException e) {
+            LOGGER.warn(e.getMessage(), e);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void validate(String phoneNumber) throws ValidationException {
+        if (!findOperator(phoneNumber).isPresent()) {
+            throw new ValidationException("Invalid phone number: " + phoneNumber);
+        }
+    }
+
+    @Override
+    public PhoneNumber parse(String phoneNumber) {
+        long canonical = canonicalizeOrThrow(phoneNumber);
+        Operator operator = findOperator(canonical)
+                .orElseThrow(() -> new ParseException("Unable to find operator associated to the phone number: " +
+                        phoneNumber));
+        return new PhoneNumber("0" + canonical, canonical, operator);
+    }
+
+    /**
+     * Canonicalizes the given phone number, throwing a {@link ValidationException} if its format is invalid.
+     *
+     * @param phoneNumber the phone number to canonicalize
+     * @return the canonical numeric value of the phone number
+     * @throws ValidationException if the phone number is {@code null}, empty or in an invalid format
+     */
+    private long canonicalizeOrThrow(String phoneNumber) throws ValidationException {
+        if (StringUtils.isBlank(phoneNumber)) {
+            throw new ValidationException("Phone number is null or empty");
+        }
+        long canonical = canonicalize(phoneNumber);
+        if (canonical < 0) {
+            throw new ValidationException("Invalid phone number format: " + phoneNumber);
+        }
+        return canonical;
+    }
+
+    /**
+     * Private static helper class holding the operator prefix trie, built lazily from the {@link OperatorCollection}
+     * the first time an operator is resolved.
+     */
+    private static class OperatorTrieHolder {
+        private static final DigitTrie<Operator> OPERATOR_TRIE = createOperatorTrie();
+
+        private static DigitTrie<Operator> createOperatorTrie() {
+            DigitTrie<Operator> operatorTrie = new DigitTrie<>();
+            for (Operator operator : OperatorCollection.getInstance().findAllBy(operator -> true)) {
+                for (String prefix : operator.getPrefixes()) {
+                    operatorTrie.put(prefix, operator);
+                }
+            }
+            return operatorTrie;
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.plate;
+
+import com.persiantools4j.Generated;
+
+/**
+ * Represents an Iranian vehicle license plate in a result of parsing action with its compact encoding and the parts
+ * decoded from it.
+ */
+@Generated
+public final class LicensePlate {
+
+    private final String plate;
+    private final int encoded;
+    private final int firstNumber;
+    private final String letter;
+    private final int serial;
+    private final int region;
+
+    /**
+     * Constructs a new {@code LicensePlate} instance with the specified details.
+     *
+     * @param plate       the normalized license plate string
+     * @param encoded     the compact encoding of the license plate
+     * @param firstNumber the two-digit number before the letter
+     * @param letter      the Persian letter of the license plate
+     * @param serial      the three-digit serial after the letter
+     * @param region      the two-digit region code
+     */
+    LicensePlate(String plate, int encoded, int firstNumber, String letter, int serial, int region) {
+        this.plate = plate;
+        this.encoded = encoded;
+        this.firstNumber = firstNumber;
+        this.letter = letter;
+        this.serial = serial;
+        this.region = region;
+    }
+
+    /**
+     * Retrieves the normalized license plate string, e.g. {@code 12ب345-67}.
+     *
+     * @return the license plate string
+     */
+    public String getPlate() {
+        return plate;
+    }
+
+    /**
+     * Retrieves the compact encoding of the license plate, as returned by
+     * {@link LicensePlateService#encode(CharSequence)}.
+     *
+     * @return the encoded license plate
+     */
+    public int getEncoded() {
+        return encoded;
+    }
+
+    /**
+     * Retrieves the two-digit number before the letter.
+     *
+     * @return the first number
+     */
+    public int getFirstNumber() {
+        return firstNumber;
+    }
+
+    /**
+     * Retrieves the Persian letter of the license plate, e.g. {@code ب} or {@code الف}.
+     *
+     * @return the letter
+     */
+    public String getLetter() {
+        return letter;
+    }
+
+    /**
+     * Retrieves the three-digit serial after the letter.
+     *
+     * @return the serial
+     */
+    public int getSerial() {
+        return serial;
+    }
+
+    /**
+     * Retrieves the two-digit region code of the license plate.
+     *
+     * @return the region code
+     */
+    public int getRegion() {
+        return region;
+    }
+
+    /**
+     * Compares this {@code LicensePlate} instance with the specified object for equality.
+     * <p>
+     * Two {@code LicensePlate} objects are considered equal if they have the same encoding.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if the specified object is equal to this {@code LicensePlate}, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LicensePlate)) {
+            return false;
+        }
+        LicensePlate that = (LicensePlate) o;
+        return encoded == that.encoded;
+    }
+
+    /**
+     * Returns a hash code value for this {@code LicensePlate} instance.
+     * <p>
+     * The hash code is generated based on the encoding.
+     *
+     * @return a hash code value for this {@code LicensePlate} instance
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(encoded);
+    }
+
+    /**
+     * Returns a string representation of this {@code LicensePlate} instance.
+     * <p>
+     * The string representation includes the license plate and its encoding.
+     *
+     * @return a string representation of the {@code LicensePlate} object
+     */
+    @Override
+    public String toString() {
+        return "LicensePlate{" + "plate='" + plate + '\'' + ", encoded=" + encoded + '}';
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.plate;
+
+import com.persiantools4j.Parsable;
+import com.persiantools4j.Validatable;
+import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@code LicensePlateService} class implements the {@link Validatable} and {@link Parsable} interfaces, providing
+ * functionality for validating Iranian vehicle license plates, normalize them and parsing them.
+ * <p>
+ * A license plate consists of a two-digit number, a Persian letter, a three-digit serial and a two-digit region
+ * code, e.g. {@code ۱۲ ب ۳۴۵ - ۶۷}. Groups may be separated by whitespace, hyphens or vertical bars and the region
+ * code may be preceded by {@code ایران}. Digits may be Persian, Arabic or English and Arabic variants of the letters
+ * are accepted. Plates are encoded into a single {@code int} by {@link #encode(CharSequence)}, which scans them in a
+ * single pass and resolves the letter through a lookup table, without allocating.
+ *
+ * @see Validatable
+ * @see Parsable
+ */
+public final class LicensePlateService implements Validatable<String>, Parsable<String, LicensePlate> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LicensePlateService.class);
+    private static final int INVALID_FORMAT = -1;
+    private static final int LETTER_RADIX = 32;
+
+    /**
+     * The letters of license plates, indexed by their code. Code {@code 0} is unused.
+     */
+    private static final String[] LETTERS = {
+            null, "الف", "ب", "پ", "ت", "ث", "ج", "د", "ز", "س", "ش", "ص", "ط", "ع", "ف", "ق", "ک", "گ", "ل", "م",
+            "ن", "و", "ه", "ی", "ژ"
+    };
+    private static final int ALEF_CODE = 1;
+
+    /**
+     * The letter codes of the characters from {@code U+0600} to {@code U+06FF}, {@code 0} for non-letters.
+     */
+    private static final byte[] LETTER_CODES = new byte[0x100];
+
+    static {
+        for (int code = 1; code < LETTERS.length; code++) {
+            LETTER_CODES[LETTERS[code].charAt(0) - '\u0600'] = (byte) code;
+        }
+        LETTER_CODES['أ' - '\u0600'] = ALEF_CODE;
+        LETTER_CODES['آ' - '\u0600'] = ALEF_CODE;
+        LETTER_CODES['ي' - '\u0600'] = LETTER_CODES['ی' - '\u0600'];
+        LETTER_CODES['ى' - '\u0600'] = LETTER_CODES['ی' - '\u0600'];
+        LETTER_CODES['ك' - '\u0600'] = LETTER_CODES['ک' - '\u0600'];
+        LETTER_CODES['ۀ' - '\u0600'] = LETTER_CODES['ه' - '\u0600'];
+    }
+
+    /**
+     * Encodes the given license plate in a single pass into a compact {@code int}.
+     * <p>
+     * The encoding is {@code ((firstNumber * 32 + letterCode) * 1000 + serial) * 100 + region}, so that plates can
+     * be stored, compared and hashed as primitives. The two-digit number, serial and region code must not start
+     * with zero.
+     *
+     * @param plate the license plate to encode
+     * @return the encoded license plate, or {@code -1} if the license plate is {@code null} or its format is invalid
+     */
+    public int encode(CharSequence plate) {
+        if (plate == null) {
+            return INVALID_FORMAT;
+        }
+        int length = plate.length();
+        int index = skipSeparators(plate, 0);
+        int firstNumber = readNumber(plate, index, 2);
+        index = skipSeparators(plate, index + 2);
+        if (firstNumber < 0 || index >= length) {
+            return INVALID_FORMAT;
+        }
+        char letter = plate.charAt(index++);
+        int letterCode = letter >= '\u0600' && letter <= '\u06FF' ? LETTER_CODES[letter - '\u0600'] : 0;
+        if (letterCode == 0) {
+            return INVALID_FORMAT;
+        }
+        if (letterCode == ALEF_CODE && index + 1 < length && plate.charAt(index) == 'ل' &&
+                plate.charAt(index + 1) == 'ف') {
+            index += 2;
+        }
+        index = skipSeparators(plate, index);
+        int serial = readNumber(plate, index, 3);
+        index = skipSeparators(plate, index + 3);
+        if (index + 4 < length && plate.charAt(index) == 'ا' && plate.charAt(index + 1) == 'ی' &&
+                plate.charAt(index + 2) == 'ر' && plate.charAt(index + 3) == 'ا' && plate.charAt(index + 4) == 'ن') {
+            index = skipSeparators(plate, index + 5);
+        }
+        int region = readNumber(plate, index, 2);
+        if (serial < 0 || region < 0 || skipSeparators(plate, index + 2) != length) {
+            return INVALID_FORMAT;
+        }
+        return ((firstNumber * LETTER_RADIX + letterCode) * 1000 + serial) * 100 + region;
+    }
+
+    /**
+     * Encodes the given license plates in bulk, e.g. the OCR results of a camera frame batch, without throwing or
+     * logging for invalid ones.
+     * <p>
+     * Element {@code i} of {@code encodedPlates} receives the encoding of {@code plates[i]}, or {@code -1} if it is
+     * {@code null} or its format is invalid.
+     *
+     * @param plates        the license plates to encode
+     * @param encodedPlates the array receiving the encoded license plates, at least as long as {@code plates}
+     * @return the number of valid license plates
+     * @throws IllegalArgumentException if an array is {@code null} or the output array is too short
+     */
+    public int encodeAll(CharSequence[] plates, int[] encodedPlates) {
+        if (plates == null || encodedPlates == null || encodedPlates.length < plates.length) {
+            throw new IllegalArgumentException("Plates are null or output array is too short");
+        }
+        int validCount = 0;
+        for (int i = 0; i < plates.length; i++) {
+            encodedPlates[i] = encode(plates[i]);
+            if (encodedPlates[i] >= 0) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Decodes the given encoded license plate.
+     *
+     * @param encoded the encoded license plate, as returned by {@link #encode(CharSequence)}
+     * @return the decoded {@link LicensePlate}
+     * @throws IllegalArgumentException if the encoded license plate is invalid
+     */
+    public LicensePlate decode(int encoded) {
+        int region = encoded % 100;
+        int serial = encoded / 100 % 1000;
+        int letterCode = encoded / 100_000 % LETTER_RADIX;
+        int firstNumber = encoded / 100_000 / LETTER_RADIX;
+        if (encoded < 0 || region < 10 || serial < 100 || letterCode == 0 || letterCode >= LETTERS.length ||
+                firstNumber < 10 || firstNumber > 99) {
+            throw new IllegalArgumentException("Invalid encoded license plate: " + encoded);
+        }
+        String plate = String.valueOf(firstNumber) + LETTERS[letterCode] + serial + '-' + region;
+        return new LicensePlate(plate, encoded, firstNumber, LETTERS[letterCode], serial, region);
+    }
+
+    @Override
+    public String normalize(String plate) throws ValidationException {
+        return decode(encodeOrThrow(plate)).getPlate();
+    }
+
+    @Override
+    public boolean isValid(String plate) {
+        try {
+            validate(plate);
+        } catch (ValidationException e) {
+            LOGGER.warn(e.getMessage(), e);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void validate(String plate) throws ValidationException {
+        encodeOrThrow(plate);
+    }
+
+    @Override
+    public LicensePlate parse(String plate) {
+        return decode(encodeOrThrow(plate));
+    }
+
+    /**
+     * Skips the whitespace, hyphens and vertical bars from the given index.
+     *
+     * @param plate the license plate being scanned
+     * @param index the index to start from
+     * @return the index of the first character that is not a separator, or the length of the license plate
+     */
+    private static int skipSeparators(CharSequence plate, int index) {
+        while (index < plate.length()) {
+            char ch = plate.charAt(index);
+            if (!Character.isWhitespace(ch) && ch != '-' && ch != '|') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Reads a number of the given count of digits, not starting with zero, from the given index.
+     *
+     * @param plate the license plate being scanned
+     * @param index the index of the first digit
+     * @param count the number of digits to read
+     * @return the number read, or {@link #INVALID_FORMAT} if the characters are not digits or start with zero
+     */
+    private static int readNumber(CharSequence plate, int index, int count) {
+        if (index + count > plate.length()) {
+            return INVALID_FORMAT;
+        }
+        int value = 0;
+        for (int i = index; i < index + count; i++) {
+            int digit = StringUtils.getDigitValue(plate.charAt(i));
+            if (digit < 0 || i == index && digit == 0) {
+                return INVALID_FORMAT;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Encodes the given license plate, throwing a {@link ValidationException} if its format is invalid.
+     *
+     * @param plate the license plate to encode
+     * @return the encoded license plate
+     * @throws ValidationException if the license plate is {@code null}, empty or in an invalid format
+     */
+    private int encodeOrThrow(String plate) throws ValidationException {
+        if (StringUtils.isBlank(plate)) {
+            throw new ValidationException("License plate is null or empty");
+        }
+        int encoded = encode(plate);
+        if (encoded == INVALID_FORMAT) {
+            throw new ValidationException("Invalid license plate format: " + plate);
+        }
+        return encoded;
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.postalcode;
+
+import com.persiantools4j.Generated;
+import com.persiantools4j.collection.postalcode.PostalRegion;
+
+import java.util.Objects;
+
+/**
+ * Represents a postal code in a result of parsing action with its numeric value and the associated
+ * {@link PostalRegion}.
+ */
+@Generated
+public final class PostalCode {
+
+    private final String code;
+    private final long value;
+    private final PostalRegion region;
+
+    /**
+     * Constructs a new {@code PostalCode} instance with the specified details.
+     *
+     * @param code   the normalized 10-digit postal code string
+     * @param value  the numeric value of the postal code
+     * @param region the {@link PostalRegion} associated with the postal code prefix
+     */
+    PostalCode(String code, long value, PostalRegion region) {
+        this.code = code;
+        this.value = value;
+        this.region = region;
+    }
+
+    /**
+     * Retrieves the normalized postal code string.
+     *
+     * @return the postal code string
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Retrieves the numeric value of the postal code.
+     *
+     * @return the numeric value
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieves the region associated with this postal code.
+     *
+     * @return the {@link PostalRegion} instance
+     */
+    public PostalRegion getRegion() {
+        return region;
+    }
+
+    /**
+     * Compares this {@code PostalCode} instance with the specified object for equality.
+     * <p>
+     * Two {@code PostalCode} objects are considered equal if they have the same postal code string.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if the specified object is equal to this {@code PostalCode}, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PostalCode)) {
+            return false;
+        }
+        PostalCode that = (PostalCode) o;
+        return Objects.equals(code, that.code);
+    }
+
+    /**
+     * Returns a hash code value for this {@code PostalCode} instance.
+     * <p>
+     * The hash code is generated based on the postal code string.
+     *
+     * @return a hash code value for this {@code PostalCode} instance
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(code);
+    }
+
+    /**
+     * Returns a string representation of this {@code PostalCode} instance.
+     * <p>
+     * The string representation includes the postal code, numeric value and {@code PostalRegion}.
+     *
+     * @return a string representation of the {@code PostalCode} object
+     */
+    @Override
+    public String toString() {
+        return "PostalCode{" + "code='" + code + '\'' + ", value=" + value + ", region=" + region + '}';
+    }
+
+}
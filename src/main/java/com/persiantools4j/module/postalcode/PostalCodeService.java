@@ -0,0 +1,224 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.postalcode;
+
+import com.persiantools4j.Parsable;
+import com.persiantools4j.Validatable;
+import com.persiantools4j.collection.postalcode.PostalRegion;
+import com.persiantools4j.collection.postalcode.PostalRegionCollection;
+import com.persiantools4j.exception.ParseException;
+import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.BulkUtils;
+import com.persiantools4j.util.DigitTrie;
+import com.persiantools4j.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * The {@code PostalCodeService} class implements the {@link Validatable} and {@link Parsable} interfaces, providing
+ * functionality for validating 10-digit Iranian postal codes, normalize them and parsing them to resolve the
+ * associated {@link PostalRegion}.
+ * <p>
+ * A postal code never contains the digit 2, its first five digits never contain 0, its fifth digit is never 5 and
+ * its first four digits are not all the same. Inputs may contain Persian or Arabic digits, whitespace and hyphens,
+ * e.g. {@code 13145-67890}. Regions are resolved through a prefix trie built from the {@link PostalRegionCollection}.
+ *
+ * @see Validatable
+ * @see Parsable
+ */
+public final class PostalCodeService implements Validatable<String>, Parsable<String, PostalCode> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostalCodeService.class);
+    private static final int POSTAL_CODE_LENGTH = 10;
+
+    /**
+     * The digits allowed at each position of a postal code, as bitmasks where bit {@code d} allows digit {@code d}.
+     */
+    private static final int[] ALLOWED_DIGITS = {
+            0b1111111010, 0b1111111010, 0b1111111010, 0b1111111010, 0b1111011010,
+            0b1111111011, 0b1111111011, 0b1111111011, 0b1111111011, 0b1111111011
+    };
+
+    /**
+     * Canonicalizes the given postal code in a single pass into its numeric value and checks its format rules.
+     * <p>
+     * Whitespace and hyphens are ignored and Persian and Arabic digits are converted.
+     *
+     * @param postalCode the postal code to canonicalize
+     * @return the numeric value of the postal code, or {@code -1} if the postal code is {@code null} or its format
+     * is invalid
+     */
+    public long canonicalize(CharSequence postalCode) {
+        if (postalCode == null) {
+            return -1;
+        }
+        int position = 0;
+        long value = 0;
+        for (int i = 0; i < postalCode.length(); i++) {
+            char ch = postalCode.charAt(i);
+            if (Character.isWhitespace(ch) || ch == '-') {
+                continue;
+            }
+            int digit = StringUtils.getDigitValue(ch);
+            if (digit < 0 || position == POSTAL_CODE_LENGTH || (ALLOWED_DIGITS[position] & (1 << digit)) == 0) {
+                return -1;
+            }
+            value = value * 10 + digit;
+            position++;
+        }
+        if (position != POSTAL_CODE_LENGTH || value / 1_000_000 % 1111 == 0) {
+            return -1;
+        }
+        return value;
+    }
+
+    /**
+     * Finds the {@link PostalRegion} of the given numeric postal code through the region prefix trie.
+     *
+     * @param postalCode the numeric value of the postal code, as returned by {@link #canonicalize(CharSequence)}
+     * @return an {@link Optional} containing the {@link PostalRegion} if found; otherwise, an empty {@link Optional}
+     */
+    public Optional<PostalRegion> findRegion(long postalCode) {
+        if (postalCode < 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(RegionTrieHolder.REGION_TRIE.findLongestPrefix(postalCode, POSTAL_CODE_LENGTH));
+    }
+
+    /**
+     * Validates the given postal codes in bulk, without throwing or logging for invalid ones.
+     * <p>
+     * Bit {@code i % 64} of {@code bitmask[i / 64]} is set if {@code postalCodes[i]} is a valid postal code and
+     * cleared otherwise. {@code null} elements are considered invalid.
+     *
+     * @param postalCodes the postal codes to validate
+     * @param bitmask     the array receiving the validation result of each postal code, of at least
+     *                    {@code (postalCodes.length + 63) / 64} elements
+     * @return the number of valid postal codes
+     * @throws IllegalArgumentException if the postal codes are {@code null} or the bitmask is too short
+     */
+    public int isValidAll(CharSequence[] postalCodes, long[] bitmask) {
+        if (postalCodes == null) {
+            throw new IllegalArgumentException("Postal codes are null");
+        }
+        BulkUtils.checkBitmask(bitmask, postalCodes.length);
+        int validCount = 0;
+        for (int i = 0; i < postalCodes.length; i++) {
+            boolean valid = canonicalize(postalCodes[i]) >= 0;
+            BulkUtils.setBit(bitmask, i, valid);
+            if (valid) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Resolves the regions of the given postal codes in bulk, e.g. to bucket imported addresses for routing.
+     * <p>
+     * Element {@code i} of {@code regions} receives the {@link PostalRegion} of {@code postalCodes[i]}, or
+     * {@code null} if the postal code is {@code null}, invalid or of an unknown region.
+     *
+     * @param postalCodes the postal codes to resolve
+     * @param regions     the array receiving the regions, at least as long as {@code postalCodes}
+     * @return the number of resolved postal codes
+     * @throws IllegalArgumentException if an array is {@code null} or the output array is too short
+     */
+    public int findRegionAll(CharSequence[] postalCodes, PostalRegion[] regions) {
+        if (postalCodes == null || regions == null || regions.length < postalCodes.length) {
+            throw new IllegalArgumentException("Postal codes are null or output array is too short");
+        }
+        DigitTrie<PostalRegion> regionTrie = RegionTrieHolder.REGION_TRIE;
+        int resolvedCount = 0;
+        for (int i = 0; i < postalCodes.length; i++) {
+            long value = canonicalize(postalCodes[i]);
+            regions[i] = value < 0 ? null : regionTrie.findLongestPrefix(value, POSTAL_CODE_LENGTH);
+            if (regions[i] != null) {
+                resolvedCount++;
+            }
+        }
+        return resolvedCount;
+    }
+
+    @Override
+    public String normalize(String postalCode) throws ValidationException {
+        return String.valueOf(canonicalizeOrThrow(postalCode));
+    }
+
+    @Override
+    public boolean isValid(String postalCode) {
+        try {
+            validate(postalCode);
+        } catch (ValidationException e) {
+            LOGGER.warn(e.getMessage(), e);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void validate(String postalCode) throws ValidationException {
+        canonicalizeOrThrow(postalCode);
+    }
+
+    @Override
+    public PostalCode parse(String postalCode) {
+        long value = canonicalizeOrThrow(postalCode);
+        PostalRegion region = findRegion(value)
+                .orElseThrow(() -> new ParseException("Unable to find region associated to the postal code: " + value));
+        return new PostalCode(String.valueOf(value), value, region);
+    }
+
+    /**
+     * Canonicalizes the given postal code, throwing a {@link ValidationException} if it is invalid.
+     *
+     * @param postalCode the postal code to canonicalize
+     * @return the numeric value of the postal code
+     * @throws ValidationException if the postal code is {@code null}, empty or invalid
+     */
+    private long canonicalizeOrThrow(String postalCode) throws ValidationException {
+        if (StringUtils.isBlank(postalCode)) {
+            throw new ValidationException("Postal code is null or empty");
+        }
+        long value = canonicalize(postalCode);
+        if (value < 0) {
+            throw new ValidationException("Invalid postal code format: " + postalCode);
+        }
+        return value;
+    }
+
+    /**
+     * Private static helper class holding the region prefix trie, built lazily from the
+     * {@link PostalRegionCollection} the first time a region is resolved.
+     */
+    private static class RegionTrieHolder {
+        private static final DigitTrie<PostalRegion> REGION_TRIE = createRegionTrie();
+
+        private static DigitTrie<PostalRegion> createRegionTrie() {
+            DigitTrie<PostalRegion> regionTrie = new DigitTrie<>();
+            for (PostalRegion region : PostalRegionCollection.getInstance().findAllBy(region -> true)) {
+                for (String code : region.getCodes()) {
+                    regionTrie.put(code, region);
+                }
+            }
+            return regionTrie;
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import java.util.Arrays;
+
+/**
+ * The {@code CharSink} class is a growable character buffer receiving the output of a {@link PersianNormalizer}
+ * in the streaming normalizers, from which the characters are drained in chunks.
+ */
+final class CharSink implements Appendable {
+
+    private char[] chars;
+    private int start;
+    private int end;
+
+    /**
+     * Constructs a new {@code CharSink} with the given initial capacity.
+     *
+     * @param capacity the initial capacity
+     */
+    CharSink(int capacity) {
+        this.chars = new char[capacity];
+    }
+
+    @Override
+    public CharSink append(CharSequence csq) {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public CharSink append(CharSequence csq, int start, int end) {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public CharSink append(char c) {
+        if (end == chars.length) {
+            if (start > 0) {
+                System.arraycopy(chars, start, chars, 0, end - start);
+                end -= start;
+                start = 0;
+            } else {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+        }
+        chars[end++] = c;
+        return this;
+    }
+
+    /**
+     * Returns the number of characters not drained yet.
+     *
+     * @return the number of available characters
+     */
+    int available() {
+        return end - start;
+    }
+
+    /**
+     * Drains up to the given number of characters into the given array.
+     *
+     * @param target the array receiving the characters
+     * @param offset the index of the array to start writing at
+     * @param length the maximum number of characters to drain
+     * @return the number of characters drained
+     */
+    int drain(char[] target, int offset, int length) {
+        int count = Math.min(length, end - start);
+        System.arraycopy(chars, start, target, offset, count);
+        consume(count);
+        return count;
+    }
+
+    /**
+     * Returns the backing array, whose characters from {@link #start()} to {@link #start()} plus
+     * {@link #available()} are not drained yet.
+     *
+     * @return the backing array
+     */
+    char[] array() {
+        return chars;
+    }
+
+    /**
+     * Returns the index of the first character not drained yet in the backing array.
+     *
+     * @return the start index
+     */
+    int start() {
+        return start;
+    }
+
+    /**
+     * Marks the given number of characters as drained.
+     *
+     * @param count the number of characters drained
+     */
+    void consume(int count) {
+        start += count;
+        if (start == end) {
+            start = 0;
+            end = 0;
+        }
+    }
+
+}
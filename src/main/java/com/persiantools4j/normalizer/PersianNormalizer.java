@@ -0,0 +1,456 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import com.persiantools4j.enums.RegexCharacterClass;
+import com.persiantools4j.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+
+/**
+ * The {@code PersianNormalizer} class normalizes Persian text by applying a selection of cleanup steps, compiled by
+ * its {@link Builder} into a single translation table and run in a single pass:
+ * <ul>
+ *     <li>{@link Builder#foldPresentationForms()} folds Arabic presentation forms ({@code U+FB50} to {@code U+FDFF}
+ *     and {@code U+FE70} to {@code U+FEFF}) into their base letters, expanding ligatures.</li>
+ *     <li>{@link Builder#arabicLetters()} replaces Arabic yeh, kaf and waw with their Persian equivalents, as
+ *     {@link StringUtils#normalizePersian(String)} does.</li>
+ *     <li>{@link Builder#persianDigits()} converts Arabic digits to Persian digits, as
+ *     {@link StringUtils#normalizePersian(String)} does, while {@link Builder#englishDigits()} converts Persian and
+ *     Arabic digits to English digits, as {@link StringUtils#toEnglishDigits(String)} does.</li>
+ *     <li>{@link Builder#removeDiacritics()} removes short vowels and Tanvin.</li>
+ *     <li>{@link Builder#removeTatweel()} removes tatweel ({@code U+0640}).</li>
+ *     <li>{@link Builder#cleanSpaces()} collapses each run of whitespace and zero-width non-joiners (ZWNJ) within a
+ *     line into a single space, or a single ZWNJ if the run has no whitespace, and removes them at the start and end
+ *     of lines. Line feeds and carriage returns are kept.</li>
+ * </ul>
+ * Instances are immutable and thread-safe. Large texts can be normalized incrementally with
+ * {@link PersianNormalizingReader}, {@link PersianNormalizingWriter} and {@link PersianNormalizingTransformer}.
+ */
+@SuppressWarnings("UnnecessaryUnicodeEscape")
+public final class PersianNormalizer {
+
+    static final char ZWNJ = '\u200C';
+    private static final char ARABIC_BLOCK_START = '\u0600';
+    private static final char ARABIC_BLOCK_END = '\u06FF';
+    private static final char PRESENTATION_FORMS_START = '\uFB50';
+    private static final char PRESENTATION_FORMS_END = '\uFEFF';
+    private static final int PRESENTATION_FORMS_OFFSET = ARABIC_BLOCK_END - ARABIC_BLOCK_START + 1;
+    private static final char REMOVED = '\uFFFF';
+    private static final char EXPANDED = '\uFFFE';
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * The translation of the characters of the Arabic block followed by the presentation forms: the character
+     * itself if unchanged, its replacement, {@link #REMOVED} or {@link #EXPANDED}.
+     */
+    private final char[] table;
+
+    /**
+     * The multi-character replacements of the characters marked {@link #EXPANDED} in the {@link #table}.
+     */
+    private final String[] expansions;
+    private final boolean cleanSpaces;
+
+    /**
+     * Constructs a new {@code PersianNormalizer} from the steps selected in the given builder.
+     *
+     * @param builder the builder holding the selected steps
+     */
+    private PersianNormalizer(Builder builder) {
+        int size = PRESENTATION_FORMS_OFFSET + PRESENTATION_FORMS_END - PRESENTATION_FORMS_START + 1;
+        this.table = new char[size];
+        this.expansions = new String[size];
+        this.cleanSpaces = builder.cleanSpaces;
+        for (int index = 0; index < size; index++) {
+            char ch = index < PRESENTATION_FORMS_OFFSET ? (char) (ARABIC_BLOCK_START + index) :
+                    (char) (PRESENTATION_FORMS_START + index - PRESENTATION_FORMS_OFFSET);
+            String translation = builder.translate(ch);
+            if (translation.isEmpty()) {
+                table[index] = REMOVED;
+            } else if (translation.length() == 1) {
+                table[index] = translation.charAt(0);
+            } else {
+                table[index] = EXPANDED;
+                expansions[index] = translation;
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link Builder} with no step selected.
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the index of the given character in the translation table.
+     *
+     * @param ch the character
+     * @return the index of the character, or {@code -1} if the character is not translated
+     */
+    private static int indexOf(char ch) {
+        if (ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END) {
+            return ch - ARABIC_BLOCK_START;
+        } else if (ch >= PRESENTATION_FORMS_START && ch <= PRESENTATION_FORMS_END) {
+            return PRESENTATION_FORMS_OFFSET + ch - PRESENTATION_FORMS_START;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the given character is a line terminator kept by the space cleanup.
+     *
+     * @param ch the character to check
+     * @return {@code true} if the character is a line feed or carriage return
+     */
+    private static boolean isLineTerminator(char ch) {
+        return ch == '\n' || ch == '\r';
+    }
+
+    /**
+     * Checks if the given character is collapsed by the space cleanup.
+     *
+     * @param ch the character to check
+     * @return {@code true} if the character is whitespace or a space separator, other than a line terminator
+     */
+    private static boolean isSpace(char ch) {
+        return Character.isWhitespace(ch) || Character.isSpaceChar(ch);
+    }
+
+    /**
+     * Normalizes the given string.
+     * <p>
+     * If the string is already normalized, it is returned itself without allocation.
+     *
+     * @param input the string to normalize
+     * @return the normalized string, or an empty string if the input is {@code null}
+     */
+    public String normalize(String input) {
+        if (input == null) {
+            return "";
+        }
+        if (isNormalized(input)) {
+            return input;
+        }
+        try {
+            return normalize(input, new StringBuilder(input.length())).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the normalization of the given character sequence to the given {@link Appendable}.
+     *
+     * @param input  the character sequence to normalize
+     * @param output the {@link Appendable} receiving the normalized characters
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IOException if appending to the output fails
+     */
+    public <A extends Appendable> A normalize(CharSequence input, A output) throws IOException {
+        State state = new State();
+        for (int i = 0; i < input.length(); i++) {
+            translate(input.charAt(i), state, output);
+        }
+        return output;
+    }
+
+    /**
+     * Reads the given {@link Reader} to its end and appends the normalization of its characters to the given
+     * {@link Appendable}. The reader is not closed.
+     *
+     * @param reader the {@link Reader} to normalize
+     * @param output the {@link Appendable} receiving the normalized characters
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IOException if reading from the reader or appending to the output fails
+     */
+    public <A extends Appendable> A normalize(Reader reader, A output) throws IOException {
+        State state = new State();
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        int count;
+        while ((count = reader.read(buffer)) >= 0) {
+            for (int i = 0; i < count; i++) {
+                translate(buffer[i], state, output);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Checks if the given character sequence is already normalized, i.e. its normalization is equal to itself.
+     *
+     * @param input the character sequence to check
+     * @return {@code true} if the character sequence is normalized, otherwise {@code false}
+     */
+    public boolean isNormalized(CharSequence input) {
+        boolean lineStart = true;
+        char previous = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char ch = input.charAt(i);
+            int index = indexOf(ch);
+            if (index >= 0 && table[index] != ch) {
+                return false;
+            }
+            if (!cleanSpaces) {
+                continue;
+            }
+            boolean afterSeparator = previous == ' ' || previous == ZWNJ;
+            if (isLineTerminator(ch)) {
+                if (!lineStart && afterSeparator) {
+                    return false;
+                }
+                lineStart = true;
+                continue;
+            }
+            if (ch == ' ' || ch == ZWNJ) {
+                if (lineStart || afterSeparator) {
+                    return false;
+                }
+            } else if (isSpace(ch)) {
+                return false;
+            }
+            lineStart = false;
+            previous = ch;
+        }
+        return lineStart || previous != ' ' && previous != ZWNJ;
+    }
+
+    /**
+     * Translates the given character through the translation table and emits the result.
+     *
+     * @param ch     the character to translate
+     * @param state  the state of the normalization
+     * @param output the {@link Appendable} receiving the normalized characters
+     * @throws IOException if appending to the output fails
+     */
+    void translate(char ch, State state, Appendable output) throws IOException {
+        int index = indexOf(ch);
+        if (index < 0) {
+            emit(ch, state, output);
+            return;
+        }
+        char translation = table[index];
+        if (translation == EXPANDED) {
+            String expansion = expansions[index];
+            for (int i = 0; i < expansion.length(); i++) {
+                emit(expansion.charAt(i), state, output);
+            }
+        } else if (translation != REMOVED) {
+            emit(translation, state, output);
+        }
+    }
+
+    /**
+     * Emits the given translated character, applying the space cleanup if selected.
+     *
+     * @param ch     the translated character
+     * @param state  the state of the normalization
+     * @param output the {@link Appendable} receiving the normalized characters
+     * @throws IOException if appending to the output fails
+     */
+    private void emit(char ch, State state, Appendable output) throws IOException {
+        if (!cleanSpaces) {
+            output.append(ch);
+            return;
+        }
+        if (isLineTerminator(ch)) {
+            state.pendingSeparator = 0;
+            state.lineStart = true;
+            output.append(ch);
+        } else if (ch == ZWNJ) {
+            if (!state.lineStart && state.pendingSeparator == 0) {
+                state.pendingSeparator = ZWNJ;
+            }
+        } else if (isSpace(ch)) {
+            if (!state.lineStart) {
+                state.pendingSeparator = ' ';
+            }
+        } else {
+            if (state.pendingSeparator != 0) {
+                output.append(state.pendingSeparator);
+                state.pendingSeparator = 0;
+            }
+            state.lineStart = false;
+            output.append(ch);
+        }
+    }
+
+    /**
+     * The mutable state of a normalization, carried across the characters of a text so that it can be normalized
+     * in chunks.
+     */
+    static final class State {
+
+        /**
+         * The space or ZWNJ to emit before the next character of the line, or {@code 0} if none.
+         */
+        char pendingSeparator;
+        boolean lineStart = true;
+
+    }
+
+    /**
+     * The {@code Builder} class selects the steps of a {@link PersianNormalizer}. Steps are applied in the order
+     * documented by {@link PersianNormalizer}, regardless of the order in which they are selected.
+     */
+    public static final class Builder {
+
+        private boolean foldPresentationForms;
+        private boolean arabicLetters;
+        private boolean persianDigits;
+        private boolean englishDigits;
+        private boolean removeDiacritics;
+        private boolean removeTatweel;
+        private boolean cleanSpaces;
+
+        /**
+         * Private constructor, use {@link PersianNormalizer#builder()}.
+         */
+        private Builder() {
+
+        }
+
+        /**
+         * Selects the folding of Arabic presentation forms into their base letters.
+         *
+         * @return this {@code Builder}
+         */
+        public Builder foldPresentationForms() {
+            foldPresentationForms = true;
+            return this;
+        }
+
+        /**
+         * Selects the replacement of Arabic yeh, kaf and waw with their Persian equivalents.
+         *
+         * @return this {@code Builder}
+         */
+        public Builder arabicLetters() {
+            arabicLetters = true;
+            return this;
+        }
+
+        /**
+         * Selects the conversion of Arabic digits to Persian digits, replacing {@link #englishDigits()}.
+         *
+         * @return this {@code Builder}
+         */
+        public Builder persianDigits() {
+            persianDigits = true;
+            englishDigits = false;
+            return this;
+        }
+
+        /**
+         * Selects the conversion of Persian and Arabic digits to English digits, replacing {@link #persianDigits()}.
+         *
+         * @return this {@code Builder}
+         */
+        public Builder englishDigits() {
+            englishDigits = true;
+            persianDigits = false;
+            return this;
+        }
+
+        /**
+         * Selects the removal of short vowels and Tanvin.
+         *
+         * @return this {@code Builder}
+         */
+        public Builder removeDiacritics() {
+            removeDiacritics = true;
+            return this;
+        }
+
+        /**
+         * Selects the removal of tatweel.
+         *
+         * @return this {@code Builder}
+         */
+        public Builder removeTatweel() {
+            removeTatweel = true;
+            return this;
+        }
+
+        /**
+         * Selects the cleanup of whitespace and ZWNJ runs.
+         *
+         * @return this {@code Builder}
+         */
+        public Builder cleanSpaces() {
+            cleanSpaces = true;
+            return this;
+        }
+
+        /**
+         * Compiles the selected steps into a new {@link PersianNormalizer}.
+         *
+         * @return a new {@link PersianNormalizer}
+         */
+        public PersianNormalizer build() {
+            return new PersianNormalizer(this);
+        }
+
+        /**
+         * Applies the selected character steps to the given character.
+         *
+         * @param ch the character to translate
+         * @return the translation of the character, empty if it is removed
+         */
+        private String translate(char ch) {
+            String folded = String.valueOf(ch);
+            if (foldPresentationForms && ch >= PRESENTATION_FORMS_START &&
+                    (ch <= '\uFDFF' || ch >= '\uFE70')) {
+                folded = Normalizer.normalize(folded, Normalizer.Form.NFKC);
+            }
+            StringBuilder translation = new StringBuilder(folded.length());
+            for (int i = 0; i < folded.length(); i++) {
+                char foldedCh = folded.charAt(i);
+                if (arabicLetters && RegexCharacterClass.ARABIC_YEH.matches(foldedCh)) {
+                    foldedCh = 'ی';
+                } else if (arabicLetters && RegexCharacterClass.ARABIC_KAF.matches(foldedCh)) {
+                    foldedCh = 'ک';
+                } else if (arabicLetters && RegexCharacterClass.ARABIC_WAW.matches(foldedCh)) {
+                    foldedCh = 'و';
+                } else if (persianDigits && RegexCharacterClass.ARABIC_NUMERIC.matches(foldedCh)) {
+                    foldedCh = (char) (foldedCh - '\u0660' + '\u06F0');
+                } else if (englishDigits && foldedCh >= ARABIC_BLOCK_START &&
+                        StringUtils.getDigitValue(foldedCh) >= 0) {
+                    foldedCh = (char) ('0' + StringUtils.getDigitValue(foldedCh));
+                } else if (removeDiacritics && (RegexCharacterClass.PERSIAN_ARABIC_SHORT_VOWEL.matches(foldedCh) ||
+                        RegexCharacterClass.PERSIAN_ARABIC_TANVIN.matches(foldedCh))) {
+                    continue;
+                } else if (removeTatweel && foldedCh == '\u0640') {
+                    continue;
+                }
+                translation.append(foldedCh);
+            }
+            return translation.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * The {@code PersianNormalizingReader} class is a {@link FilterReader} normalizing the characters read from the
+ * underlying {@link Reader} with a {@link PersianNormalizer}, so that large texts can be normalized without being
+ * loaded into memory.
+ * <p>
+ * Characters are read in chunks into bounded buffers. The normalization state, e.g. a pending space, is carried
+ * across chunks, so the result is the same as normalizing the whole text at once. Marking is not supported. This
+ * class is not thread-safe.
+ */
+public final class PersianNormalizingReader extends FilterReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final PersianNormalizer normalizer;
+    private final PersianNormalizer.State state = new PersianNormalizer.State();
+    private final char[] inputBuffer = new char[BUFFER_SIZE];
+    private final CharSink outputBuffer = new CharSink(BUFFER_SIZE);
+    private final char[] singleChar = new char[1];
+    private boolean endOfStream;
+
+    /**
+     * Constructs a new {@code PersianNormalizingReader} normalizing the given {@link Reader}.
+     *
+     * @param in         the underlying {@link Reader}
+     * @param normalizer the {@link PersianNormalizer} to apply
+     */
+    public PersianNormalizingReader(Reader in, PersianNormalizer normalizer) {
+        super(in);
+        if (normalizer == null) {
+            throw new IllegalArgumentException("Normalizer is null");
+        }
+        this.normalizer = normalizer;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(singleChar, 0, 1) < 0 ? -1 : singleChar[0];
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || off > cbuf.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (outputBuffer.available() == 0) {
+            if (endOfStream) {
+                return -1;
+            }
+            fill();
+        }
+        return outputBuffer.drain(cbuf, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n < 0) {
+            throw new IllegalArgumentException("Skip value is negative");
+        }
+        char[] skipBuffer = new char[(int) Math.min(n, BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int count = read(skipBuffer, 0, (int) Math.min(n - skipped, skipBuffer.length));
+            if (count < 0) {
+                break;
+            }
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return outputBuffer.available() > 0 || !endOfStream && in.ready();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("Mark not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("Reset not supported");
+    }
+
+    /**
+     * Reads the next chunk of the underlying {@link Reader} and normalizes it into the output buffer.
+     *
+     * @throws IOException if reading from the underlying reader fails
+     */
+    private void fill() throws IOException {
+        int count = in.read(inputBuffer, 0, inputBuffer.length);
+        if (count < 0) {
+            endOfStream = true;
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            normalizer.translate(inputBuffer[i], state, outputBuffer);
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+
+/**
+ * The {@code PersianNormalizingTransformer} class normalizes characters from a {@link CharBuffer} into another with a
+ * {@link PersianNormalizer}, for NIO pipelines processing texts in chunks.
+ * <p>
+ * As with a {@link java.nio.charset.CharsetDecoder}, {@link #transform(CharBuffer, CharBuffer)} is called repeatedly
+ * with the next chunks of input, and the normalization state is carried across calls. Characters that do not fit in
+ * the output buffer, e.g. the expansion of a ligature, are kept and written by the next call. This class is not
+ * thread-safe.
+ */
+public final class PersianNormalizingTransformer {
+
+    private static final int BUFFER_SIZE = 64;
+
+    private final PersianNormalizer normalizer;
+    private final CharSink pending = new CharSink(BUFFER_SIZE);
+    private PersianNormalizer.State state = new PersianNormalizer.State();
+
+    /**
+     * Constructs a new {@code PersianNormalizingTransformer} applying the given {@link PersianNormalizer}.
+     *
+     * @param normalizer the {@link PersianNormalizer} to apply
+     */
+    public PersianNormalizingTransformer(PersianNormalizer normalizer) {
+        if (normalizer == null) {
+            throw new IllegalArgumentException("Normalizer is null");
+        }
+        this.normalizer = normalizer;
+    }
+
+    /**
+     * Normalizes as many characters as possible from the given input buffer into the given output buffer.
+     *
+     * @param input  the buffer to read characters from
+     * @param output the buffer to write normalized characters to
+     * @return {@code true} if the input buffer is exhausted and all normalized characters are written, i.e. more
+     * input is needed, or {@code false} if the output buffer is full
+     */
+    public boolean transform(CharBuffer input, CharBuffer output) {
+        try {
+            while (true) {
+                int count = Math.min(pending.available(), output.remaining());
+                output.put(pending.array(), pending.start(), count);
+                pending.consume(count);
+                if (pending.available() > 0) {
+                    return false;
+                }
+                if (!input.hasRemaining()) {
+                    return true;
+                }
+                if (!output.hasRemaining()) {
+                    return false;
+                }
+                normalizer.translate(input.get(), state, pending);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Resets this transformer for a new text, discarding the normalization state and any pending characters.
+     */
+    public void reset() {
+        state = new PersianNormalizer.State();
+        pending.consume(pending.available());
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The {@code PersianNormalizingWriter} class is a {@link FilterWriter} normalizing the characters written to it with
+ * a {@link PersianNormalizer} before writing them to the underlying {@link Writer}, so that large texts can be
+ * normalized while they are produced.
+ * <p>
+ * The normalization state, e.g. a pending space, is carried across writes, so the result is the same as normalizing
+ * the whole text at once; a trailing space or ZWNJ is only dropped, as at the end of a line, when the writer is
+ * closed. This class is not thread-safe.
+ */
+public final class PersianNormalizingWriter extends FilterWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final PersianNormalizer normalizer;
+    private final PersianNormalizer.State state = new PersianNormalizer.State();
+    private final CharSink outputBuffer = new CharSink(BUFFER_SIZE);
+
+    /**
+     * Constructs a new {@code PersianNormalizingWriter} normalizing into the given {@link Writer}.
+     *
+     * @param out        the underlying {@link Writer}
+     * @param normalizer the {@link PersianNormalizer} to apply
+     */
+    public PersianNormalizingWriter(Writer out, PersianNormalizer normalizer) {
+        super(out);
+        if (normalizer == null) {
+            throw new IllegalArgumentException("Normalizer is null");
+        }
+        this.normalizer = normalizer;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        normalizer.translate((char) c, state, outputBuffer);
+        drain();
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || off > cbuf.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = off; i < off + len; i++) {
+            normalizer.translate(cbuf[i], state, outputBuffer);
+            if (outputBuffer.available() >= BUFFER_SIZE) {
+                drain();
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || off > str.length() - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = off; i < off + len; i++) {
+            normalizer.translate(str.charAt(i), state, outputBuffer);
+            if (outputBuffer.available() >= BUFFER_SIZE) {
+                drain();
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Writes the normalized characters of the output buffer to the underlying {@link Writer}.
+     *
+     * @throws IOException if writing to the underlying writer fails
+     */
+    private void drain() throws IOException {
+        int count = outputBuffer.available();
+        if (count > 0) {
+            out.write(outputBuffer.array(), outputBuffer.start(), count);
+            outputBuffer.consume(count);
+        }
+    }
+
+}
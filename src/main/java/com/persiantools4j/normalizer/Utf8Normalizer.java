@@ -0,0 +1,342 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import com.persiantools4j.util.StringUtils;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The {@code Utf8Normalizer} class provides byte-level counterparts of {@link StringUtils#toEnglishDigits(String)}
+ * and {@link StringUtils#normalizePersian(String)} operating directly on UTF-8 encoded text, without decoding it.
+ * <p>
+ * Only the two-byte sequences of the Arabic block ({@code U+0600} to {@code U+06FF}, lead bytes {@code 0xD8} to
+ * {@code 0xDB}) are translated, through tables derived from the {@link StringUtils} methods; runs of ASCII bytes and
+ * all other sequences are copied as they are. Unlike the {@link StringUtils} methods, the input is not trimmed. As
+ * no translation makes a sequence longer, the output is never longer than the input and the translation can be done
+ * in place. Runs of ASCII bytes are skipped as a whole and copied in bulk.
+ */
+@SuppressWarnings("UnnecessaryUnicodeEscape")
+public final class Utf8Normalizer {
+
+    private static final char ARABIC_BLOCK_START = '\u0600';
+    private static final int ARABIC_BLOCK_SIZE = 0x100;
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+    private static final char[] ENGLISH_DIGITS_TABLE = new char[ARABIC_BLOCK_SIZE];
+    private static final char[] PERSIAN_TABLE = new char[ARABIC_BLOCK_SIZE];
+
+    static {
+        for (int i = 0; i < ARABIC_BLOCK_SIZE; i++) {
+            char ch = (char) (ARABIC_BLOCK_START + i);
+            int digit = StringUtils.getDigitValue(ch);
+            ENGLISH_DIGITS_TABLE[i] = digit >= 0 ? (char) ('0' + digit) : ch;
+            PERSIAN_TABLE[i] = StringUtils.normalizePersian(ch);
+        }
+    }
+
+    /**
+     * Private constructor to prevent direct instantiation.
+     */
+    private Utf8Normalizer() {
+
+    }
+
+    /**
+     * Converts all Persian and Arabic digits of the given UTF-8 text to English digits.
+     *
+     * @param utf8 the UTF-8 encoded text
+     * @return the converted UTF-8 text, or the given array itself if it contains no Persian or Arabic digit
+     */
+    public static byte[] toEnglishDigits(byte[] utf8) {
+        return translate(ENGLISH_DIGITS_TABLE, utf8);
+    }
+
+    /**
+     * Converts all Persian and Arabic digits of the given range of UTF-8 text to English digits into the given array,
+     * which may be the source array at the same offset to convert in place.
+     *
+     * @param src       the array holding the UTF-8 encoded text
+     * @param srcOffset the index of the first byte of the text
+     * @param length    the number of bytes of the text
+     * @param dst       the array receiving the converted text, with at least {@code length} bytes from
+     *                  {@code dstOffset}
+     * @param dstOffset the index of the array to start writing at
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+     */
+    public static int toEnglishDigits(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        return translate(ENGLISH_DIGITS_TABLE, src, srcOffset, length, dst, dstOffset);
+    }
+
+    /**
+     * Converts all Persian and Arabic digits of the remaining UTF-8 text of the source buffer to English digits into
+     * the destination buffer.
+     * <p>
+     * A two-byte sequence split at the end of the source buffer is left in it, so that it can be completed by the
+     * next chunk of text.
+     *
+     * @param src the buffer holding the UTF-8 encoded text
+     * @param dst the buffer receiving the converted text, with at least as many bytes remaining as the source
+     * @throws BufferOverflowException if the destination buffer has less remaining bytes than the source buffer
+     */
+    public static void toEnglishDigits(ByteBuffer src, ByteBuffer dst) {
+        translate(ENGLISH_DIGITS_TABLE, src, dst);
+    }
+
+    /**
+     * Converts Arabic yeh, kaf, waw and digits of the given UTF-8 text to their Persian equivalents.
+     *
+     * @param utf8 the UTF-8 encoded text
+     * @return the converted UTF-8 text, or the given array itself if nothing needs to be converted
+     */
+    public static byte[] normalizePersian(byte[] utf8) {
+        return translate(PERSIAN_TABLE, utf8);
+    }
+
+    /**
+     * Converts Arabic yeh, kaf, waw and digits of the given range of UTF-8 text to their Persian equivalents into
+     * the given array, which may be the source array at the same offset to convert in place.
+     *
+     * @param src       the array holding the UTF-8 encoded text
+     * @param srcOffset the index of the first byte of the text
+     * @param length    the number of bytes of the text
+     * @param dst       the array receiving the converted text, with at least {@code length} bytes from
+     *                  {@code dstOffset}
+     * @param dstOffset the index of the array to start writing at
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+     */
+    public static int normalizePersian(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        return translate(PERSIAN_TABLE, src, srcOffset, length, dst, dstOffset);
+    }
+
+    /**
+     * Converts Arabic yeh, kaf, waw and digits of the remaining UTF-8 text of the source buffer to their Persian
+     * equivalents into the destination buffer.
+     * <p>
+     * A two-byte sequence split at the end of the source buffer is left in it, so that it can be completed by the
+     * next chunk of text.
+     *
+     * @param src the buffer holding the UTF-8 encoded text
+     * @param dst the buffer receiving the converted text, with at least as many bytes remaining as the source
+     * @throws BufferOverflowException if the destination buffer has less remaining bytes than the source buffer
+     */
+    public static void normalizePersian(ByteBuffer src, ByteBuffer dst) {
+        translate(PERSIAN_TABLE, src, dst);
+    }
+
+    /**
+     * Checks if the given bytes are the lead byte and continuation byte of a two-byte sequence of the Arabic block.
+     *
+     * @param lead         the lead byte
+     * @param continuation the continuation byte
+     * @return {@code true} if the bytes encode a character from {@code U+0600} to {@code U+06FF}
+     */
+    private static boolean isArabicBlockSequence(byte lead, byte continuation) {
+        return (lead & 0xFC) == 0xD8 && (continuation & 0xC0) == 0x80;
+    }
+
+    /**
+     * Returns the index in a translation table of the character encoded by the given two-byte sequence of the Arabic
+     * block.
+     *
+     * @param lead         the lead byte
+     * @param continuation the continuation byte
+     * @return the index of the character
+     */
+    private static int indexOf(byte lead, byte continuation) {
+        return (lead & 0x03) << 6 | continuation & 0x3F;
+    }
+
+    /**
+     * Translates the given UTF-8 text, returning the array itself if nothing changes.
+     *
+     * @param table the translation table of the Arabic block
+     * @param utf8  the UTF-8 encoded text
+     * @return the translated UTF-8 text
+     */
+    private static byte[] translate(char[] table, byte[] utf8) {
+        int last = utf8.length - 1;
+        int i = 0;
+        while ((i = skipAscii(utf8, i, last)) < last) {
+            byte lead = utf8[i];
+            if (isArabicBlockSequence(lead, utf8[i + 1])) {
+                int index = indexOf(lead, utf8[i + 1]);
+                if (table[index] != ARABIC_BLOCK_START + index) {
+                    byte[] result = new byte[utf8.length];
+                    System.arraycopy(utf8, 0, result, 0, i);
+                    int length = i + translate(table, utf8, i, utf8.length - i, result, i);
+                    if (length == result.length) {
+                        return result;
+                    }
+                    byte[] trimmed = new byte[length];
+                    System.arraycopy(result, 0, trimmed, 0, length);
+                    return trimmed;
+                }
+                i += 2;
+            } else {
+                i++;
+            }
+        }
+        return utf8;
+    }
+
+    /**
+     * Translates the given range of UTF-8 text into the given array.
+     *
+     * @param table     the translation table of the Arabic block
+     * @param src       the array holding the UTF-8 encoded text
+     * @param srcOffset the index of the first byte of the text
+     * @param length    the number of bytes of the text
+     * @param dst       the array receiving the translated text
+     * @param dstOffset the index of the array to start writing at
+     * @return the number of bytes written
+     */
+    private static int translate(char[] table, byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+        if (srcOffset < 0 || length < 0 || srcOffset > src.length - length || dstOffset < 0 ||
+                dstOffset > dst.length - length) {
+            throw new IndexOutOfBoundsException("Invalid source or destination range");
+        }
+        int end = srcOffset + length;
+        int i = srcOffset;
+        int o = dstOffset;
+        while (i < end) {
+            int runEnd = skipAscii(src, i, end);
+            if (runEnd > i) {
+                System.arraycopy(src, i, dst, o, runEnd - i);
+                o += runEnd - i;
+                i = runEnd;
+                continue;
+            }
+            byte lead = src[i];
+            if (i + 1 < end && isArabicBlockSequence(lead, src[i + 1])) {
+                char translation = table[indexOf(lead, src[i + 1])];
+                if (translation < 0x80) {
+                    dst[o++] = (byte) translation;
+                } else {
+                    dst[o++] = (byte) (0xC0 | translation >> 6);
+                    dst[o++] = (byte) (0x80 | translation & 0x3F);
+                }
+                i += 2;
+            } else {
+                dst[o++] = lead;
+                i++;
+            }
+        }
+        return o - dstOffset;
+    }
+
+    /**
+     * Translates the remaining UTF-8 text of the source buffer into the destination buffer.
+     * <p>
+     * Buffers backed by accessible arrays are translated through their arrays. Otherwise, runs of ASCII bytes are
+     * found eight bytes at a time and copied with a bulk {@link ByteBuffer#put(ByteBuffer)}.
+     *
+     * @param table the translation table of the Arabic block
+     * @param src   the buffer holding the UTF-8 encoded text
+     * @param dst   the buffer receiving the translated text
+     */
+    private static void translate(char[] table, ByteBuffer src, ByteBuffer dst) {
+        if (dst.remaining() < src.remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (src.hasArray() && dst.hasArray()) {
+            int length = src.remaining();
+            if (length > 0 && (src.get(src.limit() - 1) & 0xFC) == 0xD8) {
+                length--;
+            }
+            int written = translate(table, src.array(), src.arrayOffset() + src.position(), length, dst.array(),
+                    dst.arrayOffset() + dst.position());
+            src.position(src.position() + length);
+            dst.position(dst.position() + written);
+            return;
+        }
+        ByteBuffer run = null;
+        while (src.hasRemaining()) {
+            int position = src.position();
+            int runEnd = skipAscii(src, position, src.limit());
+            if (runEnd > position) {
+                if (run == null) {
+                    run = src.duplicate();
+                }
+                run.limit(runEnd);
+                run.position(position);
+                dst.put(run);
+                src.position(runEnd);
+                continue;
+            }
+            byte lead = src.get();
+            if ((lead & 0xFC) != 0xD8) {
+                dst.put(lead);
+                continue;
+            }
+            if (!src.hasRemaining()) {
+                src.position(src.position() - 1);
+                return;
+            }
+            byte continuation = src.get(src.position());
+            if (!isArabicBlockSequence(lead, continuation)) {
+                dst.put(lead);
+                continue;
+            }
+            src.get();
+            char translation = table[indexOf(lead, continuation)];
+            if (translation < 0x80) {
+                dst.put((byte) translation);
+            } else {
+                dst.put((byte) (0xC0 | translation >> 6)).put((byte) (0x80 | translation & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first non-ASCII byte of the given range of an array.
+     *
+     * @param bytes the array
+     * @param start the index to start from
+     * @param end   the index to stop at, exclusive
+     * @return the index of the first non-ASCII byte, or {@code end} if there is none
+     */
+    private static int skipAscii(byte[] bytes, int start, int end) {
+        int i = start;
+        while (i < end && bytes[i] >= 0) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the first non-ASCII byte of the given range of a buffer, reading eight bytes at a time.
+     *
+     * @param buffer the buffer
+     * @param start  the absolute index to start from
+     * @param end    the absolute index to stop at, exclusive
+     * @return the index of the first non-ASCII byte, or {@code end} if there is none
+     */
+    private static int skipAscii(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        while (i <= end - Long.BYTES && (buffer.getLong(i) & NON_ASCII_MASK) == 0) {
+            i += Long.BYTES;
+        }
+        while (i < end && buffer.get(i) >= 0) {
+            i++;
+        }
+        return i;
+    }
+
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.number;
+
+import com.persiantools4j.enums.TokenType;
+import com.persiantools4j.exception.ParseException;
+import com.persiantools4j.tokenizer.PersianTokenizer;
+import com.persiantools4j.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+/**
+ * The {@code PersianNumberWords} class converts numbers to Persian words and back, e.g. {@code 1200000} to
+ * {@code یک میلیون و دویست هزار}.
+ * <p>
+ * Numbers are written into an {@link Appendable} straight from static word tables, three digits at a time, without
+ * building intermediate strings. Words are parsed in a single pass over the tokens of a {@link PersianTokenizer},
+ * comparing them with the word tables under the rules of {@link StringUtils#normalizePersian(String)}, so Arabic yeh
+ * and kaf are accepted. The parser also accepts digit tokens, e.g. {@code ۲۵۰ هزار}, the optional conjunction
+ * {@code و} between the parts of a number and a leading {@code منفی} for negative numbers.
+ */
+@SuppressWarnings("UnnecessaryUnicodeEscape")
+public final class PersianNumberWords {
+
+    private static final String ZERO = "صفر";
+    private static final String NEGATIVE = "منفی";
+    private static final String AND = "و";
+    private static final String SEPARATOR = " و ";
+    private static final String DECIMAL_POINT = " ممیز ";
+    private static final char ORDINAL_SUFFIX = 'م';
+    private static final char ZWNJ = '\u200C';
+    private static final String[] ONES = {"", "یک", "دو", "سه", "چهار", "پنج", "شش", "هفت", "هشت", "نه"};
+    private static final String[] TEENS = {"ده", "یازده", "دوازده", "سیزده", "چهارده", "پانزده", "شانزده", "هفده",
+            "هجده", "نوزده"};
+    private static final String[] TENS = {"", "", "بیست", "سی", "چهل", "پنجاه", "شصت", "هفتاد", "هشتاد", "نود"};
+    private static final String[] HUNDREDS = {"", "صد", "دویست", "سیصد", "چهارصد", "پانصد", "ششصد", "هفتصد", "هشتصد",
+            "نهصد"};
+    private static final String[] SCALES = {"", "هزار", "میلیون", "میلیارد", "تریلیون", "کوادریلیون", "کوینتیلیون"};
+    private static final long[] SCALE_VALUES = {1L, 1_000L, 1_000_000L, 1_000_000_000L, 1_000_000_000_000L,
+            1_000_000_000_000_000L, 1_000_000_000_000_000_000L};
+    private static final int MAX_FRACTION_DIGITS = 18;
+    private static final int TOKEN_BUFFER_SIZE = 3 * 16;
+    private static final PersianTokenizer TOKENIZER = new PersianTokenizer();
+
+    /**
+     * The words recognized by the parser and their values, including common alternative spellings.
+     */
+    private static final String[] PARSED_WORDS;
+    private static final long[] PARSED_VALUES;
+
+    static {
+        String[] alternatives = {"یکصد", "هیجده"};
+        long[] alternativeValues = {100, 18};
+        int size = 1 + 9 + TEENS.length + 8 + 9 + SCALES.length - 1 + alternatives.length;
+        PARSED_WORDS = new String[size];
+        PARSED_VALUES = new long[size];
+        int index = 0;
+        PARSED_WORDS[index++] = ZERO;
+        for (int i = 1; i < 10; i++) {
+            PARSED_WORDS[index] = ONES[i];
+            PARSED_VALUES[index++] = i;
+            PARSED_WORDS[index] = HUNDREDS[i];
+            PARSED_VALUES[index++] = i * 100L;
+            if (i >= 2) {
+                PARSED_WORDS[index] = TENS[i];
+                PARSED_VALUES[index++] = i * 10L;
+            }
+        }
+        for (int i = 0; i < TEENS.length; i++) {
+            PARSED_WORDS[index] = TEENS[i];
+            PARSED_VALUES[index++] = 10L + i;
+        }
+        for (int i = 1; i < SCALES.length; i++) {
+            PARSED_WORDS[index] = SCALES[i];
+            PARSED_VALUES[index++] = SCALE_VALUES[i];
+        }
+        for (int i = 0; i < alternatives.length; i++) {
+            PARSED_WORDS[index] = alternatives[i];
+            PARSED_VALUES[index++] = alternativeValues[i];
+        }
+    }
+
+    /**
+     * Private constructor to prevent direct instantiation.
+     */
+    private PersianNumberWords() {
+
+    }
+
+    /**
+     * Converts the given number to Persian words.
+     *
+     * @param number the number to convert
+     * @return the Persian words of the number, e.g. {@code یک میلیون و دویست هزار}
+     */
+    public static String toWords(long number) {
+        try {
+            return toWords(number, new StringBuilder()).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts the given number to Persian words, appending them to the given {@link Appendable}.
+     *
+     * @param number the number to convert
+     * @param output the {@link Appendable} to append the words to
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IOException              if an I/O error occurs while appending
+     * @throws IllegalArgumentException if the {@link Appendable} is {@code null}
+     */
+    public static <A extends Appendable> A toWords(long number, A output) throws IOException {
+        if (output == null) {
+            throw new IllegalArgumentException("Output is null");
+        }
+        if (number == 0) {
+            output.append(ZERO);
+            return output;
+        }
+        if (number < 0) {
+            output.append(NEGATIVE).append(' ');
+        }
+        appendMagnitude(number, output);
+        return output;
+    }
+
+    /**
+     * Converts the given decimal number to Persian words, e.g. {@code 12.5} to {@code دوازده ممیز پنج دهم}.
+     *
+     * @param number the number to convert
+     * @return the Persian words of the number
+     * @throws IllegalArgumentException if the number is {@code null} or out of range
+     * @see #toWords(BigDecimal, Appendable)
+     */
+    public static String toWords(BigDecimal number) {
+        try {
+            return toWords(number, new StringBuilder()).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts the given decimal number to Persian words, appending them to the given {@link Appendable}.
+     * <p>
+     * The fractional part is written as a number of tenths, hundredths, thousandths and so on, e.g. {@code 0.25} as
+     * {@code بیست و پنج صدم}, after the integer part and the word {@code ممیز} if the integer part is not zero.
+     *
+     * @param number the number to convert
+     * @param output the {@link Appendable} to append the words to
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IOException              if an I/O error occurs while appending
+     * @throws IllegalArgumentException if the number or the {@link Appendable} is {@code null}, the integer part of
+     *                                  the number does not fit in a {@code long} or the number has more than 18
+     *                                  fractional digits
+     */
+    public static <A extends Appendable> A toWords(BigDecimal number, A output) throws IOException {
+        if (number == null || output == null) {
+            throw new IllegalArgumentException("Number or output is null");
+        }
+        BigDecimal magnitude = number.abs().stripTrailingZeros();
+        int scale = Math.max(magnitude.scale(), 0);
+        if (magnitude.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0 || scale > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("Number is out of range: " + number);
+        }
+        long integerPart = magnitude.longValue();
+        if (scale == 0) {
+            return toWords(number.signum() < 0 ? -integerPart : integerPart, output);
+        }
+        long fractionPart = magnitude.subtract(BigDecimal.valueOf(integerPart)).movePointRight(scale).longValueExact();
+        if (number.signum() < 0) {
+            output.append(NEGATIVE).append(' ');
+        }
+        if (integerPart != 0) {
+            appendMagnitude(integerPart, output);
+            output.append(DECIMAL_POINT);
+        }
+        appendMagnitude(fractionPart, output);
+        output.append(' ');
+        if (scale % 3 != 0) {
+            output.append(scale % 3 == 1 ? TEENS[0] : HUNDREDS[1]);
+            if (scale >= 3) {
+                output.append(' ');
+            }
+        }
+        output.append(SCALES[scale / 3]).append(ORDINAL_SUFFIX);
+        return output;
+    }
+
+    /**
+     * Parses the given Persian words into a number, e.g. {@code یک میلیون و دویست هزار} to {@code 1200000}.
+     *
+     * @param words the words to parse
+     * @return the number of the words
+     * @throws ParseException if the words are {@code null}, empty, not a well-formed number or out of the range of
+     *                        a {@code long}
+     */
+    public static long parse(CharSequence words) {
+        if (words == null || StringUtils.isBlank(words.toString())) {
+            throw new ParseException("Number words are null or empty");
+        }
+        int[] tokens = new int[TOKEN_BUFFER_SIZE];
+        ParseState state = new ParseState();
+        int index = 0;
+        int count;
+        do {
+            count = TOKENIZER.tokenize(words, index, tokens);
+            for (int i = 0; i < count; i++) {
+                int start = tokens[3 * i];
+                int end = tokens[3 * i + 1];
+                if (!state.accept(words, start, end, TokenType.ofCode(tokens[3 * i + 2]))) {
+                    throw new ParseException("Invalid number words: " + words);
+                }
+                index = end;
+            }
+        } while (count == TOKEN_BUFFER_SIZE / 3);
+        if (!state.isComplete()) {
+            throw new ParseException("Invalid number words: " + words);
+        }
+        return state.getValue();
+    }
+
+    /**
+     * Appends the words of the magnitude of the given non-zero number, group of three digits by group.
+     *
+     * @param number the non-zero number
+     * @param output the {@link Appendable} to append the words to
+     * @throws IOException if an I/O error occurs while appending
+     */
+    private static void appendMagnitude(long number, Appendable output) throws IOException {
+        boolean first = true;
+        for (int scale = SCALES.length - 1; scale >= 0; scale--) {
+            int group = (int) Math.abs(number / SCALE_VALUES[scale] % 1000);
+            if (group == 0) {
+                continue;
+            }
+            if (!first) {
+                output.append(SEPARATOR);
+            }
+            appendGroup(group, output);
+            if (scale > 0) {
+                output.append(' ').append(SCALES[scale]);
+            }
+            first = false;
+        }
+    }
+
+    /**
+     * Appends the words of the given group of three digits.
+     *
+     * @param group  the group, from 1 to 999
+     * @param output the {@link Appendable} to append the words to
+     * @throws IOException if an I/O error occurs while appending
+     */
+    private static void appendGroup(int group, Appendable output) throws IOException {
+        int hundreds = group / 100;
+        int rest = group % 100;
+        if (hundreds > 0) {
+            output.append(HUNDREDS[hundreds]);
+            if (rest > 0) {
+                output.append(SEPARATOR);
+            }
+        }
+        if (rest >= 20) {
+            output.append(TENS[rest / 10]);
+            if (rest % 10 > 0) {
+                output.append(SEPARATOR).append(ONES[rest % 10]);
+            }
+        } else if (rest >= 10) {
+            output.append(TEENS[rest - 10]);
+        } else if (rest > 0) {
+            output.append(ONES[rest]);
+        }
+    }
+
+    /**
+     * Finds the value of the word in the given range of a text, ignoring zero-width non-joiners and comparing the
+     * characters under the rules of {@link StringUtils#normalizePersian(String)}.
+     *
+     * @param text  the text
+     * @param start the start index of the word
+     * @param end   the end index of the word, exclusive
+     * @return the value of the word, or {@code -1} if it is not a number word
+     */
+    private static long findValue(CharSequence text, int start, int end) {
+        for (int w = 0; w < PARSED_WORDS.length; w++) {
+            if (wordEquals(text, start, end, PARSED_WORDS[w])) {
+                return PARSED_VALUES[w];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the given range of a text is the given word, ignoring zero-width non-joiners and comparing the
+     * characters under the rules of {@link StringUtils#normalizePersian(String)}.
+     *
+     * @param text  the text
+     * @param start the start index of the range
+     * @param end   the end index of the range, exclusive
+     * @param word  the word
+     * @return {@code true} if the range is the word
+     */
+    private static boolean wordEquals(CharSequence text, int start, int end, String word) {
+        int j = 0;
+        for (int i = start; i < end; i++) {
+            char ch = text.charAt(i);
+            if (ch == ZWNJ) {
+                continue;
+            }
+            if (j == word.length() || StringUtils.normalizePersian(ch) != word.charAt(j)) {
+                return false;
+            }
+            j++;
+        }
+        return j == word.length();
+    }
+
+    /**
+     * The state of the parser, fed one token at a time.
+     */
+    private static final class ParseState {
+        private long total;
+        private long current;
+        private long lastScale = Long.MAX_VALUE;
+        private boolean negative;
+        private boolean zero;
+        private boolean started;
+        private boolean pendingAnd;
+
+        /**
+         * Accepts the given token.
+         *
+         * @param text  the text
+         * @param start the start index of the token
+         * @param end   the end index of the token, exclusive
+         * @param type  the type of the token
+         * @return {@code true} if the token is valid at this point of the number
+         */
+        private boolean accept(CharSequence text, int start, int end, TokenType type) {
+            long value;
+            boolean word = type == TokenType.WORD;
+            if (type == TokenType.NUMBER) {
+                value = parseDigits(text, start, end);
+            } else if (type != TokenType.WORD) {
+                return false;
+            } else if (wordEquals(text, start, end, AND)) {
+                boolean valid = started && !pendingAnd && !zero;
+                pendingAnd = true;
+                return valid;
+            } else if (wordEquals(text, start, end, NEGATIVE)) {
+                boolean valid = !started && !negative;
+                negative = true;
+                return valid;
+            } else {
+                value = findValue(text, start, end);
+            }
+            if (value < 0 || zero) {
+                return false;
+            }
+            pendingAnd = false;
+            try {
+                if (value == 0) {
+                    zero = !started;
+                    started = true;
+                    return zero;
+                }
+                started = true;
+                return acceptValue(value, word);
+            } catch (ArithmeticException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Accepts the given non-zero value of a number word or digit token.
+         *
+         * @param value the value
+         * @param word  whether the value is the value of a number word, which is a scale word, e.g. {@code هزار},
+         *              if it is a power of a thousand
+         * @return {@code true} if the value is valid at this point of the number
+         * @throws ArithmeticException if the number overflows a {@code long}
+         */
+        private boolean acceptValue(long value, boolean word) {
+            if (word && isScale(value)) {
+                if (value >= lastScale) {
+                    return false;
+                }
+                total = Math.addExact(total, Math.multiplyExact(current == 0 ? 1 : current, value));
+                current = 0;
+                lastScale = value;
+                return true;
+            }
+            if (value == 100 && current > 0 && current < 10) {
+                current *= 100;
+                return true;
+            }
+            long place = value < 10 ? 10 : value < 100 ? 100 : value < 1000 ? 1000 : 1;
+            if (place == 1 ? current != 0 : current % place != 0) {
+                return false;
+            }
+            current = Math.addExact(current, value);
+            return true;
+        }
+
+        /**
+         * Checks if the number is complete, i.e. it has a value and does not end with a conjunction.
+         *
+         * @return {@code true} if the number is complete
+         */
+        private boolean isComplete() {
+            return started && !pendingAnd;
+        }
+
+        /**
+         * Returns the value of the number.
+         *
+         * @return the value of the number
+         */
+        private long getValue() {
+            long value = total + current;
+            return negative ? -value : value;
+        }
+
+        /**
+         * Checks if the given value is the value of a scale word, e.g. {@code هزار}.
+         *
+         * @param value the value
+         * @return {@code true} if the value is a power of a thousand
+         */
+        private static boolean isScale(long value) {
+            for (int i = 1; i < SCALE_VALUES.length; i++) {
+                if (SCALE_VALUES[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Parses the digits of the given number token, ignoring its separators.
+         *
+         * @param text  the text
+         * @param start the start index of the token
+         * @param end   the end index of the token, exclusive
+         * @return the value of the digits, or {@code -1} if it overflows a {@code long}
+         */
+        private static long parseDigits(CharSequence text, int start, int end) {
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                int digit = StringUtils.getDigitValue(text.charAt(i));
+                if (digit >= 0) {
+                    if (value > (Long.MAX_VALUE - digit) / 10) {
+                        return -1;
+                    }
+                    value = value * 10 + digit;
+                }
+            }
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.slug;
+
+import com.persiantools4j.enums.RegexCharacterClass;
+import com.persiantools4j.transliteration.PersianTransliterator;
+import com.persiantools4j.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * The {@code PersianSlugifier} class generates URL slugs from Persian titles, e.g. {@code سلام دنیا!} to
+ * {@code سلام-دنیا}, or {@code slam-dnya} when transliterated to Latin script.
+ * <p>
+ * Characters are mapped in a single pass through a static table indexed by character: letters and digits are
+ * normalized by {@link StringUtils#normalizePersian(char)} and converted to lower case, whitespace, ZWNJ and the
+ * characters of {@link RegexCharacterClass#PERSIAN_ARABIC_SYMBOL}, {@link RegexCharacterClass#SYMBOL} and other
+ * punctuation are replaced with hyphens, and diacritics, tatweel, apostrophes and other format characters are
+ * dropped. Runs of hyphens are collapsed and leading and trailing hyphens are omitted. Transliterated slugs are
+ * produced by {@link PersianTransliterator#toLatin(CharSequence, Appendable)} appending straight into the mapping,
+ * without an intermediate string, reading ZWNJ as a space so that the parts of a compound word are transliterated as
+ * separate words.
+ */
+@SuppressWarnings("UnnecessaryUnicodeEscape")
+public final class PersianSlugifier {
+
+    private static final char ZWNJ = '\u200C';
+    private static final char TATWEEL = '\u0640';
+    private static final char SEPARATOR = '-';
+    private static final char TABLE_END = '\u0700';
+
+    /**
+     * The slug characters of the characters up to the end of the Arabic block, {@link #SEPARATOR} for separators
+     * and zero for dropped characters.
+     */
+    private static final char[] SLUG_TABLE = createSlugTable();
+
+    /**
+     * Private constructor to prevent direct instantiation.
+     */
+    private PersianSlugifier() {
+
+    }
+
+    /**
+     * Generates the slug of the given text, keeping Persian letters.
+     *
+     * @param text the text
+     * @return the slug, which is empty if the text has no letter or digit
+     * @throws IllegalArgumentException if the text is {@code null}
+     * @see #slugify(CharSequence, boolean, StringBuilder)
+     */
+    public static String slugify(CharSequence text) {
+        return slugify(text, false);
+    }
+
+    /**
+     * Generates the slug of the given text.
+     *
+     * @param text          the text
+     * @param transliterate whether to transliterate Persian text to Latin script
+     * @return the slug, which is empty if the text has no letter or digit
+     * @throws IllegalArgumentException if the text is {@code null}
+     * @see #slugify(CharSequence, boolean, StringBuilder)
+     */
+    public static String slugify(CharSequence text, boolean transliterate) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text is null");
+        }
+        return slugify(text, transliterate, new StringBuilder(text.length())).toString();
+    }
+
+    /**
+     * Generates the slug of the given text, appending it to the given {@link StringBuilder}.
+     *
+     * @param text          the text
+     * @param transliterate whether to transliterate Persian text to Latin script
+     * @param output        the {@link StringBuilder} to append the slug to
+     * @return the given {@link StringBuilder}
+     * @throws IllegalArgumentException if the text is {@code null}
+     */
+    public static StringBuilder slugify(CharSequence text, boolean transliterate, StringBuilder output) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text is null");
+        }
+        SlugSink sink = new SlugSink(output);
+        if (transliterate) {
+            try {
+                PersianTransliterator.toLatin(new ZwnjSeparatedText(text), sink);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            sink.append(text);
+        }
+        return output;
+    }
+
+    /**
+     * Generates the slugs of the given texts lazily, e.g. to re-slug the titles of a collection as they are read.
+     * <p>
+     * The returned stream is parallel if the given stream is.
+     *
+     * @param texts         the texts
+     * @param transliterate whether to transliterate Persian text to Latin script
+     * @return the stream of the slugs, in the order of the texts
+     * @throws IllegalArgumentException if the texts are {@code null}, or when the stream is consumed, if a text is
+     *                                  {@code null}
+     */
+    public static Stream<String> slugifyAll(Stream<? extends CharSequence> texts, boolean transliterate) {
+        if (texts == null) {
+            throw new IllegalArgumentException("Texts are null");
+        }
+        return texts.map(text -> slugify(text, transliterate));
+    }
+
+    /**
+     * Generates the slugs of the given texts in bulk, reusing a single buffer.
+     * <p>
+     * Element {@code i} of {@code slugs} receives the slug of {@code texts[i]}, or {@code null} if it is
+     * {@code null}.
+     *
+     * @param texts         the texts
+     * @param slugs         the array receiving the slugs, at least as long as {@code texts}
+     * @param transliterate whether to transliterate Persian text to Latin script
+     * @return the number of non-empty slugs
+     * @throws IllegalArgumentException if an array is {@code null} or the output array is too short
+     */
+    public static int slugifyAll(CharSequence[] texts, String[] slugs, boolean transliterate) {
+        if (texts == null || slugs == null || slugs.length < texts.length) {
+            throw new IllegalArgumentException("Texts are null or output array is too short");
+        }
+        StringBuilder builder = new StringBuilder();
+        int sluggedCount = 0;
+        for (int i = 0; i < texts.length; i++) {
+            if (texts[i] == null) {
+                slugs[i] = null;
+                continue;
+            }
+            builder.setLength(0);
+            slugs[i] = slugify(texts[i], transliterate, builder).toString();
+            if (!slugs[i].isEmpty()) {
+                sluggedCount++;
+            }
+        }
+        return sluggedCount;
+    }
+
+    /**
+     * Returns the slug character of the given character.
+     *
+     * @param ch the character
+     * @return the slug character, {@link #SEPARATOR} for a separator or zero if the character is dropped
+     */
+    private static char toSlugChar(char ch) {
+        if (ch < TABLE_END) {
+            return SLUG_TABLE[ch];
+        }
+        if (isSymbol(ch)) {
+            return SEPARATOR;
+        }
+        if (Character.getType(ch) == Character.FORMAT || Character.getType(ch) == Character.NON_SPACING_MARK) {
+            return 0;
+        }
+        return Character.isLetterOrDigit(ch) ? Character.toLowerCase(ch) : SEPARATOR;
+    }
+
+    /**
+     * Checks if the given character belongs to {@link RegexCharacterClass#PERSIAN_ARABIC_SYMBOL} or
+     * {@link RegexCharacterClass#SYMBOL}.
+     *
+     * @param ch the character to check
+     * @return {@code true} if the character is a symbol
+     */
+    private static boolean isSymbol(char ch) {
+        return RegexCharacterClass.PERSIAN_ARABIC_SYMBOL.matches(ch) || RegexCharacterClass.SYMBOL.matches(ch);
+    }
+
+    /**
+     * Creates the {@link #SLUG_TABLE} from {@link StringUtils#normalizePersian(char)} and the short vowel, tanvin and
+     * symbol classes of {@link RegexCharacterClass}.
+     *
+     * @return the slug table
+     */
+    private static char[] createSlugTable() {
+        char[] table = new char[TABLE_END];
+        for (char ch = 0; ch < TABLE_END; ch++) {
+            char normalized = StringUtils.normalizePersian(ch);
+            if (ch == '\'' || ch == TATWEEL || RegexCharacterClass.PERSIAN_ARABIC_SHORT_VOWEL.matches(ch) ||
+                    RegexCharacterClass.PERSIAN_ARABIC_TANVIN.matches(ch) ||
+                    Character.getType(ch) == Character.NON_SPACING_MARK) {
+                table[ch] = 0;
+            } else if (Character.isWhitespace(ch) || isSymbol(ch)) {
+                table[ch] = SEPARATOR;
+            } else if (Character.isLetterOrDigit(normalized)) {
+                table[ch] = Character.toLowerCase(normalized);
+            } else {
+                table[ch] = SEPARATOR;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * A view of a {@link CharSequence} reading ZWNJ as a space.
+     */
+    private static final class ZwnjSeparatedText implements CharSequence {
+
+        private final CharSequence text;
+
+        /**
+         * Constructs a {@code ZwnjSeparatedText} viewing the given text.
+         *
+         * @param text the text to view
+         */
+        private ZwnjSeparatedText(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            char ch = text.charAt(index);
+            return ch == ZWNJ ? ' ' : ch;
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new ZwnjSeparatedText(text.subSequence(start, end));
+        }
+
+        @Override
+        public String toString() {
+            return text.toString().replace(ZWNJ, ' ');
+        }
+
+    }
+
+    /**
+     * An {@link Appendable} mapping the appended characters to slug characters into a {@link StringBuilder},
+     * collapsing separators and omitting leading and trailing ones.
+     */
+    private static final class SlugSink implements Appendable {
+
+        private final StringBuilder output;
+        private final int start;
+        private boolean pendingSeparator;
+
+        /**
+         * Constructs a {@code SlugSink} appending to the given {@link StringBuilder}.
+         *
+         * @param output the {@link StringBuilder} to append to
+         */
+        private SlugSink(StringBuilder output) {
+            this.output = output;
+            this.start = output.length();
+        }
+
+        @Override
+        public SlugSink append(CharSequence csq) {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public SlugSink append(CharSequence csq, int start, int end) {
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public SlugSink append(char c) {
+            char slugChar = toSlugChar(c);
+            if (slugChar == SEPARATOR) {
+                pendingSeparator = output.length() > start;
+            } else if (slugChar != 0) {
+                if (pendingSeparator) {
+                    output.append(SEPARATOR);
+                    pendingSeparator = false;
+                }
+                output.append(slugChar);
+            }
+            return this;
+        }
+
+    }
+
+}
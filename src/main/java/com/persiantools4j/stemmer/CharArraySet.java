@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.stemmer;
+
+import java.util.Arrays;
+
+/**
+ * The {@code CharArraySet} class is a compact, immutable set of strings that is looked up by ranges of a
+ * {@code char[]}, without creating a string per lookup.
+ * <p>
+ * The characters of all strings are stored in a single array and the strings are indexed by an open-addressing hash
+ * table with linear probing, holding one {@code int} per slot, at a load factor of at most one half.
+ */
+final class CharArraySet {
+
+    private final char[] chars;
+    private final int[] starts;
+    private final int[] slots;
+    private final int mask;
+
+    /**
+     * Constructs a {@code CharArraySet} containing the given strings.
+     *
+     * @param strings the strings of the set
+     */
+    CharArraySet(String... strings) {
+        int capacity = Integer.highestOneBit(Math.max(strings.length, 1) * 4 - 1);
+        mask = capacity - 1;
+        slots = new int[capacity];
+        Arrays.fill(slots, -1);
+        starts = new int[strings.length + 1];
+        StringBuilder builder = new StringBuilder();
+        int size = 0;
+        for (String string : strings) {
+            char[] array = string.toCharArray();
+            if (contains(builder, size, array, 0, array.length)) {
+                continue;
+            }
+            starts[size] = builder.length();
+            builder.append(string);
+            starts[size + 1] = builder.length();
+            int slot = hash(array, 0, array.length) & mask;
+            while (slots[slot] >= 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = size++;
+        }
+        chars = builder.toString().toCharArray();
+    }
+
+    /**
+     * Checks if the given range of a character array is one of the strings of this set.
+     *
+     * @param array  the character array
+     * @param offset the start index of the range
+     * @param length the length of the range
+     * @return {@code true} if the range is one of the strings of this set
+     */
+    boolean contains(char[] array, int offset, int length) {
+        for (int slot = hash(array, offset, length) & mask; slots[slot] >= 0; slot = (slot + 1) & mask) {
+            int index = slots[slot];
+            int start = starts[index];
+            if (starts[index + 1] - start == length && regionEquals(array, offset, chars, start, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the given range of a character array is one of the first strings added to the set being built, by a
+     * linear scan of the builder.
+     *
+     * @param builder the builder holding the characters of the strings added so far
+     * @param size    the number of strings added so far
+     * @param array   the character array
+     * @param offset  the start index of the range
+     * @param length  the length of the range
+     * @return {@code true} if the range is one of the strings added so far
+     */
+    private boolean contains(StringBuilder builder, int size, char[] array, int offset, int length) {
+        for (int index = 0; index < size; index++) {
+            int start = starts[index];
+            if (starts[index + 1] - start != length) {
+                continue;
+            }
+            int i = 0;
+            while (i < length && builder.charAt(start + i) == array[offset + i]) {
+                i++;
+            }
+            if (i == length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the hash code of the given range of a character array, spread so that the low bits depend on all
+     * characters.
+     *
+     * @param array  the character array
+     * @param offset the start index of the range
+     * @param length the length of the range
+     * @return the hash code of the range
+     */
+    private static int hash(char[] array, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + array[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Checks if the given ranges of two character arrays are equal.
+     *
+     * @param first       the first character array
+     * @param firstStart  the start index of the range of the first array
+     * @param second      the second character array
+     * @param secondStart the start index of the range of the second array
+     * @param length      the length of the ranges
+     * @return {@code true} if the ranges are equal
+     */
+    private static boolean regionEquals(char[] first, int firstStart, char[] second, int secondStart, int length) {
+        for (int i = 0; i < length; i++) {
+            if (first[firstStart + i] != second[secondStart + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.stemmer;
+
+import com.persiantools4j.util.StringUtils;
+
+/**
+ * The {@code PersianStemmer} class is a light stemmer that strips the plural, possessive and comparative suffixes of
+ * Persian words, e.g. {@code کتاب‌هایمان} to {@code کتاب} and {@code بزرگ‌ترین} to {@code بزرگ}.
+ * <p>
+ * Words are stemmed in place in {@code char[]} ranges, such as the tokens of the
+ * {@link com.persiantools4j.tokenizer.PersianTokenizer}. They are first normalized as by
+ * {@link StringUtils#normalizePersian(String)}, then their longest known suffix is found by walking a precomputed
+ * automaton of the reversed suffixes from their last character and removed, along with the zero-width non-joiner
+ * preceding it, as long as the remaining stem is long enough. Common words that only look like they carry a suffix,
+ * e.g. {@code دختر} or {@code ایران}, are kept as they are through an exception dictionary. Instances are stateless
+ * and can be shared by multiple threads.
+ */
+@SuppressWarnings("UnnecessaryUnicodeEscape")
+public final class PersianStemmer {
+
+    private static final char ARABIC_BLOCK_START = '\u0600';
+    private static final int ARABIC_BLOCK_SIZE = 0x100;
+    private static final char ZWNJ = '\u200C';
+    private static final char[] PERSIAN_TABLE = new char[ARABIC_BLOCK_SIZE];
+
+    /**
+     * The suffixes stripped by the stemmer.
+     */
+    private static final String[] SUFFIXES = {
+            "ها", "های", "هایی", "هایم", "هایت", "هایش", "هایمان", "هایتان", "هایشان",
+            "ان", "ات", "تر", "تری", "ترین", "مان", "تان", "شان",
+            ZWNJ + "ام", ZWNJ + "ات", ZWNJ + "اش", ZWNJ + "ای", ZWNJ + "مان", ZWNJ + "تان", ZWNJ + "شان"
+    };
+
+    /**
+     * The minimum length of the stem left by each of the {@link #SUFFIXES}, longer for the suffixes that often end
+     * words without being suffixes.
+     */
+    private static final byte[] SUFFIX_MIN_STEM_LENGTHS = {
+            2, 2, 2, 2, 2, 2, 2, 2, 2,
+            3, 3, 3, 3, 2, 4, 4, 4,
+            2, 2, 2, 2, 2, 2, 2
+    };
+
+    /**
+     * The words that are never stemmed, in normalized form.
+     */
+    private static final CharArraySet EXCEPTIONS = new CharArraySet(
+            "ایران", "تهران", "زمان", "مکان", "انسان", "آسمان", "زبان", "خیابان", "باران", "ایمان", "جوان",
+            "داستان", "میدان", "کاروان", "ارزان", "آسان", "دندان", "زندان", "پایان", "سازمان", "ساختمان", "درمان",
+            "فرمان", "مهمان", "قهرمان", "پیمان", "سامان", "گلستان", "بوستان", "تابستان", "زمستان", "استان", "نشان",
+            "کاشان", "دختر", "دفتر", "کبوتر", "انگشتر", "بستر", "اختر", "کوثر", "حیات", "نجات", "ثبات", "زکات",
+            "برات", "سوغات", "ملاقات", "ساعات", "اوقات"
+    );
+
+    /**
+     * The reversed-suffix automaton: the character labeling the edge to each node, the first child and next sibling
+     * of each node and the minimum stem length of the suffix ending at each node, or zero if no suffix ends there.
+     * Node zero is the root.
+     */
+    private static final char[] LABELS;
+    private static final int[] FIRST_CHILDREN;
+    private static final int[] NEXT_SIBLINGS;
+    private static final byte[] MIN_STEM_LENGTHS;
+
+    static {
+        for (int i = 0; i < ARABIC_BLOCK_SIZE; i++) {
+            PERSIAN_TABLE[i] = StringUtils.normalizePersian((char) (ARABIC_BLOCK_START + i));
+        }
+        int capacity = 1;
+        for (String suffix : SUFFIXES) {
+            capacity += suffix.length();
+        }
+        LABELS = new char[capacity];
+        FIRST_CHILDREN = new int[capacity];
+        NEXT_SIBLINGS = new int[capacity];
+        MIN_STEM_LENGTHS = new byte[capacity];
+        int size = 1;
+        for (int suffix = 0; suffix < SUFFIXES.length; suffix++) {
+            String string = SUFFIXES[suffix];
+            int node = 0;
+            for (int i = string.length() - 1; i >= 0; i--) {
+                int child = findChild(node, string.charAt(i));
+                if (child == 0) {
+                    child = size++;
+                    LABELS[child] = string.charAt(i);
+                    NEXT_SIBLINGS[child] = FIRST_CHILDREN[node];
+                    FIRST_CHILDREN[node] = child;
+                }
+                node = child;
+            }
+            MIN_STEM_LENGTHS[node] = SUFFIX_MIN_STEM_LENGTHS[suffix];
+        }
+    }
+
+    /**
+     * Normalizes and stems the word in the given range of a character array, in place.
+     * <p>
+     * The stem starts at {@code offset}, like the word, and is no longer than the word.
+     *
+     * @param buffer the character array holding the word
+     * @param offset the start index of the word
+     * @param length the length of the word
+     * @return the length of the stem
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array
+     */
+    public int stem(char[] buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset " + offset + ", length " + length);
+        }
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char ch = buffer[i];
+            if (ch >= ARABIC_BLOCK_START && ch < ARABIC_BLOCK_START + ARABIC_BLOCK_SIZE) {
+                buffer[i] = PERSIAN_TABLE[ch - ARABIC_BLOCK_START];
+            }
+        }
+        if (EXCEPTIONS.contains(buffer, offset, length)) {
+            return length;
+        }
+        int stemLength = length;
+        int node = 0;
+        for (int i = end - 1; i > offset; i--) {
+            node = findChild(node, buffer[i]);
+            if (node == 0) {
+                break;
+            }
+            int remaining = i - offset;
+            if (MIN_STEM_LENGTHS[node] != 0 && remaining >= MIN_STEM_LENGTHS[node]) {
+                stemLength = remaining;
+            }
+        }
+        while (stemLength > 0 && buffer[offset + stemLength - 1] == ZWNJ) {
+            stemLength--;
+        }
+        return stemLength;
+    }
+
+    /**
+     * Normalizes and stems the given word.
+     *
+     * @param word the word to stem
+     * @return the stem of the word, or an empty string if the word is {@code null}
+     */
+    public String stem(String word) {
+        if (word == null) {
+            return "";
+        }
+        char[] buffer = word.toCharArray();
+        return new String(buffer, 0, stem(buffer, 0, buffer.length));
+    }
+
+    /**
+     * Finds the child of the given node of the automaton labeled with the given character.
+     *
+     * @param node the node
+     * @param ch   the character labeling the edge to the child
+     * @return the child node, or zero if there is none
+     */
+    private static int findChild(int node, char ch) {
+        int child = FIRST_CHILDREN[node];
+        while (child != 0 && LABELS[child] != ch) {
+            child = NEXT_SIBLINGS[child];
+        }
+        return child;
+    }
+
+}
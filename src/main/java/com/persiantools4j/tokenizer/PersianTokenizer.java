@@ -0,0 +1,325 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.tokenizer;
+
+import com.persiantools4j.enums.RegexCharacterClass;
+import com.persiantools4j.enums.TokenType;
+
+/**
+ * The {@code PersianTokenizer} class splits Persian text into words, numbers and punctuation marks, writing the
+ * offsets of the tokens into a caller-provided {@code int} buffer instead of creating substrings, so that no object
+ * is allocated per token.
+ * <p>
+ * Token {@code i} occupies three elements of the buffer: its start index ({@code tokens[3 * i]}), its end index,
+ * exclusive ({@code tokens[3 * i + 1]}), and the {@link TokenType#getCode() code} of its {@link TokenType}
+ * ({@code tokens[3 * i + 2]}). Words may contain zero-width non-joiners between their letters, e.g. in
+ * {@code می‌خواهم}, as well as diacritics and tatweel. Numbers may mix Latin, Persian and Arabic digits and contain
+ * decimal and thousands separators between digits. Every other non-whitespace character, e.g. a character of
+ * {@link RegexCharacterClass#PERSIAN_ARABIC_SYMBOL} or {@link RegexCharacterClass#SYMBOL}, is a punctuation token of
+ * its own.
+ * <p>
+ * When half-space fixing is enabled, a word is joined with the following one if it is the verb prefix {@code می} or
+ * {@code نمی}, and with the preceding one if it is a common suffix such as {@code ها}, {@code های}, {@code تر} or
+ * {@code ترین}, provided the words are only separated by spaces or zero-width non-joiners. The joined token then spans
+ * both words and the separators between them. Instances are immutable and can be shared by multiple threads.
+ */
+public final class PersianTokenizer {
+
+    private static final char ASCII_END = '\u0080';
+    private static final char ARABIC_BLOCK_START = '\u0600';
+    private static final char ARABIC_BLOCK_END = '\u06FF';
+    private static final char ZWNJ = '\u200C';
+    private static final char ZWJ = '\u200D';
+    private static final int TOKEN_SIZE = 3;
+    private static final String[] PREFIXES = {"می", "نمی"};
+    private static final String[] SUFFIXES = {"ها", "های", "هایی", "هایم", "هایت", "هایش", "تر", "تری", "ترین"};
+
+    private static final byte SPACE = 0;
+    private static final byte LETTER = 1;
+    private static final byte MARK = 2;
+    private static final byte DIGIT = 3;
+    private static final byte NUMBER_SEPARATOR = 4;
+    private static final byte PUNCTUATION = 5;
+    private static final byte JOINER = 6;
+
+    /**
+     * The character classes of the ASCII characters followed by the characters of the Arabic block.
+     */
+    private static final byte[] CLASS_TABLE = createClassTable();
+
+    private final boolean fixHalfSpaces;
+
+    /**
+     * Constructs a {@code PersianTokenizer} without half-space fixing.
+     */
+    public PersianTokenizer() {
+        this(false);
+    }
+
+    /**
+     * Constructs a {@code PersianTokenizer}.
+     *
+     * @param fixHalfSpaces whether to join verb prefixes and common suffixes written apart with their words
+     */
+    public PersianTokenizer(boolean fixHalfSpaces) {
+        this.fixHalfSpaces = fixHalfSpaces;
+    }
+
+    /**
+     * Tokenizes the given text from its beginning.
+     *
+     * @param text   the text to tokenize
+     * @param tokens the buffer receiving the tokens, three elements per token
+     * @return the number of tokens written
+     * @throws IllegalArgumentException if the text or the buffer is {@code null}
+     * @see #tokenize(CharSequence, int, int[])
+     */
+    public int tokenize(CharSequence text, int[] tokens) {
+        return tokenize(text, 0, tokens);
+    }
+
+    /**
+     * Tokenizes the given text from the given index, until the end of the text or the buffer is full.
+     * <p>
+     * If the buffer is full, i.e. the number of tokens written equals {@code tokens.length / 3}, the text can be
+     * tokenized further by calling this method again from the end index of the last token. A suffix is then not
+     * joined with a word of the previous call.
+     *
+     * @param text   the text to tokenize
+     * @param from   the index to start from
+     * @param tokens the buffer receiving the tokens, three elements per token
+     * @return the number of tokens written
+     * @throws IllegalArgumentException if the text or the buffer is {@code null} or the index is out of range
+     */
+    public int tokenize(CharSequence text, int from, int[] tokens) {
+        if (text == null || tokens == null || from < 0 || from > text.length()) {
+            throw new IllegalArgumentException("Text or tokens are null or index is out of range");
+        }
+        int length = text.length();
+        int capacity = tokens.length / TOKEN_SIZE;
+        int count = 0;
+        int index = from;
+        while (index < length) {
+            int start = index;
+            byte charClass = classOf(text.charAt(index));
+            TokenType type;
+            if (charClass == LETTER) {
+                index = endOfWord(text, index);
+                type = TokenType.WORD;
+            } else if (charClass == DIGIT) {
+                index = endOfNumber(text, index);
+                type = TokenType.NUMBER;
+            } else if (charClass == PUNCTUATION || charClass == NUMBER_SEPARATOR) {
+                index++;
+                type = TokenType.PUNCTUATION;
+            } else {
+                index++;
+                continue;
+            }
+            if (type == TokenType.WORD && count > 0 && isJoinable(text, tokens, count - 1, start, index)) {
+                tokens[(count - 1) * TOKEN_SIZE + 1] = index;
+                continue;
+            }
+            if (count == capacity) {
+                break;
+            }
+            tokens[count * TOKEN_SIZE] = start;
+            tokens[count * TOKEN_SIZE + 1] = index;
+            tokens[count * TOKEN_SIZE + 2] = type.getCode();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the end index of the word starting at the given index, including zero-width non-joiners between its
+     * letters and its diacritics.
+     *
+     * @param text  the text
+     * @param index the index of the first letter of the word
+     * @return the end index of the word, exclusive
+     */
+    private static int endOfWord(CharSequence text, int index) {
+        int length = text.length();
+        int end = ++index;
+        while (index < length) {
+            byte charClass = classOf(text.charAt(index));
+            if (charClass == LETTER || charClass == MARK) {
+                end = ++index;
+            } else if (charClass == JOINER) {
+                index++;
+            } else {
+                break;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Returns the end index of the number starting at the given index, including single separators between its
+     * digits.
+     *
+     * @param text  the text
+     * @param index the index of the first digit of the number
+     * @return the end index of the number, exclusive
+     */
+    private static int endOfNumber(CharSequence text, int index) {
+        int length = text.length();
+        index++;
+        while (index < length) {
+            byte charClass = classOf(text.charAt(index));
+            if (charClass == DIGIT) {
+                index++;
+            } else if (charClass == NUMBER_SEPARATOR && index + 1 < length &&
+                    classOf(text.charAt(index + 1)) == DIGIT) {
+                index += 2;
+            } else {
+                break;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Checks if the word of the given range is to be joined with the given previous token, i.e. if half-space fixing
+     * is enabled, the previous token is a word separated from it by spaces or zero-width non-joiners only and either
+     * the previous word is a verb prefix or the word is a common suffix.
+     *
+     * @param text   the text
+     * @param tokens the token buffer
+     * @param token  the index of the previous token
+     * @param start  the start index of the word
+     * @param end    the end index of the word
+     * @return {@code true} if the word is to be joined with the previous token
+     */
+    private boolean isJoinable(CharSequence text, int[] tokens, int token, int start, int end) {
+        if (!fixHalfSpaces || tokens[token * TOKEN_SIZE + 2] != TokenType.WORD.getCode()) {
+            return false;
+        }
+        int previousStart = tokens[token * TOKEN_SIZE];
+        int previousEnd = tokens[token * TOKEN_SIZE + 1];
+        for (int i = previousEnd; i < start; i++) {
+            byte charClass = classOf(text.charAt(i));
+            if (charClass != SPACE && charClass != JOINER || text.charAt(i) == '\n') {
+                return false;
+            }
+        }
+        return matchesAny(text, previousStart, previousEnd, PREFIXES) || matchesAny(text, start, end, SUFFIXES);
+    }
+
+    /**
+     * Checks if the given range of the text equals any of the given words, Arabic yeh matching Persian yeh.
+     *
+     * @param text  the text
+     * @param start the start index of the range
+     * @param end   the end index of the range, exclusive
+     * @param words the words to compare the range with
+     * @return {@code true} if the range equals any of the words
+     */
+    private static boolean matchesAny(CharSequence text, int start, int end, String[] words) {
+        for (String word : words) {
+            if (word.length() != end - start) {
+                continue;
+            }
+            int i = 0;
+            while (i < word.length() && (text.charAt(start + i) == word.charAt(i) ||
+                    word.charAt(i) == 'ی' && RegexCharacterClass.ARABIC_YEH.matches(text.charAt(start + i)))) {
+                i++;
+            }
+            if (i == word.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the character class of the given character, through the {@link #CLASS_TABLE} for the ASCII characters
+     * and the characters of the Arabic block.
+     *
+     * @param ch the character
+     * @return the character class of the character
+     */
+    private static byte classOf(char ch) {
+        if (ch < ASCII_END) {
+            return CLASS_TABLE[ch];
+        }
+        if (ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END) {
+            return CLASS_TABLE[ASCII_END + ch - ARABIC_BLOCK_START];
+        }
+        return classOfOther(ch);
+    }
+
+    /**
+     * Returns the character class of the given character from its Unicode properties.
+     *
+     * @param ch the character
+     * @return the character class of the character
+     */
+    private static byte classOfOther(char ch) {
+        if (ch == ZWNJ || ch == ZWJ) {
+            return JOINER;
+        }
+        if (Character.isWhitespace(ch) || Character.isSpaceChar(ch) || Character.getType(ch) == Character.CONTROL) {
+            return SPACE;
+        }
+        if (Character.isLetter(ch)) {
+            return LETTER;
+        }
+        if (Character.isDigit(ch)) {
+            return DIGIT;
+        }
+        int type = Character.getType(ch);
+        if (type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK ||
+                type == Character.COMBINING_SPACING_MARK || type == Character.FORMAT) {
+            return MARK;
+        }
+        return PUNCTUATION;
+    }
+
+    /**
+     * Creates the {@link #CLASS_TABLE} from the character classes of {@link RegexCharacterClass}, falling back to the
+     * Unicode properties of the characters they do not cover.
+     *
+     * @return the character class table
+     */
+    @SuppressWarnings("UnnecessaryUnicodeEscape")
+    private static byte[] createClassTable() {
+        byte[] table = new byte[ASCII_END + ARABIC_BLOCK_END - ARABIC_BLOCK_START + 1];
+        for (int i = 0; i < table.length; i++) {
+            char ch = (char) (i < ASCII_END ? i : i - ASCII_END + ARABIC_BLOCK_START);
+            byte charClass = classOfOther(ch);
+            if (RegexCharacterClass.PERSIAN_ALPHABET.matches(ch) || RegexCharacterClass.ARABIC_YEH.matches(ch) ||
+                    RegexCharacterClass.ARABIC_KAF.matches(ch) || RegexCharacterClass.ARABIC_WAW.matches(ch)) {
+                charClass = LETTER;
+            } else if (RegexCharacterClass.NUMERIC.matches(ch) || RegexCharacterClass.ARABIC_NUMERIC.matches(ch)) {
+                charClass = DIGIT;
+            } else if (RegexCharacterClass.PERSIAN_ARABIC_SHORT_VOWEL.matches(ch) ||
+                    RegexCharacterClass.PERSIAN_ARABIC_TANVIN.matches(ch) || ch == '\u0640') {
+                charClass = MARK;
+            } else if (ch == '.' || ch == ',' || ch == '\u066B' || ch == '\u066C') {
+                charClass = NUMBER_SEPARATOR;
+            } else if (RegexCharacterClass.PERSIAN_ARABIC_SYMBOL.matches(ch) ||
+                    RegexCharacterClass.SYMBOL.matches(ch)) {
+                charClass = PUNCTUATION;
+            }
+            table[i] = charClass;
+        }
+        return table;
+    }
+
+}
@@ -0,0 +1,613 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.transliteration;
+
+import com.persiantools4j.util.BulkUtils;
+import com.persiantools4j.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@code PersianTransliterator} class transliterates Persian text to Latin script and back, e.g. to match names
+ * entered in Latin script, such as on passports, against names written in Persian.
+ * <p>
+ * Both directions are driven by compiled multi-character rule tables, stored in {@link RuleTrie}s, with separate
+ * rules at the start and at the end of a word, e.g. {@code ه} is transliterated as {@code eh} at the end of a word
+ * and as {@code h} elsewhere. Persian text is transliterated deterministically by the longest applying rule at each
+ * index, after normalizing its characters by {@link StringUtils#normalizePersian(char)}. As Persian script omits
+ * short vowels, Latin text maps to several Persian spellings: each rule lists its Persian options from the most to
+ * the least likely, and {@link #toPersianCandidates(CharSequence, int)} ranks the spellings by the sum of the ranks
+ * of their options, preferring common names such as {@code محمد}. {@link #matches(CharSequence, CharSequence)}
+ * checks whether a Persian text is one of the spellings of a Latin text, without enumerating them.
+ * <p>
+ * The rule tables are built once and shared; all methods are thread-safe.
+ */
+@SuppressWarnings("UnnecessaryUnicodeEscape")
+public final class PersianTransliterator {
+
+    private static final char TATWEEL = '\u0640';
+    private static final char PERSIAN_ZERO = '۰';
+    private static final int SHORTER_RULE_COST = 2;
+    private static final int MIN_BEAM_WIDTH = 32;
+    private static final int COMMON_WORD_BONUS = 3;
+
+    /**
+     * The rules transliterating Persian to Latin script, applying anywhere in a word.
+     */
+    private static final String[][] TO_LATIN_RULES = {
+            {"ا", "a"}, {"آ", "a"}, {"ب", "b"}, {"پ", "p"}, {"ت", "t"}, {"ث", "s"}, {"ج", "j"}, {"چ", "ch"},
+            {"ح", "h"}, {"خ", "kh"}, {"د", "d"}, {"ذ", "z"}, {"ر", "r"}, {"ز", "z"}, {"ژ", "zh"}, {"س", "s"},
+            {"ش", "sh"}, {"ص", "s"}, {"ض", "z"}, {"ط", "t"}, {"ظ", "z"}, {"ع", "'"}, {"غ", "gh"}, {"ف", "f"},
+            {"ق", "gh"}, {"ک", "k"}, {"گ", "g"}, {"ل", "l"}, {"م", "m"}, {"ن", "n"}, {"و", "ou"}, {"ه", "h"},
+            {"ی", "i"}, {"ء", "'"}, {"أ", "a"}, {"إ", "e"}, {"ؤ", "o"}, {"ئ", "'"}, {"ة", "t"}, {"ۀ", "eh"},
+            {"خوا", "kha"}, {"وا", "va"}, {"یا", "ya"}, {"ای", "ay"}, {"الله", "allah"},
+            {"\u064E", "a"}, {"\u0650", "e"}, {"\u064F", "o"}, {"\u064B", "an"}, {"\u064D", "en"}, {"\u064C", "on"},
+            {"\u0651", ""}, {"\u0652", ""}, {"\u0654", ""}, {"\u0640", ""}, {"\u200C", ""},
+            {"،", ","}, {"؛", ";"}, {"؟", "?"}, {"«", "\""}, {"»", "\""}, {"٪", "%"}, {"٫", "."}, {"٬", ","}
+    };
+
+    /**
+     * The rules transliterating Persian to Latin script at the start of a word.
+     */
+    private static final String[][] TO_LATIN_INITIAL_RULES = {
+            {"و", "v"}, {"ی", "y"}, {"ع", "a"}, {"ای", "i"}, {"او", "ou"}, {"عا", "a"}, {"عی", "ei"}
+    };
+
+    /**
+     * The rules transliterating Persian to Latin script at the end of a word.
+     */
+    private static final String[][] TO_LATIN_FINAL_RULES = {
+            {"ه", "eh"}, {"اه", "ah"}, {"وه", "ouh"}
+    };
+
+    /**
+     * The rules transliterating single-letter Persian words to Latin script.
+     */
+    private static final String[][] TO_LATIN_WORD_RULES = {
+            {"و", "va"}
+    };
+
+    /**
+     * The rules transliterating Latin to Persian script, applying anywhere in a word. Each rule lists its Persian
+     * options from the most to the least likely, the index of an option being its cost.
+     */
+    private static final String[][] TO_PERSIAN_RULES = {
+            {"a", "", "ا", "ع"}, {"aa", "ا", "آ"}, {"ae", "ع"}, {"aee", "عی"}, {"ai", "ی", "ای"},
+            {"b", "ب"}, {"c", "ک", "س"}, {"ch", "چ"}, {"d", "د"}, {"e", "", "ع"}, {"ee", "ی"}, {"ei", "ی"},
+            {"ey", "ی"}, {"f", "ف"}, {"g", "گ"}, {"gh", "ق", "غ"}, {"h", "ه", "ح"}, {"i", "ی", ""}, {"j", "ج"},
+            {"k", "ک"}, {"kh", "خ"}, {"l", "ل"}, {"m", "م"}, {"n", "ن"}, {"o", "", "و"}, {"oo", "و"}, {"ou", "و"},
+            {"ow", "و"}, {"p", "پ"}, {"ph", "ف"}, {"q", "ق", "غ"}, {"r", "ر"}, {"s", "س", "ص", "ث"}, {"sh", "ش"},
+            {"t", "ت", "ط"}, {"u", "و"}, {"v", "و"}, {"w", "و"}, {"x", "کس"}, {"y", "ی"},
+            {"z", "ز", "ض", "ذ", "ظ"}, {"zh", "ژ"}, {"allah", "الله"}, {"ollah", "الله"}, {"'", "ع", "ء", ""},
+            {" ", " ", ""}, {"-", "", " "}, {",", "،"}, {";", "؛"}, {"?", "؟"}
+    };
+
+    /**
+     * The rules transliterating Latin to Persian script at the start of a word.
+     */
+    private static final String[][] TO_PERSIAN_INITIAL_RULES = {
+            {"a", "ا", "ع", "آ"}, {"aa", "آ", "عا"}, {"e", "ا", "ع"}, {"ee", "ای"}, {"ei", "ای", "عی"},
+            {"i", "ای", "عی"}, {"o", "ا", "او", "ع"}, {"oo", "او"}, {"ou", "او"}, {"ow", "او"}, {"u", "او", "ع"}
+    };
+
+    /**
+     * The rules transliterating Latin to Persian script at the end of a word.
+     */
+    private static final String[][] TO_PERSIAN_FINAL_RULES = {
+            {"a", "ا", "ه", "ع"}, {"ah", "اه", "اح"}, {"e", "ه", "ی"}, {"eh", "ه"}, {"i", "ی"}, {"o", "و", "ه"}
+    };
+
+    /**
+     * The common Persian given names and place names, separated by spaces, whose spellings are preferred by
+     * {@link #toPersianCandidates(CharSequence, int)}, as the cost of an option does not depend on the word, e.g. the
+     * medial {@code a} is short in {@code Mohammad} and long in {@code Shiraz}.
+     */
+    private static final String COMMON_WORDS =
+            "محمد علی حسین رضا حسن مهدی احمد امیر زهرا فاطمه مریم سارا سعید حمید مجید مسعود محمود " +
+            "جواد عباس اکبر اصغر ابراهیم اسماعیل یوسف داوود مصطفی مرتضی مجتبی هادی سجاد صادق جعفر " +
+            "کاظم کریم رحیم رحمان عبدالله ناصر منصور بهرام شهرام فرهاد بهروز بهزاد کامران کیوان آرش " +
+            "بابک پرویز سیاوش داریوش کوروش نرگس لیلا نسرین پروین شیرین مینا مهسا نازنین الهام معصومه " +
+            "طاهره فریبا زینب سمیه اعظم اشرف منیژه مهناز شهناز سپیده سحر ندا نیلوفر پریسا هانیه محسن " +
+            "میثم وحید امید ایمان پیمان پویا سینا نیما یاسر یاسمن آزاده آیدا ایران تهران شیراز اصفهان " +
+            "مشهد تبریز کرج قم اهواز کرمان رشت یزد همدان اراک زنجان";
+
+    /**
+     * The Latin letters whose doubled form, e.g. {@code mm}, is transliterated as the single letter, as Persian
+     * script marks doubled consonants with an optional diacritic.
+     */
+    private static final String DOUBLED_LETTERS = "bcdfgjklmnpqrstvwyz";
+
+    private static final Set<String> COMMON_WORD_SET = new HashSet<>(Arrays.asList(COMMON_WORDS.split(" ")));
+    private static final RuleTrie<String> TO_LATIN_TRIE = new RuleTrie<>(PersianTransliterator::isLetter);
+    private static final RuleTrie<String> TO_LATIN_INITIAL_TRIE = new RuleTrie<>(PersianTransliterator::isLetter);
+    private static final RuleTrie<String[]> TO_PERSIAN_TRIE = new RuleTrie<>(PersianTransliterator::isLetter);
+    private static final RuleTrie<String[]> TO_PERSIAN_INITIAL_TRIE =
+            new RuleTrie<>(PersianTransliterator::isLetter);
+
+    static {
+        putLatinRules(TO_LATIN_TRIE, TO_LATIN_RULES, false);
+        putLatinRules(TO_LATIN_TRIE, TO_LATIN_FINAL_RULES, true);
+        putLatinRules(TO_LATIN_INITIAL_TRIE, TO_LATIN_RULES, false);
+        putLatinRules(TO_LATIN_INITIAL_TRIE, TO_LATIN_FINAL_RULES, true);
+        putLatinRules(TO_LATIN_INITIAL_TRIE, TO_LATIN_INITIAL_RULES, false);
+        putLatinRules(TO_LATIN_INITIAL_TRIE, TO_LATIN_WORD_RULES, true);
+        putPersianRules(TO_PERSIAN_TRIE, TO_PERSIAN_RULES, false);
+        putPersianRules(TO_PERSIAN_TRIE, TO_PERSIAN_FINAL_RULES, true);
+        putPersianRules(TO_PERSIAN_INITIAL_TRIE, TO_PERSIAN_RULES, false);
+        putPersianRules(TO_PERSIAN_INITIAL_TRIE, TO_PERSIAN_FINAL_RULES, true);
+        putPersianRules(TO_PERSIAN_INITIAL_TRIE, TO_PERSIAN_INITIAL_RULES, false);
+    }
+
+    /**
+     * Private constructor to prevent direct instantiation.
+     */
+    private PersianTransliterator() {
+
+    }
+
+    /**
+     * Transliterates the given Persian text to Latin script, e.g. {@code ایران} to {@code iran}.
+     *
+     * @param text the text to transliterate
+     * @return the transliterated text, in lower case
+     * @throws IllegalArgumentException if the text is {@code null}
+     * @see #toLatin(CharSequence, Appendable)
+     */
+    public static String toLatin(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text is null");
+        }
+        try {
+            return toLatin(text, new StringBuilder(text.length() + (text.length() >> 1))).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Transliterates the given Persian text to Latin script, appending it to the given {@link Appendable}.
+     * <p>
+     * Persian letters and diacritics are transliterated in lower case and Persian and Arabic digits and punctuation
+     * are converted to their ASCII counterparts. ZWNJ, tatweel, shadda and sukun are dropped and other characters
+     * are appended as they are.
+     *
+     * @param text   the text to transliterate
+     * @param output the {@link Appendable} to append the transliterated text to
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IllegalArgumentException if the text is {@code null}
+     * @throws IOException              if appending to the output fails
+     */
+    public static <A extends Appendable> A toLatin(CharSequence text, A output) throws IOException {
+        if (text == null) {
+            throw new IllegalArgumentException("Text is null");
+        }
+        CharSequence normalized = new NormalizedSequence(text);
+        int index = 0;
+        while (index < normalized.length()) {
+            RuleTrie<String> trie = isWordStart(normalized, index) ? TO_LATIN_INITIAL_TRIE : TO_LATIN_TRIE;
+            int node = trie.findLongest(normalized, index);
+            if (node != 0) {
+                output.append(trie.value(node, normalized, index));
+                index += trie.length(node);
+                continue;
+            }
+            char ch = normalized.charAt(index++);
+            int digit = StringUtils.getDigitValue(ch);
+            output.append(digit >= 0 ? (char) ('0' + digit) : ch);
+        }
+        return output;
+    }
+
+    /**
+     * Transliterates the given Persian texts to Latin script in bulk.
+     * <p>
+     * Element {@code i} of {@code latinTexts} receives the transliteration of {@code texts[i]}, or {@code null} if
+     * it is {@code null}.
+     *
+     * @param texts      the texts to transliterate
+     * @param latinTexts the array receiving the transliterated texts, at least as long as {@code texts}
+     * @return the number of transliterated texts
+     * @throws IllegalArgumentException if an array is {@code null} or the output array is too short
+     */
+    public static int toLatinAll(CharSequence[] texts, String[] latinTexts) {
+        if (texts == null || latinTexts == null || latinTexts.length < texts.length) {
+            throw new IllegalArgumentException("Texts are null or output array is too short");
+        }
+        StringBuilder builder = new StringBuilder();
+        int transliteratedCount = 0;
+        for (int i = 0; i < texts.length; i++) {
+            if (texts[i] == null) {
+                latinTexts[i] = null;
+                continue;
+            }
+            builder.setLength(0);
+            try {
+                latinTexts[i] = toLatin(texts[i], builder).toString();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            transliteratedCount++;
+        }
+        return transliteratedCount;
+    }
+
+    /**
+     * Finds the most likely Persian spellings of the given Latin text, e.g. {@code محمد} for {@code Mohammad}.
+     * <p>
+     * The text is transliterated case-insensitively through a beam search over the options of the applying rules,
+     * keeping the cheapest partial spellings at each index. A rule shorter than the longest applying one, e.g.
+     * {@code s} and {@code h} instead of {@code sh}, adds to the cost of the spelling, while each common Persian
+     * name or place name in a complete spelling, e.g. {@code شیراز}, lowers it. Spellings of equal cost are ordered
+     * lexicographically.
+     * ASCII digits are converted to Persian digits and characters without a rule are kept as they are.
+     *
+     * @param text  the Latin text to transliterate
+     * @param limit the maximum number of spellings to return
+     * @return the distinct Persian spellings, from the most to the least likely
+     * @throws IllegalArgumentException if the text is {@code null} or the limit is not positive
+     */
+    public static List<String> toPersianCandidates(CharSequence text, int limit) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text is null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Invalid limit: " + limit);
+        }
+        String lowerCase = text.toString().toLowerCase(Locale.ROOT);
+        int length = lowerCase.length();
+        int beamWidth = Math.max(limit * 4, MIN_BEAM_WIDTH);
+        List<Map<String, Integer>> beams = new ArrayList<>(length + 1);
+        for (int i = 0; i <= length; i++) {
+            beams.add(new HashMap<>());
+        }
+        beams.get(0).put("", 0);
+        int[] nodes = new int[TO_PERSIAN_TRIE.maxLength()];
+        for (int index = 0; index < length; index++) {
+            List<Map.Entry<String, Integer>> beam = prune(beams.get(index), beamWidth);
+            beams.set(index, null);
+            if (beam.isEmpty()) {
+                continue;
+            }
+            RuleTrie<String[]> trie = isWordStart(lowerCase, index) ? TO_PERSIAN_INITIAL_TRIE : TO_PERSIAN_TRIE;
+            int count = trie.findAll(lowerCase, index, nodes);
+            if (count == 0) {
+                String option = String.valueOf(toPersianChar(lowerCase.charAt(index)));
+                extend(beam, beams.get(index + 1), option, 0);
+            }
+            for (int i = 0; i < count; i++) {
+                int ruleLength = trie.length(nodes[i]);
+                String[] options = trie.value(nodes[i], lowerCase, index);
+                int extraCost = i < count - 1 ? SHORTER_RULE_COST : 0;
+                for (int cost = 0; cost < options.length; cost++) {
+                    extend(beam, beams.get(index + ruleLength), options[cost], cost + extraCost);
+                }
+            }
+        }
+        Map<String, Integer> spellings = beams.get(length);
+        spellings.replaceAll((spelling, cost) -> cost - COMMON_WORD_BONUS * countCommonWords(spelling));
+        List<Map.Entry<String, Integer>> ranked = prune(spellings, limit);
+        List<String> candidates = new ArrayList<>(ranked.size());
+        for (Map.Entry<String, Integer> spelling : ranked) {
+            candidates.add(spelling.getKey());
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks if the given Persian text is a spelling of the given Latin text under the transliteration rules, e.g.
+     * to match a name entered in Latin script against a name written in Persian.
+     * <p>
+     * Unlike {@link #toPersianCandidates(CharSequence, int)}, every spelling is considered, in time proportional to
+     * the product of the lengths of the texts. The Latin text is compared case-insensitively, the Persian text is
+     * normalized by {@link StringUtils#normalizePersian(char)} and whitespace, punctuation, ZWNJ, tatweel and
+     * diacritics are ignored on both sides. Letters and digits without a rule, e.g. {@code 1} for {@code ۱}, must
+     * occur in the Persian text.
+     *
+     * @param latinText   the Latin text
+     * @param persianText the Persian text
+     * @return {@code true} if the Persian text is a spelling of the Latin text; {@code false} otherwise or if a text
+     * is {@code null}
+     */
+    public static boolean matches(CharSequence latinText, CharSequence persianText) {
+        if (latinText == null || persianText == null) {
+            return false;
+        }
+        String lowerCase = latinText.toString().toLowerCase(Locale.ROOT);
+        char[] target = toMatchTarget(persianText);
+        int length = lowerCase.length();
+        int stride = target.length + 1;
+        boolean[] reachable = new boolean[(length + 1) * stride];
+        reachable[0] = true;
+        int[] nodes = new int[TO_PERSIAN_TRIE.maxLength()];
+        for (int index = 0; index < length; index++) {
+            char ch = lowerCase.charAt(index);
+            if (isIgnored(ch)) {
+                System.arraycopy(reachable, index * stride, reachable, (index + 1) * stride, stride);
+                continue;
+            }
+            RuleTrie<String[]> trie = isWordStart(lowerCase, index) ? TO_PERSIAN_INITIAL_TRIE : TO_PERSIAN_TRIE;
+            int count = -1;
+            for (int position = 0; position < stride; position++) {
+                if (!reachable[index * stride + position]) {
+                    continue;
+                }
+                if (count < 0) {
+                    count = trie.findAll(lowerCase, index, nodes);
+                }
+                if (count == 0 && position < target.length && target[position] == toPersianChar(ch)) {
+                    reachable[(index + 1) * stride + position + 1] = true;
+                }
+                for (int i = 0; i < count; i++) {
+                    int next = index + trie.length(nodes[i]);
+                    for (String option : trie.value(nodes[i], lowerCase, index)) {
+                        if (regionMatches(target, position, option)) {
+                            reachable[next * stride + position + option.length()] = true;
+                        }
+                    }
+                }
+            }
+        }
+        return reachable[length * stride + target.length];
+    }
+
+    /**
+     * Checks pairs of Latin and Persian texts in bulk, e.g. customer names in a nightly matching job.
+     * <p>
+     * Bit {@code i % 64} of {@code bitmask[i / 64]} is set if {@code persianTexts[i]} is a spelling of
+     * {@code latinTexts[i]}, as checked by {@link #matches(CharSequence, CharSequence)}, and cleared otherwise.
+     *
+     * @param latinTexts   the Latin texts
+     * @param persianTexts the Persian texts, as many as the Latin texts
+     * @param bitmask      the array receiving the result of each pair, of at least
+     *                     {@code (latinTexts.length + 63) / 64} elements
+     * @return the number of matching pairs
+     * @throws IllegalArgumentException if an array is {@code null}, the texts differ in number or the bitmask is too
+     *                                  short
+     */
+    public static int matchAll(CharSequence[] latinTexts, CharSequence[] persianTexts, long[] bitmask) {
+        if (latinTexts == null || persianTexts == null || latinTexts.length != persianTexts.length) {
+            throw new IllegalArgumentException("Texts are null or of different lengths");
+        }
+        BulkUtils.checkBitmask(bitmask, latinTexts.length);
+        int matchCount = 0;
+        for (int i = 0; i < latinTexts.length; i++) {
+            boolean matched = matches(latinTexts[i], persianTexts[i]);
+            BulkUtils.setBit(bitmask, i, matched);
+            if (matched) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+    /**
+     * Checks if the given character continues a word, i.e. is a letter, a non-spacing mark or an apostrophe.
+     *
+     * @param ch the character to check
+     * @return {@code true} if the character continues a word
+     */
+    private static boolean isLetter(char ch) {
+        return Character.isLetter(ch) || Character.getType(ch) == Character.NON_SPACING_MARK || ch == '\'';
+    }
+
+    /**
+     * Checks if the given Latin character is ignored by {@link #matches(CharSequence, CharSequence)}, i.e. is neither
+     * a digit nor continues a word.
+     *
+     * @param ch the character to check
+     * @return {@code true} if the character is ignored
+     */
+    private static boolean isIgnored(char ch) {
+        return !isLetter(ch) && !Character.isDigit(ch);
+    }
+
+    /**
+     * Checks if the given index of a text is the start of a word.
+     *
+     * @param text  the text
+     * @param index the index to check
+     * @return {@code true} if the index is zero or follows a character that does not continue a word
+     */
+    private static boolean isWordStart(CharSequence text, int index) {
+        return index == 0 || !isLetter(text.charAt(index - 1));
+    }
+
+    /**
+     * Returns the Persian counterpart of a Latin character without a rule, converting ASCII digits to Persian digits.
+     *
+     * @param ch the character to convert
+     * @return the Persian digit of an ASCII digit, or the character itself
+     */
+    private static char toPersianChar(char ch) {
+        return ch >= '0' && ch <= '9' ? (char) (PERSIAN_ZERO + ch - '0') : ch;
+    }
+
+    /**
+     * Normalizes the given Persian text for {@link #matches(CharSequence, CharSequence)}, keeping only letters and
+     * digits, except tatweel, and converting digits to Persian digits.
+     *
+     * @param text the text to normalize
+     * @return the normalized characters
+     */
+    private static char[] toMatchTarget(CharSequence text) {
+        char[] target = new char[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = StringUtils.normalizePersian(text.charAt(i));
+            if (ch == TATWEEL || !Character.isLetterOrDigit(ch)) {
+                continue;
+            }
+            int digit = StringUtils.getDigitValue(ch);
+            target[length++] = digit >= 0 ? (char) (PERSIAN_ZERO + digit) : ch;
+        }
+        return Arrays.copyOf(target, length);
+    }
+
+    /**
+     * Checks if the given option occurs in the given characters at the given position.
+     *
+     * @param target   the characters
+     * @param position the position
+     * @param option   the option
+     * @return {@code true} if the characters from the position start with the option
+     */
+    private static boolean regionMatches(char[] target, int position, String option) {
+        if (position + option.length() > target.length) {
+            return false;
+        }
+        for (int i = 0; i < option.length(); i++) {
+            if (target[position + i] != option.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Extends every partial spelling of a beam with the given option, keeping the cheapest cost of each spelling.
+     *
+     * @param beam   the partial spellings and their costs
+     * @param target the partial spellings at the index following the rule
+     * @param option the option to append
+     * @param cost   the cost of the option
+     */
+    private static void extend(List<Map.Entry<String, Integer>> beam, Map<String, Integer> target, String option,
+                               int cost) {
+        for (Map.Entry<String, Integer> spelling : beam) {
+            target.merge(spelling.getKey() + option, spelling.getValue() + cost, Math::min);
+        }
+    }
+
+    /**
+     * Counts the {@link #COMMON_WORDS} among the space-separated words of the given spelling.
+     *
+     * @param spelling the spelling
+     * @return the number of common words
+     */
+    private static int countCommonWords(String spelling) {
+        int count = 0;
+        int start = 0;
+        while (start <= spelling.length()) {
+            int end = spelling.indexOf(' ', start);
+            if (end < 0) {
+                end = spelling.length();
+            }
+            if (end > start && COMMON_WORD_SET.contains(spelling.substring(start, end))) {
+                count++;
+            }
+            start = end + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the cheapest partial spellings, ordered by cost and then lexicographically.
+     *
+     * @param spellings the partial spellings and their costs
+     * @param width     the maximum number of spellings to keep
+     * @return the cheapest spellings
+     */
+    private static List<Map.Entry<String, Integer>> prune(Map<String, Integer> spellings, int width) {
+        if (spellings.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(spellings.entrySet());
+        sorted.sort(Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        return sorted.size() > width ? sorted.subList(0, width) : sorted;
+    }
+
+    /**
+     * Adds the given Persian to Latin rules to the given trie.
+     *
+     * @param trie    the trie
+     * @param rules   the rules, as pairs of a Persian key and its Latin transliteration
+     * @param wordEnd whether the rules only apply at the end of a word
+     */
+    private static void putLatinRules(RuleTrie<String> trie, String[][] rules, boolean wordEnd) {
+        for (String[] rule : rules) {
+            trie.put(rule[0], rule[1], wordEnd);
+        }
+    }
+
+    /**
+     * Adds the given Latin to Persian rules to the given trie.
+     *
+     * @param trie    the trie
+     * @param rules   the rules, as a Latin key followed by its Persian options, adding the doubled form of the
+     *                {@link #DOUBLED_LETTERS} with the options of the single letter
+     * @param wordEnd whether the rules only apply at the end of a word
+     */
+    private static void putPersianRules(RuleTrie<String[]> trie, String[][] rules, boolean wordEnd) {
+        for (String[] rule : rules) {
+            String[] options = Arrays.copyOfRange(rule, 1, rule.length);
+            trie.put(rule[0], options, wordEnd);
+            if (!wordEnd && rule[0].length() == 1 && DOUBLED_LETTERS.indexOf(rule[0].charAt(0)) >= 0) {
+                trie.put(rule[0] + rule[0], options, false);
+            }
+        }
+    }
+
+    /**
+     * A view of a character sequence whose characters are normalized by {@link StringUtils#normalizePersian(char)}.
+     */
+    private static final class NormalizedSequence implements CharSequence {
+
+        private final CharSequence text;
+
+        /**
+         * Constructs a {@code NormalizedSequence} of the given text.
+         *
+         * @param text the text to view
+         */
+        private NormalizedSequence(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return StringUtils.normalizePersian(text.charAt(index));
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new NormalizedSequence(text.subSequence(start, end));
+        }
+
+        @Override
+        public String toString() {
+            return new StringBuilder(this).toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.transliteration;
+
+import java.util.Arrays;
+
+/**
+ * The {@code RuleTrie} class maps multi-character keys to the values of transliteration rules and finds the longest
+ * key matching a text at a given index, in time proportional to the length of the key.
+ * <p>
+ * Each key may have a value that applies anywhere and a value that only applies at the end of a word, i.e. when the
+ * character following the match is not a letter, e.g. to transliterate a final {@code ه} differently. Nodes are
+ * stored in flat arrays with first-child and next-sibling links. Keys must be added before the trie is shared; once
+ * populated and safely published, it can be read concurrently by multiple threads.
+ *
+ * @param <T> the type of the values of the rules
+ */
+final class RuleTrie<T> {
+
+    private final LetterTest letterTest;
+    private char[] labels = new char[16];
+    private int[] firstChildren = new int[16];
+    private int[] nextSiblings = new int[16];
+    private int[] depths = new int[16];
+    private Object[] values = new Object[16];
+    private Object[] wordEndValues = new Object[16];
+    private int size = 1;
+    private int maxLength;
+
+    /**
+     * Constructs an empty {@code RuleTrie}.
+     *
+     * @param letterTest the test deciding which characters are letters, to detect the end of a word
+     */
+    RuleTrie(LetterTest letterTest) {
+        this.letterTest = letterTest;
+    }
+
+    /**
+     * Associates the given value with the given key, replacing any previous value.
+     *
+     * @param key     the non-empty key
+     * @param value   the value of the rule
+     * @param wordEnd whether the rule only applies at the end of a word
+     */
+    void put(String key, T value, boolean wordEnd) {
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            int child = findChild(node, key.charAt(i));
+            if (child == 0) {
+                child = newNode();
+                labels[child] = key.charAt(i);
+                depths[child] = i + 1;
+                nextSiblings[child] = firstChildren[node];
+                firstChildren[node] = child;
+            }
+            node = child;
+        }
+        maxLength = Math.max(maxLength, key.length());
+        if (wordEnd) {
+            wordEndValues[node] = value;
+        } else {
+            values[node] = value;
+        }
+    }
+
+    /**
+     * Finds the node of the longest key applying to the given text at the given index.
+     *
+     * @param text  the text
+     * @param index the index to match from
+     * @return the node of the longest applying key, or zero if no key applies
+     */
+    int findLongest(CharSequence text, int index) {
+        int match = 0;
+        int node = 0;
+        for (int i = index; i < text.length(); i++) {
+            node = findChild(node, text.charAt(i));
+            if (node == 0) {
+                break;
+            }
+            if (values[node] != null || wordEndValues[node] != null && isWordEnd(text, i + 1)) {
+                match = node;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Finds the nodes of all keys applying to the given text at the given index, from the shortest to the longest.
+     *
+     * @param text  the text
+     * @param index the index to match from
+     * @param nodes the array receiving the nodes, at least {@link #maxLength()} long
+     * @return the number of applying keys
+     */
+    int findAll(CharSequence text, int index, int[] nodes) {
+        int count = 0;
+        int node = 0;
+        for (int i = index; i < text.length(); i++) {
+            node = findChild(node, text.charAt(i));
+            if (node == 0) {
+                break;
+            }
+            if (values[node] != null || wordEndValues[node] != null && isWordEnd(text, i + 1)) {
+                nodes[count++] = node;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the length of the longest key of the trie.
+     *
+     * @return the length of the longest key
+     */
+    int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Returns the length of the key of the given node.
+     *
+     * @param node the node, as returned by {@link #findLongest(CharSequence, int)}
+     * @return the length of the key
+     */
+    int length(int node) {
+        return depths[node];
+    }
+
+    /**
+     * Returns the value of the rule of the given node, preferring the word-end value at the end of a word.
+     *
+     * @param node  the node, as returned by {@link #findLongest(CharSequence, int)}
+     * @param text  the text the node was matched in
+     * @param index the index the node was matched from
+     * @return the value of the rule
+     */
+    @SuppressWarnings("unchecked")
+    T value(int node, CharSequence text, int index) {
+        if (wordEndValues[node] != null && (values[node] == null || isWordEnd(text, index + depths[node]))) {
+            return (T) wordEndValues[node];
+        }
+        return (T) values[node];
+    }
+
+    /**
+     * Checks if the given index of a text is the end of a word.
+     *
+     * @param text  the text
+     * @param index the index following the last character of a match
+     * @return {@code true} if the index is the end of the text or its character is not a letter
+     */
+    boolean isWordEnd(CharSequence text, int index) {
+        return index == text.length() || !letterTest.isLetter(text.charAt(index));
+    }
+
+    /**
+     * Finds the child of the given node labeled with the given character.
+     *
+     * @param node the node
+     * @param ch   the character labeling the edge to the child
+     * @return the child node, or zero if there is none
+     */
+    private int findChild(int node, char ch) {
+        int child = firstChildren[node];
+        while (child != 0 && labels[child] != ch) {
+            child = nextSiblings[child];
+        }
+        return child;
+    }
+
+    /**
+     * Allocates a new node, growing the arrays when needed.
+     *
+     * @return the index of the new node
+     */
+    private int newNode() {
+        if (size == labels.length) {
+            int capacity = size * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            depths = Arrays.copyOf(depths, capacity);
+            values = Arrays.copyOf(values, capacity);
+            wordEndValues = Arrays.copyOf(wordEndValues, capacity);
+        }
+        return size++;
+    }
+
+    /**
+     * The test deciding which characters are letters, i.e. which characters continue a word.
+     */
+    @FunctionalInterface
+    interface LetterTest {
+
+        /**
+         * Checks if the given character is a letter.
+         *
+         * @param ch the character to check
+         * @return {@code true} if the character is a letter
+         */
+        boolean isLetter(char ch);
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The {@code BulkUtils} class provides helper methods shared by the bulk validation methods of the services.
+ * <p>
+ * Bulk results are reported as a {@code long[]} bitmask, where bit {@code i % 64} of element {@code i / 64} holds
+ * the result of the record at index {@code i}. Bits beyond the last record are left unchanged.
+ */
+public final class BulkUtils {
+
+    /**
+     * Private constructor to prevent direct instantiation.
+     */
+    private BulkUtils() {
+
+    }
+
+    /**
+     * Checks that fixed-width records described by the given offset, stride and count lie within the buffer.
+     *
+     * @param buffer       the buffer containing the records
+     * @param offset       the absolute index of the first record
+     * @param stride       the distance in bytes between the starts of two consecutive records
+     * @param count        the number of records
+     * @param recordLength the length of a single record in bytes
+     * @throws IllegalArgumentException  if the buffer is {@code null}, the stride is shorter than a record or the
+     *                                   count is negative
+     * @throws IndexOutOfBoundsException if the records exceed the limit of the buffer
+     */
+    public static void checkRecords(ByteBuffer buffer, int offset, int stride, int count, int recordLength) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer is null");
+        }
+        if (stride < recordLength || count < 0) {
+            throw new IllegalArgumentException("Invalid stride or count: " + stride + ", " + count);
+        }
+        if (count > 0 && (offset < 0 || offset + (long) (count - 1) * stride + recordLength > buffer.limit())) {
+            throw new IndexOutOfBoundsException("Records exceed the buffer limit: " + buffer.limit());
+        }
+    }
+
+    /**
+     * Checks that the bitmask can hold the results of the given number of records.
+     *
+     * @param bitmask the bitmask receiving the results
+     * @param count   the number of records
+     * @throws IllegalArgumentException if the bitmask is {@code null} or too short
+     */
+    public static void checkBitmask(long[] bitmask, int count) {
+        if (bitmask == null || bitmask.length < (count + 63) >>> 6) {
+            throw new IllegalArgumentException("Bitmask is null or too short for " + count + " records");
+        }
+    }
+
+    /**
+     * Sets or clears the bit at the given index of the bitmask.
+     *
+     * @param bitmask the bitmask to update
+     * @param index   the index of the bit
+     * @param value   {@code true} to set the bit, {@code false} to clear it
+     */
+    public static void setBit(long[] bitmask, int index, boolean value) {
+        long mask = 1L << index;
+        if (value) {
+            bitmask[index >>> 6] |= mask;
+        } else {
+            bitmask[index >>> 6] &= ~mask;
+        }
+    }
+
+    /**
+     * Returns the bit at the given index of the bitmask.
+     *
+     * @param bitmask the bitmask to read
+     * @param index   the index of the bit
+     * @return {@code true} if the bit is set, otherwise {@code false}
+     */
+    public static boolean getBit(long[] bitmask, int index) {
+        return (bitmask[index >>> 6] & (1L << index)) != 0;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.util;
+
+import java.util.Arrays;
+
+/**
+ * The {@code DigitTrie} class maps decimal digit prefixes to values and resolves the value of the longest prefix of
+ * a number in time proportional to the number of its digits.
+ * <p>
+ * Nodes are stored in flat arrays, ten child indexes per node, so lookups neither allocate nor scan. Prefixes must be
+ * added before the trie is shared; once populated and safely published, e.g. through a {@code final} field, the trie
+ * can be read concurrently by multiple threads.
+ *
+ * @param <T> the type of the values associated with the prefixes
+ */
+public final class DigitTrie<T> {
+
+    private static final int RADIX = 10;
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * RADIX;
+        }
+    }
+
+    /**
+     * The child node indexes, {@code RADIX} per node. Zero means no child, as the root never is a child.
+     */
+    private int[] children = new int[RADIX * 16];
+    private Object[] values = new Object[16];
+    private int size = 1;
+
+    /**
+     * Associates the given value with the given prefix of ASCII digits, replacing any previous value.
+     *
+     * @param prefix the non-empty prefix consisting of ASCII digits
+     * @param value  the value to associate with the prefix
+     * @throws IllegalArgumentException if the prefix is {@code null}, empty or contains a non-digit character
+     */
+    public void put(CharSequence prefix, T value) {
+        if (prefix == null || prefix.length() == 0) {
+            throw new IllegalArgumentException("Prefix is null or empty");
+        }
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            int digit = prefix.charAt(i) - '0';
+            if (digit < 0 || digit >= RADIX) {
+                throw new IllegalArgumentException("Invalid prefix: " + prefix);
+            }
+            int child = children[node * RADIX + digit];
+            if (child == 0) {
+                child = newNode();
+                children[node * RADIX + digit] = child;
+            }
+            node = child;
+        }
+        values[node] = value;
+    }
+
+    /**
+     * Finds the value associated with the longest prefix of a number of the given length.
+     * <p>
+     * The number is read from its most significant digit as if it was written with exactly {@code length} digits,
+     * leading zeros included.
+     *
+     * @param number the non-negative number to look up
+     * @param length the number of digits of the number, from 1 to 18
+     * @return the value of the longest matching prefix, or {@code null} if no prefix matches
+     */
+    @SuppressWarnings("unchecked")
+    public T findLongestPrefix(long number, int length) {
+        T value = null;
+        int node = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            int digit = (int) (number / POWERS_OF_TEN[i] % RADIX);
+            node = children[node * RADIX + digit];
+            if (node == 0) {
+                break;
+            }
+            if (values[node] != null) {
+                value = (T) values[node];
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Finds the value associated with the longest prefix of the given ASCII digits.
+     *
+     * @param digits the digits to look up
+     * @return the value of the longest matching prefix, or {@code null} if no prefix matches
+     */
+    @SuppressWarnings("unchecked")
+    public T findLongestPrefix(CharSequence digits) {
+        T value = null;
+        int node = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit >= RADIX) {
+                break;
+            }
+            node = children[node * RADIX + digit];
+            if (node == 0) {
+                break;
+            }
+            if (values[node] != null) {
+                value = (T) values[node];
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Allocates a new node, growing the arrays when needed.
+     *
+     * @return the index of the new node
+     */
+    private int newNode() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            children = Arrays.copyOf(children, size * 2 * RADIX);
+        }
+        return size++;
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.persiantools4j.util;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The {@code GeneratorSpliterator} class is a {@link Spliterator.OfLong} over the values of a splittable generator,
+ * such as the national ID and card number generators.
+ * <p>
+ * Like the streams of {@link java.util.SplittableRandom#longs(long)}, each spliterator owns its generator and
+ * {@link #trySplit()} hands half of the remaining values to a new spliterator with a generator split from it, so a
+ * generator is never shared between threads, even when the stream is parallel.
+ *
+ * @param <G> the type of the generator
+ */
+public final class GeneratorSpliterator<G> implements Spliterator.OfLong {
+
+    private static final int CHARACTERISTICS = SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+    private final G generator;
+    private final ToLongFunction<G> next;
+    private final UnaryOperator<G> split;
+    private final long fence;
+    private long index;
+
+    /**
+     * Constructs a {@code GeneratorSpliterator} over the values from the given index up to the given fence.
+     *
+     * @param generator the generator owned by this spliterator
+     * @param next      the function generating the next value of a generator
+     * @param split     the function splitting a new generator from a generator
+     * @param index     the index of the first value
+     * @param fence     the index following the last value
+     */
+    private GeneratorSpliterator(G generator, ToLongFunction<G> next, UnaryOperator<G> split, long index,
+                                 long fence) {
+        this.generator = generator;
+        this.next = next;
+        this.split = split;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Returns a stream of the given number of values of the given generator, which is owned by the stream from then
+     * on. The stream is sequential, and splits the generator as it is split when made parallel.
+     *
+     * @param generator the generator owned by the stream
+     * @param size      the number of values
+     * @param next      the function generating the next value of a generator
+     * @param split     the function splitting a new generator from a generator
+     * @param <G>       the type of the generator
+     * @return a {@link LongStream} of the values of the generator
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public static <G> LongStream longs(G generator, long size, ToLongFunction<G> next, UnaryOperator<G> split) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size is negative: " + size);
+        }
+        return StreamSupport.longStream(new GeneratorSpliterator<>(generator, next, split, 0, size), false);
+    }
+
+    @Override
+    public GeneratorSpliterator<G> trySplit() {
+        long start = index;
+        long middle = (start + fence) >>> 1;
+        if (middle <= start) {
+            return null;
+        }
+        index = middle;
+        return new GeneratorSpliterator<>(split.apply(generator), next, split, start, middle);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (action == null) {
+            throw new NullPointerException("Action is null");
+        }
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(next.applyAsLong(generator));
+        index++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        if (action == null) {
+            throw new NullPointerException("Action is null");
+        }
+        for (; index < fence; index++) {
+            action.accept(next.applyAsLong(generator));
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+}
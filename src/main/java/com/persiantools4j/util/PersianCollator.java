@@ -0,0 +1,433 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The {@code PersianCollator} class orders Persian strings alphabetically, e.g. to sort large lists of names, and
+ * produces compact sort keys so that sorting mostly compares primitives.
+ * <p>
+ * Characters are folded as by {@link StringUtils#normalizePersian(String)} and then ordered by primary weight:
+ * whitespace, ASCII punctuation, digits of any script, case-insensitive Latin letters, Persian letters in the order of
+ * the Persian alphabet ({@code آ ا ب پ ت ث ج چ ح خ د ذ ر ز ژ س ش ص ض ط ظ ع غ ف ق ک گ ل م ن و ه ی}) and finally any
+ * other character by its code. Hamza forms weigh as their base letters, i.e. {@code أ}, {@code إ} and {@code ء} as
+ * {@code ا}, {@code ؤ} as {@code و}, {@code ئ} as {@code ی} and {@code ة} and {@code ۀ} as {@code ه}. Diacritics,
+ * tatweel, zero-width joiners and non-joiners and directional marks are ignored, leading and trailing whitespace is
+ * trimmed and runs of inner whitespace weigh as a single space. Strings of equal weights are ordered by their
+ * characters, so the order is total and consistent with {@link String#equals(Object)}.
+ * <p>
+ * A sort key, as returned by {@link #getSortKey(CharSequence)}, encodes the weights of a string in one byte each, or
+ * three bytes for other characters, and compares as unsigned bytes in the same order as the string. Its first eight
+ * bytes are also available as a {@code long} through {@link #getPrefixKey(CharSequence)}. Instances are stateless and
+ * can be shared by multiple threads.
+ */
+public final class PersianCollator implements Comparator<CharSequence> {
+
+    private static final char ASCII_END = '\u0080';
+    private static final char ARABIC_BLOCK_START = '\u0600';
+    private static final char ARABIC_BLOCK_END = '\u06FF';
+    private static final String PERSIAN_ALPHABET = "آابپتثجچحخدذرزژسشصضطظعغفقکگلمنوهی";
+    private static final int IGNORABLE = 0;
+    private static final int SEPARATOR = 1;
+    private static final int EXTENDED = 0xF0;
+    private static final int EXTENDED_WEIGHT = EXTENDED << 16;
+    private static final int PREFIX_LENGTH = Long.BYTES;
+
+    /**
+     * The primary weights of the ASCII characters followed by the characters of the Arabic block, after folding.
+     * Zero marks an ignorable character and {@code -1} a character without a dedicated weight.
+     */
+    private static final short[] WEIGHT_TABLE = createWeightTable();
+
+    /**
+     * Compares the given strings, ordering them by their weights and then by their characters.
+     * <p>
+     * The strings are compared on the fly, without computing their sort keys. Sorting large arrays through
+     * {@link #sort(CharSequence[])} is faster, as the keys are then computed once per element.
+     *
+     * @param first  the first string, {@code null} ordered first
+     * @param second the second string, {@code null} ordered first
+     * @return a negative integer, zero, or a positive integer as the first string is less than, equal to, or greater
+     * than the second
+     */
+    @Override
+    public int compare(CharSequence first, CharSequence second) {
+        if (first == second) {
+            return 0;
+        }
+        if (first == null || second == null) {
+            return first == null ? -1 : 1;
+        }
+        int firstEnd = trimmedEnd(first);
+        int secondEnd = trimmedEnd(second);
+        int i = trimmedStart(first, firstEnd);
+        int j = trimmedStart(second, secondEnd);
+        while (true) {
+            while (i < firstEnd && weightOf(first.charAt(i)) == IGNORABLE) {
+                i++;
+            }
+            while (j < secondEnd && weightOf(second.charAt(j)) == IGNORABLE) {
+                j++;
+            }
+            if (i == firstEnd || j == secondEnd) {
+                break;
+            }
+            int firstWeight = weightOf(first.charAt(i));
+            int secondWeight = weightOf(second.charAt(j));
+            if (firstWeight != secondWeight) {
+                return firstWeight < secondWeight ? -1 : 1;
+            }
+            i = firstWeight == SEPARATOR ? skipSeparators(first, i, firstEnd) : i + 1;
+            j = secondWeight == SEPARATOR ? skipSeparators(second, j, secondEnd) : j + 1;
+        }
+        if (i != firstEnd || j != secondEnd) {
+            return i == firstEnd ? -1 : 1;
+        }
+        return compareChars(first, second);
+    }
+
+    /**
+     * Computes the sort key of the given string.
+     * <p>
+     * Sort keys compare through {@link #compareSortKeys(byte[], byte[])} in the same order as their strings, except
+     * that strings of equal weights have equal sort keys.
+     *
+     * @param input the string to compute the sort key of
+     * @return the sort key of the string, empty if the string is {@code null} or has no weighted character
+     */
+    public byte[] getSortKey(CharSequence input) {
+        if (input == null) {
+            return new byte[0];
+        }
+        int end = trimmedEnd(input);
+        int start = trimmedStart(input, end);
+        byte[] key = new byte[end - start];
+        int length = 0;
+        int i = start;
+        while (i < end) {
+            int weight = weightOf(input.charAt(i));
+            if (weight == IGNORABLE) {
+                i++;
+                continue;
+            }
+            if (length + 3 > key.length) {
+                key = Arrays.copyOf(key, Math.max(key.length * 2, length + 3));
+            }
+            if (weight < EXTENDED) {
+                key[length++] = (byte) weight;
+            } else {
+                key[length++] = (byte) EXTENDED;
+                key[length++] = (byte) (weight >> 8);
+                key[length++] = (byte) weight;
+            }
+            i = weight == SEPARATOR ? skipSeparators(input, i, end) : i + 1;
+        }
+        return length == key.length ? key : Arrays.copyOf(key, length);
+    }
+
+    /**
+     * Computes the prefix key of the given string, i.e. the first eight bytes of its sort key packed into a
+     * {@code long}, so that prefix keys compare as signed longs in the same order as their sort keys.
+     * <p>
+     * Equal prefix keys only mean the sort keys share their first eight bytes; the rest of the sort keys must then be
+     * compared to order the strings.
+     *
+     * @param input the string to compute the prefix key of
+     * @return the prefix key of the string
+     */
+    public long getPrefixKey(CharSequence input) {
+        return toPrefixKey(getSortKey(input));
+    }
+
+    /**
+     * Compares the given sort keys as unsigned bytes, a shorter key being less than a longer key it is a prefix of.
+     *
+     * @param first  the first sort key
+     * @param second the second sort key
+     * @return a negative integer, zero, or a positive integer as the first sort key is less than, equal to, or
+     * greater than the second
+     */
+    public static int compareSortKeys(byte[] first, byte[] second) {
+        return compareSortKeys(first, second, 0);
+    }
+
+    /**
+     * Sorts the given array in place in the order of this collator.
+     * <p>
+     * The sort key of every element is computed once and the elements are then ordered by their prefix keys, falling
+     * back to the rest of their sort keys and to their characters only when needed. Large arrays are sorted in
+     * parallel through {@link Arrays#parallelSort(Object[], Comparator)}, small arrays sequentially.
+     *
+     * @param values the array to sort, {@code null} elements ordered first
+     * @param <T>    the type of the elements
+     * @throws IllegalArgumentException if the array is {@code null}
+     */
+    public <T extends CharSequence> void sort(T[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values are null");
+        }
+        @SuppressWarnings("unchecked")
+        SortEntry<T>[] entries = (SortEntry<T>[]) new SortEntry<?>[values.length];
+        for (int i = 0; i < values.length; i++) {
+            entries[i] = new SortEntry<>(values[i], values[i] == null ? null : getSortKey(values[i]));
+        }
+        Arrays.parallelSort(entries, PersianCollator::compareEntries);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = entries[i].value;
+        }
+    }
+
+    /**
+     * Compares the given sort entries by their prefix keys, then by the rest of their sort keys and finally by their
+     * characters.
+     *
+     * @param first  the first sort entry
+     * @param second the second sort entry
+     * @return a negative integer, zero, or a positive integer as the first entry is less than, equal to, or greater
+     * than the second
+     */
+    private static int compareEntries(SortEntry<?> first, SortEntry<?> second) {
+        if (first.key == null || second.key == null) {
+            return first.key == null ? (second.key == null ? 0 : -1) : 1;
+        }
+        if (first.prefixKey != second.prefixKey) {
+            return first.prefixKey < second.prefixKey ? -1 : 1;
+        }
+        int result = compareSortKeys(first.key, second.key, PREFIX_LENGTH);
+        return result != 0 ? result : compareChars(first.value, second.value);
+    }
+
+    /**
+     * Compares the given sort keys as unsigned bytes from the given index on.
+     *
+     * @param first  the first sort key
+     * @param second the second sort key
+     * @param from   the index to start from, the keys being known to be equal before it
+     * @return a negative integer, zero, or a positive integer as the first sort key is less than, equal to, or
+     * greater than the second
+     */
+    private static int compareSortKeys(byte[] first, byte[] second, int from) {
+        int length = Math.min(first.length, second.length);
+        for (int i = from; i < length; i++) {
+            if (first[i] != second[i]) {
+                return (first[i] & 0xFF) - (second[i] & 0xFF);
+            }
+        }
+        return first.length - second.length;
+    }
+
+    /**
+     * Packs the first eight bytes of the given sort key into a {@code long}, zero-padded, with its sign bit flipped
+     * so that the packed keys compare as signed longs.
+     *
+     * @param key the sort key
+     * @return the prefix key
+     */
+    private static long toPrefixKey(byte[] key) {
+        long prefixKey = 0;
+        for (int i = 0; i < PREFIX_LENGTH; i++) {
+            prefixKey = prefixKey << 8 | (i < key.length ? key[i] & 0xFF : 0);
+        }
+        return prefixKey ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Compares the characters of the given strings lexicographically, as {@link String#compareTo(String)} does.
+     *
+     * @param first  the first string
+     * @param second the second string
+     * @return a negative integer, zero, or a positive integer as the first string is less than, equal to, or greater
+     * than the second
+     */
+    private static int compareChars(CharSequence first, CharSequence second) {
+        int length = Math.min(first.length(), second.length());
+        for (int i = 0; i < length; i++) {
+            char firstChar = first.charAt(i);
+            char secondChar = second.charAt(i);
+            if (firstChar != secondChar) {
+                return firstChar - secondChar;
+            }
+        }
+        return first.length() - second.length();
+    }
+
+    /**
+     * Returns the primary weight of the given character.
+     *
+     * @param ch the character
+     * @return the primary weight of the character, {@link #IGNORABLE} if it is ignored, {@link #SEPARATOR} if it is
+     * whitespace, or an extended weight of at least {@link #EXTENDED_WEIGHT} if it has no dedicated weight
+     */
+    private static int weightOf(char ch) {
+        int weight = -1;
+        if (ch < ASCII_END) {
+            weight = WEIGHT_TABLE[ch];
+        } else if (ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END) {
+            weight = WEIGHT_TABLE[indexOf(ch)];
+        } else if (isIgnorable(ch)) {
+            weight = IGNORABLE;
+        } else if (Character.isWhitespace(ch) || Character.isSpaceChar(ch)) {
+            weight = SEPARATOR;
+        }
+        return weight >= 0 ? weight : EXTENDED_WEIGHT | ch;
+    }
+
+    /**
+     * Checks if the given character outside the ASCII and Arabic blocks is ignored, i.e. a zero-width joiner or
+     * non-joiner or a directional mark.
+     *
+     * @param ch the character to check
+     * @return {@code true} if the character is ignored
+     */
+    @SuppressWarnings("UnnecessaryUnicodeEscape")
+    private static boolean isIgnorable(char ch) {
+        return ch >= '\u200B' && ch <= '\u200F' || ch == '\uFEFF';
+    }
+
+    /**
+     * Returns the index following the run of whitespace and ignored characters starting at the given index.
+     *
+     * @param input the string
+     * @param index the index of a whitespace character
+     * @param end   the end index of the trimmed range
+     * @return the index of the next weighted non-whitespace character, or {@code end} if there is none
+     */
+    private static int skipSeparators(CharSequence input, int index, int end) {
+        int weight;
+        do {
+            index++;
+        } while (index < end && ((weight = weightOf(input.charAt(index))) == SEPARATOR || weight == IGNORABLE));
+        return index;
+    }
+
+    /**
+     * Returns the index following the last character of the given string that is neither whitespace nor ignored.
+     *
+     * @param input the string
+     * @return the end index of the trimmed range
+     */
+    private static int trimmedEnd(CharSequence input) {
+        int end = input.length();
+        while (end > 0 && weightOf(input.charAt(end - 1)) <= SEPARATOR) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the index of the first character of the given string that is neither whitespace nor ignored.
+     *
+     * @param input the string
+     * @param end   the end index of the trimmed range
+     * @return the start index of the trimmed range
+     */
+    private static int trimmedStart(CharSequence input, int end) {
+        int start = 0;
+        while (start < end && weightOf(input.charAt(start)) <= SEPARATOR) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Creates the {@link #WEIGHT_TABLE}, assigning consecutive weights to ASCII punctuation, digits, Latin letters and
+     * Persian letters, after folding the characters of the Arabic block through
+     * {@link StringUtils#normalizePersian(char)}.
+     *
+     * @return the weight table
+     */
+    @SuppressWarnings("UnnecessaryUnicodeEscape")
+    private static short[] createWeightTable() {
+        short[] table = new short[ASCII_END + ARABIC_BLOCK_END - ARABIC_BLOCK_START + 1];
+        Arrays.fill(table, (short) -1);
+        int weight = SEPARATOR + 1;
+        for (char ch = '!'; ch < 0x7F; ch++) {
+            if (!Character.isLetterOrDigit(ch)) {
+                table[ch] = (short) weight++;
+            }
+        }
+        for (char ch = '0'; ch <= '9'; ch++) {
+            table[ch] = (short) weight;
+            table[indexOf('\u06F0') + ch - '0'] = (short) weight++;
+        }
+        for (char ch = 'a'; ch <= 'z'; ch++) {
+            table[ch] = (short) weight;
+            table[ch - 'a' + 'A'] = (short) weight++;
+        }
+        for (int i = 0; i < PERSIAN_ALPHABET.length(); i++) {
+            table[indexOf(PERSIAN_ALPHABET.charAt(i))] = (short) weight++;
+        }
+        String[] variants = {"اأإءٱ", "وؤ", "یئى",
+                "هةۀە"};
+        for (String variant : variants) {
+            for (int i = 1; i < variant.length(); i++) {
+                table[indexOf(variant.charAt(i))] = table[indexOf(variant.charAt(0))];
+            }
+        }
+        for (char ch = '\u0610'; ch <= '\u061A'; ch++) {
+            table[indexOf(ch)] = IGNORABLE;
+        }
+        for (char ch = '\u064B'; ch <= '\u065F'; ch++) {
+            table[indexOf(ch)] = IGNORABLE;
+        }
+        table[indexOf('\u0640')] = IGNORABLE;
+        table[indexOf('\u0670')] = IGNORABLE;
+        for (char ch = '\t'; ch <= '\r'; ch++) {
+            table[ch] = SEPARATOR;
+        }
+        for (char ch = '\u001C'; ch <= ' '; ch++) {
+            table[ch] = SEPARATOR;
+        }
+        for (char ch = ARABIC_BLOCK_START; ch <= ARABIC_BLOCK_END; ch++) {
+            char folded = StringUtils.normalizePersian(ch);
+            if (folded != ch) {
+                table[indexOf(ch)] = table[folded < ASCII_END ? folded : indexOf(folded)];
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns the index of the given character of the Arabic block in the {@link #WEIGHT_TABLE}.
+     *
+     * @param ch the character of the Arabic block
+     * @return the index of the character in the weight table
+     */
+    private static int indexOf(char ch) {
+        return ASCII_END + ch - ARABIC_BLOCK_START;
+    }
+
+    /**
+     * A value to sort along with its precomputed sort and prefix keys.
+     *
+     * @param <T> the type of the value
+     */
+    private static final class SortEntry<T extends CharSequence> {
+        private final T value;
+        private final byte[] key;
+        private final long prefixKey;
+
+        private SortEntry(T value, byte[] key) {
+            this.value = value;
+            this.key = key;
+            this.prefixKey = key == null ? 0 : toPrefixKey(key);
+        }
+    }
+
+}
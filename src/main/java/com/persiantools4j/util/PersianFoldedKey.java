@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.util;
+
+/**
+ * The {@code PersianFoldedKey} class wraps a character sequence as a hash key whose equality and hash code follow
+ * the rules of {@link StringUtils#normalizePersian(String)}, e.g. to deduplicate or join Persian names in a
+ * {@link java.util.HashMap} without normalizing every key.
+ * <p>
+ * Two keys are equal if their sequences normalize to the same string, and the hash code of a key is the hash code of
+ * its normalized string. Both are computed on the fly, character by character, so no normalized string is ever
+ * materialized. The wrapped sequence should not be modified while the key is in use.
+ */
+public final class PersianFoldedKey {
+
+    private final CharSequence value;
+    private final int hash;
+
+    /**
+     * Creates a key wrapping the given character sequence.
+     *
+     * @param value the character sequence to wrap
+     * @throws IllegalArgumentException if the character sequence is {@code null}
+     */
+    public PersianFoldedKey(CharSequence value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value is null");
+        }
+        this.value = value;
+        this.hash = foldedHashCode(value);
+    }
+
+    /**
+     * Computes the hash code of the given character sequence under the normalization rules, which is equal to
+     * {@code StringUtils.normalizePersian(input.toString()).hashCode()}.
+     *
+     * @param input the character sequence to hash
+     * @return the folded hash code, or {@code 0} if the character sequence is {@code null}
+     */
+    public static int foldedHashCode(CharSequence input) {
+        if (input == null) {
+            return 0;
+        }
+        int end = trimmedEnd(input);
+        int hash = 0;
+        for (int i = trimmedStart(input, end); i < end; i++) {
+            hash = 31 * hash + StringUtils.normalizePersian(input.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * Checks if the given character sequences are equal under the normalization rules, i.e. if they normalize to
+     * the same string.
+     *
+     * @param first  the first character sequence
+     * @param second the second character sequence
+     * @return {@code true} if both character sequences are {@code null} or normalize to the same string
+     */
+    public static boolean foldedEquals(CharSequence first, CharSequence second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+        int firstEnd = trimmedEnd(first);
+        int firstStart = trimmedStart(first, firstEnd);
+        int secondEnd = trimmedEnd(second);
+        int secondStart = trimmedStart(second, secondEnd);
+        if (firstEnd - firstStart != secondEnd - secondStart) {
+            return false;
+        }
+        for (int i = firstStart, j = secondStart; i < firstEnd; i++, j++) {
+            char firstChar = first.charAt(i);
+            char secondChar = second.charAt(j);
+            if (firstChar != secondChar &&
+                    StringUtils.normalizePersian(firstChar) != StringUtils.normalizePersian(secondChar)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the wrapped character sequence, as given to the constructor.
+     *
+     * @return the wrapped character sequence
+     */
+    public CharSequence getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PersianFoldedKey)) {
+            return false;
+        }
+        PersianFoldedKey that = (PersianFoldedKey) o;
+        return hash == that.hash && foldedEquals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+
+    /**
+     * Returns the index following the last character of the given sequence that is not trimmed, in the sense of
+     * {@link String#trim()}.
+     *
+     * @param input the character sequence
+     * @return the end index of the trimmed range
+     */
+    private static int trimmedEnd(CharSequence input) {
+        int end = input.length();
+        while (end > 0 && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the index of the first character of the given sequence that is not trimmed, in the sense of
+     * {@link String#trim()}.
+     *
+     * @param input the character sequence
+     * @param end   the end index of the trimmed range
+     * @return the start index of the trimmed range
+     */
+    private static int trimmedStart(CharSequence input, int end) {
+        int start = 0;
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.util;
+
+/**
+ * The {@code ScriptStatistics} class holds the per-script character counts of a text, as filled by
+ * {@link StringUtils#analyzeScripts(CharSequence, ScriptStatistics)}.
+ * <p>
+ * Instances are mutable and meant to be reused across texts to avoid allocation; each analysis resets the counts.
+ * They are not thread-safe.
+ */
+public final class ScriptStatistics {
+
+    int length;
+    int persianLetterCount;
+    int arabicLetterCount;
+    int latinLetterCount;
+    int digitCount;
+    int whitespaceCount;
+    int otherCount;
+    int firstNonPersianIndex = -1;
+
+    /**
+     * Resets all counts, as before the analysis of an empty text.
+     *
+     * @return this {@code ScriptStatistics}
+     */
+    public ScriptStatistics reset() {
+        length = 0;
+        persianLetterCount = 0;
+        arabicLetterCount = 0;
+        latinLetterCount = 0;
+        digitCount = 0;
+        whitespaceCount = 0;
+        otherCount = 0;
+        firstNonPersianIndex = -1;
+        return this;
+    }
+
+    /**
+     * Retrieves the number of characters of the analyzed text.
+     *
+     * @return the length of the text
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Retrieves the number of Persian letters, as defined by
+     * {@link com.persiantools4j.enums.RegexCharacterClass#PERSIAN_ALPHABET}.
+     *
+     * @return the number of Persian letters
+     */
+    public int getPersianLetterCount() {
+        return persianLetterCount;
+    }
+
+    /**
+     * Retrieves the number of letters of the Arabic block that are not Persian letters, e.g. Arabic yeh and kaf.
+     *
+     * @return the number of Arabic-only letters
+     */
+    public int getArabicLetterCount() {
+        return arabicLetterCount;
+    }
+
+    /**
+     * Retrieves the number of Latin letters, including accented ones.
+     *
+     * @return the number of Latin letters
+     */
+    public int getLatinLetterCount() {
+        return latinLetterCount;
+    }
+
+    /**
+     * Retrieves the number of English, Persian and Arabic digits.
+     *
+     * @return the number of digits
+     */
+    public int getDigitCount() {
+        return digitCount;
+    }
+
+    /**
+     * Retrieves the number of whitespace characters.
+     *
+     * @return the number of whitespace characters
+     */
+    public int getWhitespaceCount() {
+        return whitespaceCount;
+    }
+
+    /**
+     * Retrieves the number of the remaining characters, e.g. symbols, punctuation and diacritics.
+     *
+     * @return the number of other characters
+     */
+    public int getOtherCount() {
+        return otherCount;
+    }
+
+    /**
+     * Retrieves the index of the first character that is neither whitespace nor matched by
+     * {@link com.persiantools4j.enums.RegexCharacterClass#PERSIAN}, consistently with
+     * {@link StringUtils#isPersian(String)}.
+     *
+     * @return the index of the first non-Persian character, or {@code -1} if there is none
+     */
+    public int getFirstNonPersianIndex() {
+        return firstNonPersianIndex;
+    }
+
+    /**
+     * Retrieves the fraction of the characters of the text that are Persian letters.
+     *
+     * @return the fraction of Persian letters, or {@code 0} for an empty text
+     */
+    public double getPersianLetterFraction() {
+        return fraction(persianLetterCount);
+    }
+
+    /**
+     * Retrieves the fraction of the characters of the text that are Arabic-only letters.
+     *
+     * @return the fraction of Arabic-only letters, or {@code 0} for an empty text
+     */
+    public double getArabicLetterFraction() {
+        return fraction(arabicLetterCount);
+    }
+
+    /**
+     * Retrieves the fraction of the characters of the text that are Latin letters.
+     *
+     * @return the fraction of Latin letters, or {@code 0} for an empty text
+     */
+    public double getLatinLetterFraction() {
+        return fraction(latinLetterCount);
+    }
+
+    /**
+     * Retrieves the fraction of the characters of the text that are digits.
+     *
+     * @return the fraction of digits, or {@code 0} for an empty text
+     */
+    public double getDigitFraction() {
+        return fraction(digitCount);
+    }
+
+    /**
+     * Returns a string representation of this {@code ScriptStatistics} instance.
+     *
+     * @return a string representation of the {@code ScriptStatistics} object
+     */
+    @Override
+    public String toString() {
+        return "ScriptStatistics{" + "length=" + length + ", persianLetterCount=" + persianLetterCount +
+                ", arabicLetterCount=" + arabicLetterCount + ", latinLetterCount=" + latinLetterCount +
+                ", digitCount=" + digitCount + ", whitespaceCount=" + whitespaceCount + ", otherCount=" + otherCount +
+                ", firstNonPersianIndex=" + firstNonPersianIndex + '}';
+    }
+
+    /**
+     * Computes the fraction of the characters of the text represented by the given count.
+     *
+     * @param count the count of characters
+     * @return the fraction of the count, or {@code 0} for an empty text
+     */
+    private double fraction(int count) {
+        return length == 0 ? 0 : (double) count / length;
+    }
+
+}
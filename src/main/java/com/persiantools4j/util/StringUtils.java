@@ -19,7 +19,9 @@ package com.persiantools4j.util;
 import com.persiantools4j.enums.RegexCharacterClass;
 import com.persiantools4j.exception.ValidationException;
 
-import java.util.regex.Matcher;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 /**
@@ -29,13 +31,31 @@ import java.util.regex.Pattern;
 public final class StringUtils {
 
     private static final Pattern ENGLISH_NUMERIC_PATTERN = Pattern.compile("\\d+");
-    private static final Pattern PERSIAN_ARABIC_NUMERIC_PATTERN =
-            Pattern.compile("[" + RegexCharacterClass.PERSIAN_NUMERIC.getClassStr() +
-                    RegexCharacterClass.ARABIC_NUMERIC.getClassStr() + "]");
-    private static final Pattern PERSIAN_NUMERIC_PATTERN =
-            Pattern.compile("[" + RegexCharacterClass.PERSIAN_NUMERIC.getClassStr() + "]");
-    private static final Pattern ARABIC_NUMERIC_PATTERN =
-            Pattern.compile("[" + RegexCharacterClass.ARABIC_NUMERIC.getClassStr() + "]");
+    private static final char ARABIC_BLOCK_START = '\u0600';
+    private static final char ARABIC_BLOCK_END = '\u06FF';
+    private static final char LATIN_END = '\u024F';
+    private static final char PERSIAN_ZERO = '\u06F0';
+    private static final char PERSIAN_THOUSANDS_SEPARATOR = '\u066C';
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * The Persian equivalents of the characters of the Arabic block, from {@code U+0600} to {@code U+06FF}, used by
+     * the {@code normalizePersian} methods. Characters without an equivalent map to themselves.
+     */
+    private static final char[] PERSIAN_NORMALIZATION_TABLE = createPersianNormalizationTable();
+
+    /**
+     * The digit values of the characters of the Arabic block, from {@code U+0600} to {@code U+06FF}, {@code -1} for
+     * non-digits. Shared by {@link #getDigitValue(char)} and the {@code toEnglishDigits} methods.
+     */
+    private static final byte[] DIGIT_VALUE_TABLE = createDigitValueTable();
 
     /**
      * Private constructor to prevent direct instantiation.
@@ -75,43 +95,204 @@ public final class StringUtils {
         }
     }
 
+    /**
+     * Returns the numeric value of an English, Persian or Arabic digit character.
+     * <p>
+     * Unlike {@link Character#getNumericValue(char)}, only the digits '0' to '9', Persian digits ('۰' (U+06F0) to
+     * '۹' (U+06F9)) and Arabic digits ('٠' (U+0660) to '٩' (U+0669)) are recognized.
+     *
+     * @param ch the character to convert
+     * @return the numeric value of the digit from 0 to 9, or {@code -1} if the character is not a recognized digit
+     */
+    public static int getDigitValue(char ch) {
+        if (ch >= '0' && ch <= '9') {
+            return ch - '0';
+        } else if (ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END) {
+            return DIGIT_VALUE_TABLE[ch - ARABIC_BLOCK_START];
+        }
+        return -1;
+    }
+
     /**
      * Converts all Persian (Farsi) and Arabic digits in a given string to their equivalent English (Western) digits.
      * <p>
      * Persian digits (e.g., '۰' (U+06F0) to '۹' (U+06F9)) and Arabic digits (e.g., '۰' (U+0660) to '٩' (U+0669))
-     * are mapped to '0' to '9'. Any non-digit characters remain unchanged.
+     * are mapped to '0' to '9'. Any non-digit characters remain unchanged. If the trimmed string contains no Persian
+     * or Arabic digit, it is returned itself.
      *
      * @param input the input string containing potential Persian or Arabic digits
      * @return a string with all digits converted to English; non-digits remain unchanged.
      * Returns an empty string if input is blank.
      */
     public static String toEnglishDigits(String input) {
-        if (isBlank(input)) {
+        if (input == null) {
             return "";
         }
         input = input.trim();
-        StringBuffer result = new StringBuffer();
-        Matcher matcher = PERSIAN_ARABIC_NUMERIC_PATTERN.matcher(input);
-        while (matcher.find()) {
-            String digitStr = matcher.group();
-            char digit = digitStr.charAt(0);
-            char englishDigit;
-            if (PERSIAN_NUMERIC_PATTERN.matcher(digitStr).matches()) {
-                englishDigit = (char) (digit - '\u06F0' + '0');
-            } else {
-                englishDigit = (char) (digit - '\u0660' + '0');
+        int index = indexOfNonEnglishDigit(input, 0, input.length());
+        if (index < 0) {
+            return input;
+        }
+        char[] chars = input.toCharArray();
+        toEnglishDigits(chars, index, chars.length - index);
+        return new String(chars);
+    }
+
+    /**
+     * Converts all Persian and Arabic digits in the given range of a character array to English digits in place.
+     *
+     * @param chars  the character array to convert
+     * @param offset the index of the first character to convert
+     * @param length the number of characters to convert
+     * @throws NullPointerException      if the character array is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the character array
+     */
+    public static void toEnglishDigits(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > chars.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ", " + offset + " + " + length +
+                    ") of array of length " + chars.length);
+        }
+        for (int i = offset; i < offset + length; i++) {
+            char ch = chars[i];
+            if (ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END && DIGIT_VALUE_TABLE[ch - ARABIC_BLOCK_START] >= 0) {
+                chars[i] = (char) ('0' + DIGIT_VALUE_TABLE[ch - ARABIC_BLOCK_START]);
             }
-            matcher.appendReplacement(result, String.valueOf(englishDigit));
         }
-        matcher.appendTail(result);
-        return result.toString();
+    }
+
+    /**
+     * Appends the given character sequence to the given {@link Appendable}, converting all Persian and Arabic digits
+     * to English digits.
+     * <p>
+     * Unlike {@link #toEnglishDigits(String)}, the input is not trimmed. Runs of characters without Persian or Arabic
+     * digits are appended as subsequences, so that no intermediate string is created.
+     *
+     * @param input  the character sequence to convert
+     * @param output the {@link Appendable} receiving the converted characters
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IOException if appending to the output fails
+     */
+    public static <A extends Appendable> A toEnglishDigits(CharSequence input, A output) throws IOException {
+        int length = input.length();
+        int start = 0;
+        int index;
+        while ((index = indexOfNonEnglishDigit(input, start, length)) >= 0) {
+            output.append(input, start, index)
+                    .append((char) ('0' + DIGIT_VALUE_TABLE[input.charAt(index) - ARABIC_BLOCK_START]));
+            start = index + 1;
+        }
+        output.append(input, start, length);
+        return output;
+    }
+
+    /**
+     * Converts all English and Arabic digits in a given character sequence to their equivalent Persian digits, the
+     * inverse of {@link #toEnglishDigits(String)}.
+     * <p>
+     * English digits ('0' to '9') and Arabic digits ('٠' (U+0660) to '٩' (U+0669)) are mapped to '۰' (U+06F0) to
+     * '۹' (U+06F9). Any non-digit characters remain unchanged. If the trimmed input contains no English or Arabic
+     * digit, it is returned as a string as it is.
+     *
+     * @param input the character sequence containing potential English or Arabic digits
+     * @return a string with all digits converted to Persian, or an empty string if the input is {@code null}
+     */
+    public static String toPersianDigits(CharSequence input) {
+        if (input == null) {
+            return "";
+        }
+        String trimmed = input.toString().trim();
+        int index = indexOfNonPersianDigit(trimmed, 0, trimmed.length());
+        if (index < 0) {
+            return trimmed;
+        }
+        char[] chars = trimmed.toCharArray();
+        while (index >= 0) {
+            chars[index] = toPersianDigit(chars[index]);
+            index = indexOfNonPersianDigit(trimmed, index + 1, chars.length);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Appends the given character sequence to the given {@link Appendable}, converting all English and Arabic digits
+     * to Persian digits.
+     * <p>
+     * Unlike {@link #toPersianDigits(CharSequence)}, the input is not trimmed. Runs of characters without English or
+     * Arabic digits are appended as subsequences, so that no intermediate string is created.
+     *
+     * @param input  the character sequence to convert
+     * @param output the {@link Appendable} receiving the converted characters
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IOException if appending to the output fails
+     */
+    public static <A extends Appendable> A toPersianDigits(CharSequence input, A output) throws IOException {
+        int length = input.length();
+        int start = 0;
+        int index;
+        while ((index = indexOfNonPersianDigit(input, start, length)) >= 0) {
+            output.append(input, start, index).append(toPersianDigit(input.charAt(index)));
+            start = index + 1;
+        }
+        output.append(input, start, length);
+        return output;
+    }
+
+    /**
+     * Formats the given number in Persian digits, grouping every three digits with the Persian thousands separator
+     * '٬' (U+066C), e.g. {@code 1234567} as {@code ۱٬۲۳۴٬۵۶۷}.
+     *
+     * @param number the number to format
+     * @return the formatted number
+     * @see #formatPersian(long, Appendable)
+     */
+    public static String formatPersian(long number) {
+        try {
+            return formatPersian(number, new StringBuilder(26)).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Formats the given number in Persian digits into the given {@link Appendable}, grouping every three digits with
+     * the Persian thousands separator '٬' (U+066C).
+     * <p>
+     * The digits are written straight from the value, most significant first, without {@link java.text.NumberFormat}
+     * or any intermediate string. Negative numbers are preceded by a hyphen-minus.
+     *
+     * @param number the number to format
+     * @param output the {@link Appendable} receiving the formatted number
+     * @param <A>    the type of the {@link Appendable}
+     * @return the given {@link Appendable}
+     * @throws IOException if appending to the output fails
+     */
+    public static <A extends Appendable> A formatPersian(long number, A output) throws IOException {
+        if (number < 0) {
+            output.append('-');
+        }
+        int digitCount = 1;
+        while (digitCount < POWERS_OF_TEN.length &&
+                (number >= POWERS_OF_TEN[digitCount] || number <= -POWERS_OF_TEN[digitCount])) {
+            digitCount++;
+        }
+        for (int i = digitCount - 1; i >= 0; i--) {
+            int digit = (int) Math.abs(number / POWERS_OF_TEN[i] % 10);
+            output.append((char) (PERSIAN_ZERO + digit));
+            if (i > 0 && i % 3 == 0) {
+                output.append(PERSIAN_THOUSANDS_SEPARATOR);
+            }
+        }
+        return output;
     }
 
     /**
      * Determines if the input string contains only valid Persian characters, numerics, and symbols.
      * <p>
-     * The method trims the input string before validation. Validates against a regex pattern that includes
-     * Persian alphabet, numerics, short vowels, Tanvin, symbols, and whitespace.
+     * The method trims the input string before validation. Validates against the precompiled
+     * {@link RegexCharacterClass#PERSIAN} character class, which includes Persian alphabet, numerics, short vowels,
+     * Tanvin and symbols, and whitespace.
      *
      * @param input the string to be validated
      * @return {@code true} if the string consists only of valid Persian characters and symbols; {@code false} otherwise
@@ -121,8 +302,74 @@ public final class StringUtils {
             return false;
         }
         input = input.trim();
-        String regex = RegexCharacterClass.PERSIAN.getClassStr();
-        return input.matches("[" + regex + "\\s]+");
+        for (int i = 0; i < input.length(); i++) {
+            char ch = input.charAt(i);
+            if (!RegexCharacterClass.PERSIAN.matches(ch) && !isRegexWhitespace(ch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Analyzes the scripts of the given text in a single pass, filling the given reusable {@link ScriptStatistics}.
+     * <p>
+     * Each character is counted in exactly one category, checked in this order: whitespace, English, Persian or
+     * Arabic digit, Persian letter ({@link RegexCharacterClass#PERSIAN_ALPHABET}), other letter of the Arabic block,
+     * Latin letter and other character. The index of the first character that is neither whitespace nor matched by
+     * {@link RegexCharacterClass#PERSIAN} is recorded as well.
+     *
+     * @param input      the text to analyze
+     * @param statistics the statistics to reset and fill
+     * @return the given {@link ScriptStatistics}
+     */
+    public static ScriptStatistics analyzeScripts(CharSequence input, ScriptStatistics statistics) {
+        statistics.reset();
+        int length = input.length();
+        statistics.length = length;
+        for (int i = 0; i < length; i++) {
+            char ch = input.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                statistics.whitespaceCount++;
+            } else if (getDigitValue(ch) >= 0) {
+                statistics.digitCount++;
+            } else if (RegexCharacterClass.PERSIAN_ALPHABET.matches(ch)) {
+                statistics.persianLetterCount++;
+            } else if (ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END && Character.isLetter(ch)) {
+                statistics.arabicLetterCount++;
+            } else if (ch <= LATIN_END && Character.isLetter(ch)) {
+                statistics.latinLetterCount++;
+            } else {
+                statistics.otherCount++;
+            }
+            if (statistics.firstNonPersianIndex < 0 && !RegexCharacterClass.PERSIAN.matches(ch) &&
+                    !isRegexWhitespace(ch)) {
+                statistics.firstNonPersianIndex = i;
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Analyzes the scripts of the given texts in bulk, e.g. the messages of an ingestion batch.
+     * <p>
+     * Element {@code i} of {@code statistics} is filled with the statistics of {@code inputs[i]}. Existing elements
+     * are reused and {@code null} ones are created. A {@code null} text is analyzed as an empty one.
+     *
+     * @param inputs     the texts to analyze
+     * @param statistics the array receiving the statistics, at least as long as {@code inputs}
+     * @throws IllegalArgumentException if an array is {@code null} or the output array is too short
+     */
+    public static void analyzeScriptsAll(CharSequence[] inputs, ScriptStatistics[] statistics) {
+        if (inputs == null || statistics == null || statistics.length < inputs.length) {
+            throw new IllegalArgumentException("Inputs are null or output array is too short");
+        }
+        for (int i = 0; i < inputs.length; i++) {
+            if (statistics[i] == null) {
+                statistics[i] = new ScriptStatistics();
+            }
+            analyzeScripts(inputs[i] == null ? "" : inputs[i], statistics[i]);
+        }
     }
 
     /**
@@ -134,27 +381,143 @@ public final class StringUtils {
      *     Persian digits ('۰' (U+06F0) to '۹' (U+06F9)).</li>
      *     <li>Arabic waw is replaced with Persian 'و'.</li>
      * </ul>
+     * The characters are converted in a single pass through a precomputed translation table. If no character needs
+     * to be converted, the trimmed input itself is returned.
      *
      * @param input the string to normalize
      * @return a normalized string with Persian characters
      */
     public static String normalizePersian(String input) {
-        if (isBlank(input)) {
+        if (input == null) {
             return "";
         }
         input = input.trim();
-        StringBuffer result = new StringBuffer();
-        Matcher matcher = ARABIC_NUMERIC_PATTERN.matcher(input);
-        while (matcher.find()) {
-            char digit = matcher.group().charAt(0);
-            char persianDigit = (char) (digit - '\u0660' + '\u06F0');
-            matcher.appendReplacement(result, String.valueOf(persianDigit));
-        }
-        matcher.appendTail(result);
-        return result.toString()
-                .replaceAll("[" + RegexCharacterClass.ARABIC_YEH.getClassStr() + "]", "ی")
-                .replaceAll("[" + RegexCharacterClass.ARABIC_KAF.getClassStr() + "]", "ک")
-                .replaceAll("[" + RegexCharacterClass.ARABIC_WAW.getClassStr() + "]", "و");
+        int length = input.length();
+        int index = 0;
+        while (index < length && normalizePersian(input.charAt(index)) == input.charAt(index)) {
+            index++;
+        }
+        if (index == length) {
+            return input;
+        }
+        char[] chars = input.toCharArray();
+        for (; index < length; index++) {
+            chars[index] = normalizePersian(chars[index]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Normalizes the given character by converting it to its Persian equivalent through the
+     * {@link #PERSIAN_NORMALIZATION_TABLE}, following the rules of {@link #normalizePersian(String)}.
+     *
+     * @param ch the character to normalize
+     * @return the Persian equivalent of the character, or the character itself if it has none
+     */
+    public static char normalizePersian(char ch) {
+        if (ch < ARABIC_BLOCK_START || ch > ARABIC_BLOCK_END) {
+            return ch;
+        }
+        return PERSIAN_NORMALIZATION_TABLE[ch - ARABIC_BLOCK_START];
+    }
+
+    /**
+     * Checks if the given character is matched by the regex whitespace class {@code \s}.
+     *
+     * @param ch the character to check
+     * @return {@code true} if the character is a space, tab, line feed, vertical tab, form feed or carriage return
+     */
+    private static boolean isRegexWhitespace(char ch) {
+        return ch == ' ' || ch >= '\t' && ch <= '\r';
+    }
+
+    /**
+     * Returns the index of the first Persian or Arabic digit in the given range of a character sequence.
+     *
+     * @param input the character sequence to search
+     * @param start the index to start from
+     * @param end   the index to stop at, exclusive
+     * @return the index of the first Persian or Arabic digit, or {@code -1} if there is none
+     */
+    private static int indexOfNonEnglishDigit(CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char ch = input.charAt(i);
+            if (ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END && DIGIT_VALUE_TABLE[ch - ARABIC_BLOCK_START] >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first English or Arabic digit in the given range of a character sequence.
+     *
+     * @param input the character sequence to search
+     * @param start the index to start from
+     * @param end   the index to stop at, exclusive
+     * @return the index of the first English or Arabic digit, or {@code -1} if there is none
+     */
+    private static int indexOfNonPersianDigit(CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char ch = input.charAt(i);
+            if (ch >= '0' && ch <= '9' || ch >= ARABIC_BLOCK_START && ch <= ARABIC_BLOCK_END &&
+                    DIGIT_VALUE_TABLE[ch - ARABIC_BLOCK_START] >= 0 && (ch < PERSIAN_ZERO || ch > PERSIAN_ZERO + 9)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the Persian digit equivalent to the given English or Arabic digit.
+     *
+     * @param ch the English or Arabic digit
+     * @return the Persian digit of the same value
+     */
+    private static char toPersianDigit(char ch) {
+        int value = ch <= '9' ? ch - '0' : DIGIT_VALUE_TABLE[ch - ARABIC_BLOCK_START];
+        return (char) (PERSIAN_ZERO + value);
+    }
+
+    /**
+     * Creates the {@link #PERSIAN_NORMALIZATION_TABLE} by matching every character of the Arabic block against the
+     * Arabic yeh, kaf, waw and numeric classes of {@link RegexCharacterClass}.
+     *
+     * @return the Persian normalization table
+     */
+    private static char[] createPersianNormalizationTable() {
+        char[] table = new char[ARABIC_BLOCK_END - ARABIC_BLOCK_START + 1];
+        for (int i = 0; i < table.length; i++) {
+            char ch = (char) (ARABIC_BLOCK_START + i);
+            if (RegexCharacterClass.ARABIC_YEH.matches(ch)) {
+                table[i] = 'ی';
+            } else if (RegexCharacterClass.ARABIC_KAF.matches(ch)) {
+                table[i] = 'ک';
+            } else if (RegexCharacterClass.ARABIC_WAW.matches(ch)) {
+                table[i] = 'و';
+            } else if (RegexCharacterClass.ARABIC_NUMERIC.matches(ch)) {
+                table[i] = (char) (ch - '\u0660' + '\u06F0');
+            } else {
+                table[i] = ch;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Creates the {@link #DIGIT_VALUE_TABLE} from the Persian digits ('۰' (U+06F0) to '۹' (U+06F9)) and Arabic
+     * digits ('٠' (U+0660) to '٩' (U+0669)).
+     *
+     * @return the digit value table
+     */
+    private static byte[] createDigitValueTable() {
+        byte[] table = new byte[ARABIC_BLOCK_END - ARABIC_BLOCK_START + 1];
+        Arrays.fill(table, (byte) -1);
+        for (int digit = 0; digit < 10; digit++) {
+            table['\u06F0' + digit - ARABIC_BLOCK_START] = (byte) digit;
+            table['\u0660' + digit - ARABIC_BLOCK_START] = (byte) digit;
+        }
+        return table;
     }
 
 }
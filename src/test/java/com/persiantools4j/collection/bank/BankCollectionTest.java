@@ -72,4 +72,14 @@ class BankCollectionTest extends CollectionTest<BankCollection, Bank> {
                         .allMatch(bin -> bin.matches("\\d{6}")));
     }
 
+    @Test
+    @DisplayName("Find by Persian name")
+    void findByPersianNameTest() {
+        BankCollection bankCollection = getSingletonInstance();
+        assertThat(bankCollection.findByPersianName("بانک ملت")).map(Bank::getId).contains("mellat");
+        assertThat(bankCollection.findByPersianName(" بانك ملت ")).map(Bank::getId).contains("mellat");
+        assertThat(bankCollection.findByPersianName("بانک")).isEmpty();
+        assertThat(bankCollection.findByPersianName(null)).isEmpty();
+    }
+
 }
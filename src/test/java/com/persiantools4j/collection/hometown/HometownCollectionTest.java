@@ -64,4 +64,16 @@ class HometownCollectionTest extends CollectionTest<HometownCollection, Hometown
                 });
     }
 
+    @Test
+    @DisplayName("Find all by city")
+    void findAllByCityTest() {
+        HometownCollection hometownCollection = getSingletonInstance();
+        assertThat(hometownCollection.findAllByCity("اهر")).extracting(Hometown::getProvince)
+                .containsExactly("آذربایجان شرقی");
+        assertThat(hometownCollection.findAllByCity(" تهران مركزي ")).extracting(Hometown::getCodes)
+                .containsExactly(Arrays.asList("001", "002", "003", "004", "005", "006", "007", "008"));
+        assertThat(hometownCollection.findAllByCity("تهرا")).isEmpty();
+        assertThat(hometownCollection.findAllByCity(null)).isEmpty();
+    }
+
 }
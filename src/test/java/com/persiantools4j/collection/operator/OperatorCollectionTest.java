@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.collection.operator;
+
+import com.persiantools4j.collection.Collection;
+import com.persiantools4j.collection.CollectionTest;
+import com.persiantools4j.enums.RegexCharacterClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Operator collection")
+class OperatorCollectionTest extends CollectionTest<OperatorCollection, Operator> {
+
+    @Override
+    protected OperatorCollection getSingletonInstance() {
+        return OperatorCollection.getInstance();
+    }
+
+    @Override
+    protected Collection<Operator> getTestCollectionInstance() {
+        return OperatorCollection.getInstance();
+    }
+
+    @Test
+    @DisplayName("Get populated collection")
+    void populatedOperatorListTest() {
+        Operator expectedOperator = new Operator("rightel", "Rightel", "رایتل",
+                Arrays.asList("920", "921", "922", "923"));
+        assertThat(getTestCollectionInstance().findAllBy(operator -> true))
+                .isNotNull()
+                .isNotEmpty()
+                .contains(expectedOperator)
+                .allSatisfy(operator -> {
+                    assertThat(operator.getPrefixes())
+                            .isNotNull()
+                            .isNotEmpty()
+                            .allMatch(prefix -> prefix.matches("9\\d{2,4}"));
+                    assertThat(operator.getId())
+                            .isNotBlank()
+                            .matches(id -> id.matches("[a-z-]+"));
+                    assertThat(operator.getName())
+                            .isNotBlank()
+                            .matches(name -> name.matches("[a-zA-Z-\\s]+"));
+                    assertThat(operator.getPersianName())
+                            .isNotBlank()
+                            .matches(persianName -> persianName.matches("[" +
+                                    RegexCharacterClass.PERSIAN_ALPHABET.getClassStr() + "\\s]+"));
+                });
+    }
+
+}
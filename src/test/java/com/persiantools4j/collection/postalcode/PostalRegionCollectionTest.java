@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.collection.postalcode;
+
+import com.persiantools4j.collection.Collection;
+import com.persiantools4j.collection.CollectionTest;
+import com.persiantools4j.enums.RegexCharacterClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Postal region collection")
+class PostalRegionCollectionTest extends CollectionTest<PostalRegionCollection, PostalRegion> {
+
+    @Override
+    protected PostalRegionCollection getSingletonInstance() {
+        return PostalRegionCollection.getInstance();
+    }
+
+    @Override
+    protected Collection<PostalRegion> getTestCollectionInstance() {
+        return PostalRegionCollection.getInstance();
+    }
+
+    @Test
+    @DisplayName("Get populated collection")
+    void populatedPostalRegionListTest() {
+        PostalRegion expectedPostalRegion = new PostalRegion("کهگیلویه و بویراحمد", Arrays.asList("758", "759"));
+        assertThat(getTestCollectionInstance().findAllBy(postalRegion -> true))
+                .isNotNull()
+                .isNotEmpty()
+                .contains(expectedPostalRegion)
+                .allSatisfy(postalRegion -> {
+                    assertThat(postalRegion.getCodes())
+                            .isNotNull()
+                            .isNotEmpty()
+                            .allMatch(code -> code.matches("[1-9][013-9]{1,2}"));
+                    assertThat(postalRegion.getProvince())
+                            .isNotBlank()
+                            .matches(province -> province.matches("[" +
+                                    RegexCharacterClass.PERSIAN_ALPHABET.getClassStr() + "\\s]+"));
+                });
+    }
+
+}
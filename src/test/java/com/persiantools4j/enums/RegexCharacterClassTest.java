@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Regex character class")
+class RegexCharacterClassTest {
+
+    @ParameterizedTest
+    @DisplayName("Matches like regex")
+    @EnumSource(RegexCharacterClass.class)
+    void matchesLikeRegexTest(RegexCharacterClass characterClass) {
+        Pattern pattern = Pattern.compile("[" + characterClass.getClassStr() + "]");
+        for (int ch = Character.MIN_VALUE; ch <= Character.MAX_VALUE; ch++) {
+            boolean expected = pattern.matcher(String.valueOf((char) ch)).matches();
+            if (characterClass.matches((char) ch) != expected) {
+                assertThat(characterClass.matches((char) ch))
+                        .as("U+%04X", ch)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Matches all")
+    void matchesAllTest() {
+        assertThat(RegexCharacterClass.PERSIAN_ALPHABET.matchesAll("سلام")).isTrue();
+        assertThat(RegexCharacterClass.PERSIAN_ALPHABET.matchesAll("")).isTrue();
+        assertThat(RegexCharacterClass.PERSIAN_ALPHABET.matchesAll("سلام دنیا")).isFalse();
+        assertThat(RegexCharacterClass.NUMERIC.matchesAll(new StringBuilder("12۳۴"))).isTrue();
+        assertThat(RegexCharacterClass.NUMERIC.matchesAll("12٣٤")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Index of non matching")
+    void indexOfNonMatchingTest() {
+        assertThat(RegexCharacterClass.PERSIAN_ALPHABET.indexOfNonMatching("سلام test", 0)).isEqualTo(4);
+        assertThat(RegexCharacterClass.PERSIAN_ALPHABET.indexOfNonMatching("سلام test", 5)).isEqualTo(5);
+        assertThat(RegexCharacterClass.PERSIAN_ALPHABET.indexOfNonMatching("سلام", 0)).isEqualTo(-1);
+        assertThat(RegexCharacterClass.SYMBOL.indexOfNonMatching("€-\\]a", -1)).isEqualTo(4);
+    }
+
+}
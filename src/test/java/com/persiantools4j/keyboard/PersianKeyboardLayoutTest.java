@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.keyboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Persian keyboard layout")
+class PersianKeyboardLayoutTest {
+
+    private static Stream<Arguments> mappingCases() {
+        return Stream.of(
+                Arguments.of("sghl", "سلام"),
+                Arguments.of("hdvhk", "ایران"),
+                Arguments.of("lk ;jhf ldo,hkl", "من کتاب میخوانم"),
+                Arguments.of("Hfd", "آبی"),
+                Arguments.of("Cd'hk 1403", "ژیگان ۱۴۰۳"),
+                Arguments.of("ugd?", "علی؟")
+        );
+    }
+
+    @Nested
+    @DisplayName("Map")
+    class MapTest {
+
+        @ParameterizedTest
+        @DisplayName("Map between layouts")
+        @MethodSource("com.persiantools4j.keyboard.PersianKeyboardLayoutTest#mappingCases")
+        void mapBetweenLayoutsTest(String latin, String persian) throws IOException {
+            assertThat(PersianKeyboardLayout.toPersian(latin, new StringBuilder())).hasToString(persian);
+            assertThat(PersianKeyboardLayout.toLatin(persian, new StringBuilder())).hasToString(latin);
+            char[] chars = latin.toCharArray();
+            PersianKeyboardLayout.toPersian(chars, 0, chars.length);
+            assertThat(new String(chars)).isEqualTo(persian);
+            PersianKeyboardLayout.toLatin(chars, 0, chars.length);
+            assertThat(new String(chars)).isEqualTo(latin);
+        }
+
+        @Test
+        @DisplayName("Map characters")
+        void mapCharactersTest() {
+            assertThat(PersianKeyboardLayout.toPersian('Q')).isEqualTo('ض');
+            assertThat(PersianKeyboardLayout.toPersian('\\')).isEqualTo('پ');
+            assertThat(PersianKeyboardLayout.toPersian('é')).isEqualTo('é');
+            assertThat(PersianKeyboardLayout.toLatin('ي')).isEqualTo('d');
+            assertThat(PersianKeyboardLayout.toLatin('ك')).isEqualTo(';');
+            assertThat(PersianKeyboardLayout.toLatin('٣')).isEqualTo('3');
+            assertThat(PersianKeyboardLayout.toLatin('x')).isEqualTo('x');
+            assertThatThrownBy(() -> PersianKeyboardLayout.toPersian(new char[2], 1, 2))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Detect")
+    class DetectTest {
+
+        @ParameterizedTest
+        @DisplayName("Detect Persian typed on the English layout")
+        @ValueSource(strings = {"sghl", "hdvhk", "lk ;jhf ldo,hkl", "ogdg ofv"})
+        void detectMistypedPersianTest(String text) {
+            assertThat(PersianKeyboardLayout.isMistypedPersian(text)).isTrue();
+            assertThat(PersianKeyboardLayout.isMistypedLatin(text)).isFalse();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Detect English typed on the Persian layout")
+        @ValueSource(strings = {"اثممخ", "صخقمی", "ئثدذخشقی"})
+        void detectMistypedLatinTest(String text) {
+            assertThat(PersianKeyboardLayout.isMistypedLatin(text)).isTrue();
+            assertThat(PersianKeyboardLayout.isMistypedPersian(text)).isFalse();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Score known bigrams")
+        @CsvSource({"vh, true, 2", "sj, true, 2", "th, true, 0", "ar, true, -2", "he, true, -2", "sgl, true, 5",
+                "ار, false, 2", "ست, false, 2", "اه, false, 0", "شق, false, -2"})
+        void scoreKnownBigramsTest(String text, boolean latin, int expected) {
+            assertThat(PersianKeyboardLayout.score(text, latin)).isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Detect correctly typed text")
+        @ValueSource(strings = {"hello", "world", "keyboard", "سلام", "ایران", "من کتاب میخوانم", "a", "", "123",
+                "salam ایران"})
+        void detectCorrectlyTypedTest(String text) {
+            assertThat(PersianKeyboardLayout.isMistypedPersian(text)).isFalse();
+            assertThat(PersianKeyboardLayout.isMistypedLatin(text)).isFalse();
+            assertThat(PersianKeyboardLayout.isMistypedPersian(null)).isFalse();
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.bank.cardnumber;
+
+import com.persiantools4j.collection.bank.Bank;
+import com.persiantools4j.collection.bank.BankCollection;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Card number generator")
+class CardNumberGeneratorTest {
+
+    private static CardNumberService cardNumberService;
+
+    @BeforeAll
+    static void beforeAll() {
+        cardNumberService = new CardNumberService();
+    }
+
+    @Nested
+    @DisplayName("Generate")
+    class GenerateTest {
+
+        @Test
+        @DisplayName("Generated card numbers are valid")
+        void generatedCardNumbersAreValidTest() {
+            CardNumberGenerator generator = new CardNumberGenerator(42);
+            for (int i = 0; i < 1000; i++) {
+                String cardNumber = generator.next();
+                assertThat(cardNumberService.findBank(cardNumber)).isPresent();
+            }
+        }
+
+        @Test
+        @DisplayName("Generated card numbers of a bank")
+        void generatedCardNumbersOfBankTest() {
+            Bank bank = BankCollection.getInstance().findBy(b -> b.getId().equals("mellat")).orElseThrow(
+                    IllegalStateException::new);
+            CardNumberGenerator generator = new CardNumberGenerator(5, bank);
+            for (int i = 0; i < 200; i++) {
+                assertThat(cardNumberService.findBank(generator.next())).contains(bank);
+            }
+        }
+
+        @Test
+        @DisplayName("Generated card numbers with invalid fraction")
+        void generatedCardNumbersWithInvalidFractionTest() {
+            CardNumberGenerator generator = new CardNumberGenerator(11, Arrays.asList("603770", "621986"), 0.25);
+            int invalidCount = 0;
+            for (int i = 0; i < 4000; i++) {
+                if (!cardNumberService.isValid(generator.next())) {
+                    invalidCount++;
+                }
+            }
+            assertThat(invalidCount).isBetween(850, 1150);
+            CardNumberGenerator allInvalid = new CardNumberGenerator(11, Collections.singletonList("603770"), 1);
+            for (int i = 0; i < 200; i++) {
+                assertThat(cardNumberService.isValid(allInvalid.next())).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("Generated card numbers of all banks and a bank with invalid fraction")
+        void generatedCardNumbersOfBanksWithInvalidFractionTest() {
+            Bank bank = BankCollection.getInstance().findBy(b -> b.getId().equals("mellat")).orElseThrow(
+                    IllegalStateException::new);
+            CardNumberGenerator generator = new CardNumberGenerator(13, 0.5);
+            CardNumberGenerator bankGenerator = new CardNumberGenerator(13, bank, 0.5);
+            int invalidCount = 0;
+            int bankInvalidCount = 0;
+            for (int i = 0; i < 2000; i++) {
+                if (!cardNumberService.isValid(generator.next())) {
+                    invalidCount++;
+                }
+                String cardNumber = bankGenerator.next();
+                if (!cardNumberService.isValid(cardNumber)) {
+                    bankInvalidCount++;
+                } else {
+                    assertThat(cardNumberService.findBank(cardNumber)).contains(bank);
+                }
+            }
+            assertThat(invalidCount).isBetween(900, 1100);
+            assertThat(bankInvalidCount).isBetween(900, 1100);
+            assertThat(new CardNumberGenerator(3, 0.5).longs(50).boxed().collect(Collectors.toList()))
+                    .isEqualTo(new CardNumberGenerator(3, 0.5).longs(50).boxed().collect(Collectors.toList()));
+            assertThatThrownBy(() -> new CardNumberGenerator(1, -0.1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CardNumberGenerator(1, bank, 2))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Parallel stream generates valid card numbers")
+        void parallelStreamGeneratesValidCardNumbersTest() {
+            long[] cardNumbers = new CardNumberGenerator(17).longs(100_000).parallel().toArray();
+            assertThat(cardNumbers).hasSize(100_000);
+            assertThat(Arrays.stream(cardNumbers).mapToObj(Long::toString).allMatch(cardNumberService::isValid))
+                    .isTrue();
+            assertThat(Arrays.stream(cardNumbers).distinct().count()).isGreaterThan(99_000);
+            assertThat(new CardNumberGenerator(17).longs(1).parallel().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Same seed generates same sequence")
+        void sameSeedGeneratesSameSequenceTest() {
+            assertThat(new CardNumberGenerator(7).longs(100).boxed().collect(Collectors.toList()))
+                    .isEqualTo(new CardNumberGenerator(7).longs(100).boxed().collect(Collectors.toList()));
+            byte[] bytes = new byte[16];
+            assertThat(new CardNumberGenerator(9).next(bytes, 0)).isEqualTo(16);
+            assertThat(new String(bytes, StandardCharsets.US_ASCII)).isEqualTo(new CardNumberGenerator(9).next());
+        }
+
+        @Test
+        @DisplayName("Exceptional arguments")
+        void exceptionalArgumentsTest() {
+            assertThatThrownBy(() -> new CardNumberGenerator(1, (Bank) null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CardNumberGenerator(1, Collections.emptyList(), 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CardNumberGenerator(1, Collections.singletonList("6037"), 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CardNumberGenerator(1, Collections.singletonList("603770"), 1.5))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ package com.persiantools4j.module.bank.cardnumber;
 
 import com.persiantools4j.collection.bank.Bank;
 import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.BulkUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,6 +27,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
@@ -174,4 +177,54 @@ class CardNumberServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("Is valid all")
+    class IsValidAllTest {
+
+        @Test
+        @DisplayName("Is valid all with direct buffer")
+        void isValidAllWithDirectBufferTest() {
+            String[] records = {"6037701689095443", "6219861034529008", "0000000000000000", "6274129005473742",
+                    "62741290054737a2"};
+            ByteBuffer buffer = ByteBuffer.allocateDirect(records.length * 17);
+            for (String record : records) {
+                buffer.put(record.getBytes(StandardCharsets.US_ASCII)).put((byte) '\n');
+            }
+            long[] bitmask = new long[1];
+            assertThat(cardNumberService.isValidAll(buffer, 0, 17, records.length, bitmask)).isEqualTo(2);
+            assertThat(BulkUtils.getBit(bitmask, 0)).isTrue();
+            assertThat(BulkUtils.getBit(bitmask, 1)).isFalse();
+            assertThat(BulkUtils.getBit(bitmask, 2)).isFalse();
+            assertThat(BulkUtils.getBit(bitmask, 3)).isTrue();
+            assertThat(BulkUtils.getBit(bitmask, 4)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Is valid all agrees with is valid")
+        void isValidAllAgreesWithIsValidTest() {
+            String[] records = Stream.concat(validCardNumberCases(), invalidCardNumberCases())
+                    .map(arguments -> (String) arguments.get()[0])
+                    .toArray(String[]::new);
+            ByteBuffer buffer = ByteBuffer.wrap(String.join("", records).getBytes(StandardCharsets.US_ASCII));
+            long[] bitmask = new long[1];
+            cardNumberService.isValidAll(buffer, 0, 16, records.length, bitmask);
+            for (int i = 0; i < records.length; i++) {
+                assertThat(BulkUtils.getBit(bitmask, i)).isEqualTo(cardNumberService.isValid(records[i]));
+            }
+        }
+
+        @Test
+        @DisplayName("Is valid all with exceptional arguments")
+        void isValidAllWithExceptionalArgumentsTest() {
+            ByteBuffer buffer = ByteBuffer.allocate(32);
+            assertThatThrownBy(() -> cardNumberService.isValidAll(null, 0, 16, 2, new long[1]))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> cardNumberService.isValidAll(buffer, 0, 16, 2, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> cardNumberService.isValidAll(buffer, 0, 16, 3, new long[1]))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+    }
+
 }
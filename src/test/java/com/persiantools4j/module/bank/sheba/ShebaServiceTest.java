@@ -0,0 +1,203 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.bank.sheba;
+
+import com.persiantools4j.exception.ParseException;
+import com.persiantools4j.exception.ValidationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Sheba service")
+class ShebaServiceTest {
+
+    private static ShebaService shebaService;
+
+    private static Stream<Arguments> normalizeCases() {
+        return Stream.of(
+                Arguments.of("IR820540102680020817909002", "IR820540102680020817909002"),
+                Arguments.of(" ir82 0540 1026 8002 0817 9090 02 ", "IR820540102680020817909002"),
+                Arguments.of("820540102680020817909002", "IR820540102680020817909002"),
+                Arguments.of("IR۸۲۰۵۴۰۱۰۲۶۸۰۰۲۰۸۱۷۹۰۹۰۰۲", "IR820540102680020817909002"),
+                Arguments.of("IR٨٢٠٥٤٠١٠٢٦٨٠٠٢٠٨١٧٩٠٩٠٠٢", "IR820540102680020817909002")
+        );
+    }
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+                Arguments.of("IR820540102680020817909002"),
+                Arguments.of("IR650170000000100332102004"),
+                Arguments.of("IR840570022280100010521001"),
+                Arguments.of("IR190120000000004455667788"),
+                Arguments.of("IR370560081234567890123456"),
+                Arguments.of("IR84 0570 0222 8010 0010 5210 01"),
+                Arguments.of("۸۴۰۵۷۰۰۲۲۲۸۰۱۰۰۰۱۰۵۲۱۰۰۱")
+        );
+    }
+
+    private static Stream<Arguments> invalidFormatCases() {
+        return Stream.of(
+                Arguments.of("IR"),
+                Arguments.of("IR82054010268002081790900"),
+                Arguments.of("IR8205401026800208179090021"),
+                Arguments.of("DE820540102680020817909002"),
+                Arguments.of("I820540102680020817909002"),
+                Arguments.of("IR82054010268002081790900a"),
+                Arguments.of("IR82-0540-1026-8002-0817-9090-02")
+        );
+    }
+
+    private static Stream<Arguments> invalidCases() {
+        return Stream.of(
+                Arguments.of("IR820540102680020817909003"),
+                Arguments.of("IR830540102680020817909002"),
+                Arguments.of("IR000000000000000000000000"),
+                Arguments.of("IR650170000000100332102040")
+        );
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        shebaService = new ShebaService();
+    }
+
+    @Nested
+    @DisplayName("Normalize")
+    class NormalizeTest {
+
+        @ParameterizedTest
+        @DisplayName("Normalize with valid Sheba")
+        @MethodSource("com.persiantools4j.module.bank.sheba.ShebaServiceTest#normalizeCases")
+        void normalizeWithValidShebaTest(String sheba, String expected) {
+            assertThat(shebaService.normalize(sheba)).isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional Sheba of null and empty")
+        @ValueSource(strings = " ")
+        @NullAndEmptySource
+        void normalizeWithExceptionalShebaOfNullAndEmptyTest(String sheba) {
+            assertThatThrownBy(() -> shebaService.normalize(sheba))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Sheba is null or empty");
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional Sheba")
+        @MethodSource("com.persiantools4j.module.bank.sheba.ShebaServiceTest#invalidFormatCases")
+        void normalizeWithExceptionalShebaTest(String sheba) {
+            assertThatThrownBy(() -> shebaService.normalize(sheba))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid Sheba format");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Validate")
+    class ValidateTest {
+
+        @ParameterizedTest
+        @DisplayName("Validate with valid Sheba")
+        @MethodSource("com.persiantools4j.module.bank.sheba.ShebaServiceTest#validCases")
+        void validateWithValidShebaTest(String sheba) {
+            assertThatCode(() -> shebaService.validate(sheba)).doesNotThrowAnyException();
+            assertThat(shebaService.isValid(sheba)).isTrue();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional Sheba")
+        @MethodSource("com.persiantools4j.module.bank.sheba.ShebaServiceTest#invalidCases")
+        void validateWithExceptionalShebaTest(String sheba) {
+            assertThatThrownBy(() -> shebaService.validate(sheba))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageStartingWith("Invalid Sheba: ");
+            assertThat(shebaService.isValid(sheba)).isFalse();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional Sheba format")
+        @MethodSource("com.persiantools4j.module.bank.sheba.ShebaServiceTest#invalidFormatCases")
+        void validateWithExceptionalShebaFormatTest(String sheba) {
+            assertThatThrownBy(() -> shebaService.validate(sheba))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid Sheba format");
+            assertThat(shebaService.isValid(sheba)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Is valid all")
+        void isValidAllTest() {
+            CharSequence[] shebas = {"IR820540102680020817909002", null, "IR820540102680020817909003",
+                    new StringBuilder("IR650170000000100332102004"), "IR82"};
+            long[] bitmask = new long[1];
+            assertThat(shebaService.isValidAll(shebas, bitmask)).isEqualTo(2);
+            assertThat(bitmask[0]).isEqualTo(0b01001L);
+            assertThatThrownBy(() -> shebaService.isValidAll(shebas, new long[0]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Parse")
+    class ParseTest {
+
+        @Test
+        @DisplayName("Parse with single valid Sheba")
+        void parseWithSingleValidShebaTest() {
+            Sheba sheba = shebaService.parse("IR82 0540 1026 8002 0817 9090 02");
+            assertThat(sheba.getId()).isEqualTo("IR820540102680020817909002");
+            assertThat(sheba.getCheckDigits()).isEqualTo(82);
+            assertThat(sheba.getBankCode()).isEqualTo("054");
+            assertThat(sheba.getAccountNumber()).isEqualTo("0102680020817909002");
+            assertThat(sheba.getBank().getId()).isEqualTo("parsian");
+        }
+
+        @ParameterizedTest
+        @DisplayName("Parse with valid Sheba")
+        @MethodSource("com.persiantools4j.module.bank.sheba.ShebaServiceTest#validCases")
+        void parseWithValidShebaTest(String sheba) {
+            Sheba actualSheba = shebaService.parse(sheba);
+            assertThat(actualSheba.getId()).hasSize(26);
+            assertThat(actualSheba.getBank()).isNotNull();
+            assertThat(actualSheba.getBank().getCodes()).contains(actualSheba.getBankCode());
+            assertThat(shebaService.findBank(sheba)).contains(actualSheba.getBank());
+        }
+
+        @Test
+        @DisplayName("Parse with Sheba of missing bank")
+        void parseWithShebaOfMissingBankTest() {
+            assertThatThrownBy(() -> shebaService.parse("IR740990000000000000000001"))
+                    .isInstanceOf(ParseException.class)
+                    .hasMessageContaining("Unable to find bank associated to the Sheba");
+            assertThat(shebaService.findBank("IR740990000000000000000001")).isEmpty();
+        }
+
+    }
+
+}
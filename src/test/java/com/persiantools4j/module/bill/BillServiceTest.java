@@ -0,0 +1,166 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.bill;
+
+import com.persiantools4j.exception.ValidationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Bill service")
+class BillServiceTest {
+
+    private static BillService billService;
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+                Arguments.of("7748317800142", "1770160", 17_000L, 4, 1),
+                Arguments.of("2050327604613", "00001070189", 10_000L, 1, 46),
+                Arguments.of(" 1117753200140 ", "12070160", 120_000L, 4, 1),
+                Arguments.of("۷۷۴۸۳۱۷۸۰۰۱۴۲", "١٧٧٠١٦٠", 17_000L, 4, 1)
+        );
+    }
+
+    private static Stream<Arguments> invalidFormatCases() {
+        return Stream.of(
+                Arguments.of("77483", "1770160", "Invalid bill ID format"),
+                Arguments.of("77483178001420", "1770160", "Invalid bill ID format"),
+                Arguments.of("7748317800142", "17701a0", "Invalid payment ID format"),
+                Arguments.of("7748317800142", "17 70160", "Invalid payment ID format")
+        );
+    }
+
+    private static Stream<Arguments> invalidCases() {
+        return Stream.of(
+                Arguments.of("7748317800143", "1770160", "Invalid bill ID: "),
+                Arguments.of("7748317800142", "1770150", "Invalid payment ID: "),
+                Arguments.of("7748317800142", "1770161", "Invalid payment ID: "),
+                Arguments.of("9174639504124", "12908197", "Invalid payment ID: ")
+        );
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        billService = new BillService();
+    }
+
+    @Nested
+    @DisplayName("Validate")
+    class ValidateTest {
+
+        @ParameterizedTest
+        @DisplayName("Validate with valid bill")
+        @MethodSource("com.persiantools4j.module.bill.BillServiceTest#validCases")
+        void validateWithValidBillTest(String billId, String paymentId) {
+            assertThatCode(() -> billService.validate(billId, paymentId)).doesNotThrowAnyException();
+            assertThat(billService.isValid(billId, paymentId)).isTrue();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional bill ID of null and empty")
+        @ValueSource(strings = " ")
+        @NullAndEmptySource
+        void validateWithExceptionalBillIdOfNullAndEmptyTest(String billId) {
+            assertThatThrownBy(() -> billService.validate(billId, "1770160"))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Bill ID is null or empty");
+            assertThatThrownBy(() -> billService.validate("7748317800142", billId))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Payment ID is null or empty");
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional bill format")
+        @MethodSource("com.persiantools4j.module.bill.BillServiceTest#invalidFormatCases")
+        void validateWithExceptionalBillFormatTest(String billId, String paymentId, String expectedMessage) {
+            assertThatThrownBy(() -> billService.validate(billId, paymentId))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageStartingWith(expectedMessage);
+            assertThat(billService.isValid(billId, paymentId)).isFalse();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional bill")
+        @MethodSource("com.persiantools4j.module.bill.BillServiceTest#invalidCases")
+        void validateWithExceptionalBillTest(String billId, String paymentId, String expectedMessage) {
+            assertThatThrownBy(() -> billService.validate(billId, paymentId))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageStartingWith(expectedMessage);
+            assertThat(billService.isValid(billId, paymentId)).isFalse();
+            assertThat(billService.isValid(Long.parseLong(billId), Long.parseLong(paymentId))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Validate numeric values in bulk")
+        void isValidAllTest() {
+            long[] billIds = {7748317800142L, 7748317800143L, 2050327604613L, 7748317800142L, 1117753200140L};
+            long[] paymentIds = {1770160L, 1770160L, 1070189L, 1770161L, 12070160L};
+            long[] bitmask = new long[1];
+            assertThat(billService.isValidAll(billIds, paymentIds, bitmask)).isEqualTo(3);
+            assertThat(bitmask[0]).isEqualTo(0b10101L);
+            assertThatThrownBy(() -> billService.isValidAll(billIds, new long[1], bitmask))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Parse")
+    class ParseTest {
+
+        @ParameterizedTest
+        @DisplayName("Parse with valid bill")
+        @MethodSource("com.persiantools4j.module.bill.BillServiceTest#validCases")
+        void parseWithValidBillTest(String billId, String paymentId, long expectedAmount, int expectedServiceType,
+                                    int expectedCompanyCode) {
+            Bill bill = billService.parse(billId, paymentId);
+            assertThat(bill.getAmount()).isEqualTo(expectedAmount);
+            assertThat(bill.getServiceType()).isEqualTo(expectedServiceType);
+            assertThat(bill.getCompanyCode()).isEqualTo(expectedCompanyCode);
+        }
+
+        @Test
+        @DisplayName("Parse with single valid bill")
+        void parseWithSingleValidBillTest() {
+            Bill bill = billService.parse("۷۷۴۸۳۱۷۸۰۰۱۴۲", " 0000001770160 ");
+            assertThat(bill.getBillId()).isEqualTo(7748317800142L);
+            assertThat(bill.getPaymentId()).isEqualTo(1770160L);
+            assertThat(bill).isEqualTo(billService.parse("7748317800142", "1770160"));
+        }
+
+        @ParameterizedTest
+        @DisplayName("Parse with exceptional bill")
+        @MethodSource("com.persiantools4j.module.bill.BillServiceTest#invalidCases")
+        void parseWithExceptionalBillTest(String billId, String paymentId, String expectedMessage) {
+            assertThatThrownBy(() -> billService.parse(billId, paymentId))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageStartingWith(expectedMessage);
+        }
+
+    }
+
+}
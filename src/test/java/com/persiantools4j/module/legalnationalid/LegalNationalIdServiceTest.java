@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.legalnationalid;
+
+import com.persiantools4j.exception.ValidationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Legal national ID service")
+class LegalNationalIdServiceTest {
+
+    private static LegalNationalIdService legalNationalIdService;
+
+    private static Stream<Arguments> normalizeCases() {
+        return Stream.of(
+                Arguments.of("10380284790", "10380284790"),
+                Arguments.of(" 14007650912 ", "14007650912"),
+                Arguments.of("۱۴۰۰۷۶۵۰۹۱۲", "14007650912"),
+                Arguments.of("١٠٣٨٠٢٨٤٧٩٠", "10380284790")
+        );
+    }
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+                Arguments.of("10380284790"),
+                Arguments.of("14007650912"),
+                Arguments.of("96119848936"),
+                Arguments.of("23374467301"),
+                Arguments.of("68887841254"),
+                Arguments.of("۸۸۷۱۳۷۸۹۰۵۸")
+        );
+    }
+
+    private static Stream<Arguments> invalidFormatCases() {
+        return Stream.of(
+                Arguments.of("1038028479"),
+                Arguments.of("103802847901"),
+                Arguments.of("1038028479a"),
+                Arguments.of("10380 284790"),
+                Arguments.of("-1038028479")
+        );
+    }
+
+    private static Stream<Arguments> invalidCases() {
+        return Stream.of(
+                Arguments.of("10380284791"),
+                Arguments.of("14007650913"),
+                Arguments.of("10100000000"),
+                Arguments.of("00000000000")
+        );
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        legalNationalIdService = new LegalNationalIdService();
+    }
+
+    @Nested
+    @DisplayName("Normalize")
+    class NormalizeTest {
+
+        @ParameterizedTest
+        @DisplayName("Normalize with valid legal national ID")
+        @MethodSource("com.persiantools4j.module.legalnationalid.LegalNationalIdServiceTest#normalizeCases")
+        void normalizeWithValidLegalNationalIdTest(String legalNationalId, String expected) {
+            assertThat(legalNationalIdService.normalize(legalNationalId)).isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional legal national ID of null and empty")
+        @ValueSource(strings = " ")
+        @NullAndEmptySource
+        void normalizeWithExceptionalLegalNationalIdOfNullAndEmptyTest(String legalNationalId) {
+            assertThatThrownBy(() -> legalNationalIdService.normalize(legalNationalId))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Legal national ID is null or empty");
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional legal national ID")
+        @MethodSource("com.persiantools4j.module.legalnationalid.LegalNationalIdServiceTest#invalidFormatCases")
+        void normalizeWithExceptionalLegalNationalIdTest(String legalNationalId) {
+            assertThatThrownBy(() -> legalNationalIdService.normalize(legalNationalId))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid legal national ID format");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Validate")
+    class ValidateTest {
+
+        @ParameterizedTest
+        @DisplayName("Validate with valid legal national ID")
+        @MethodSource("com.persiantools4j.module.legalnationalid.LegalNationalIdServiceTest#validCases")
+        void validateWithValidLegalNationalIdTest(String legalNationalId) {
+            assertThatCode(() -> legalNationalIdService.validate(legalNationalId)).doesNotThrowAnyException();
+            assertThat(legalNationalIdService.isValid(legalNationalId)).isTrue();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional legal national ID")
+        @MethodSource("com.persiantools4j.module.legalnationalid.LegalNationalIdServiceTest#invalidCases")
+        void validateWithExceptionalLegalNationalIdTest(String legalNationalId) {
+            assertThatThrownBy(() -> legalNationalIdService.validate(legalNationalId))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageStartingWith("Invalid legal national ID: ");
+            assertThat(legalNationalIdService.isValid(legalNationalId)).isFalse();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional legal national ID format")
+        @MethodSource("com.persiantools4j.module.legalnationalid.LegalNationalIdServiceTest#invalidFormatCases")
+        void validateWithExceptionalLegalNationalIdFormatTest(String legalNationalId) {
+            assertThatThrownBy(() -> legalNationalIdService.validate(legalNationalId))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid legal national ID format");
+            assertThat(legalNationalIdService.isValid(legalNationalId)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Validate numeric values in bulk")
+        void isValidAllTest() {
+            long[] legalNationalIds = {10380284790L, 10380284791L, 14007650912L, -14007650912L, 140076509120L};
+            long[] bitmask = new long[1];
+            assertThat(legalNationalIdService.isValidAll(legalNationalIds, bitmask)).isEqualTo(2);
+            assertThat(bitmask[0]).isEqualTo(0b101L);
+            assertThatThrownBy(() -> legalNationalIdService.isValidAll(null, bitmask))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Parse")
+    class ParseTest {
+
+        @Test
+        @DisplayName("Parse with single valid legal national ID")
+        void parseWithSingleValidLegalNationalIdTest() {
+            LegalNationalId legalNationalId = legalNationalIdService.parse(" ۱۰۳۸۰۲۸۴۷۹۰ ");
+            assertThat(legalNationalId.getId()).isEqualTo("10380284790");
+            assertThat(legalNationalId.getValue()).isEqualTo(10380284790L);
+            assertThat(legalNationalId.getControlDigit()).isZero();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Parse with exceptional legal national ID")
+        @MethodSource("com.persiantools4j.module.legalnationalid.LegalNationalIdServiceTest#invalidCases")
+        void parseWithExceptionalLegalNationalIdTest(String legalNationalId) {
+            assertThatThrownBy(() -> legalNationalIdService.parse(legalNationalId))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid legal national ID");
+        }
+
+    }
+
+}
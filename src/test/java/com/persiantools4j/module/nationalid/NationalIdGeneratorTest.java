@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.nationalid;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("National ID generator")
+class NationalIdGeneratorTest {
+
+    private static NationalIdService nationalIdService;
+
+    @BeforeAll
+    static void beforeAll() {
+        nationalIdService = new NationalIdService();
+    }
+
+    @Nested
+    @DisplayName("Generate")
+    class GenerateTest {
+
+        @Test
+        @DisplayName("Generated national IDs are valid")
+        void generatedNationalIdsAreValidTest() {
+            NationalIdGenerator generator = new NationalIdGenerator(42);
+            for (int i = 0; i < 1000; i++) {
+                String nationalId = generator.next();
+                assertThat(nationalId).hasSize(10);
+                assertThat(nationalIdService.parse(nationalId).getHometowns()).isNotEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("Parallel stream generates valid national IDs")
+        void parallelStreamGeneratesValidNationalIdsTest() {
+            long[] nationalIds = new NationalIdGenerator(11).longs(100_000).parallel().toArray();
+            assertThat(nationalIds).hasSize(100_000);
+            assertThat(Arrays.stream(nationalIds).allMatch(nationalIdService::isValid)).isTrue();
+            assertThat(Arrays.stream(nationalIds).distinct().count()).isGreaterThan(99_000);
+            assertThat(new NationalIdGenerator(11).longs(0).parallel().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Same seed generates same sequence")
+        void sameSeedGeneratesSameSequenceTest() {
+            assertThat(new NationalIdGenerator(7).longs(100).boxed().collect(Collectors.toList()))
+                    .isEqualTo(new NationalIdGenerator(7).longs(100).boxed().collect(Collectors.toList()));
+            assertThat(new NationalIdGenerator(7).split().nextLong())
+                    .isEqualTo(new NationalIdGenerator(7).split().nextLong());
+        }
+
+        @Test
+        @DisplayName("Generate by province weight")
+        void generateByProvinceWeightTest() {
+            NationalIdGenerator generator = new NationalIdGenerator(1,
+                    NationalIdGenerator.byProvince(province -> "آذربایجان غربی".equals(province) ? 1 : 0));
+            for (int i = 0; i < 200; i++) {
+                assertThat(nationalIdService.parse(generator.next()).getHometowns())
+                        .anyMatch(hometown -> hometown.getProvince().equals("آذربایجان غربی"));
+            }
+        }
+
+        @Test
+        @DisplayName("Generate by city weight")
+        void generateByCityWeightTest() {
+            NationalIdGenerator generator = new NationalIdGenerator(1,
+                    hometown -> hometown.getCity().equals("خوی") ? 1 : 0);
+            for (int i = 0; i < 200; i++) {
+                assertThat(generator.next()).matches("(279|280)\\d{7}");
+            }
+        }
+
+        @Test
+        @DisplayName("Generate into sinks")
+        void generateIntoSinksTest() throws IOException {
+            byte[] bytes = new byte[22];
+            assertThat(new NationalIdGenerator(3).next(bytes, 1)).isEqualTo(11);
+            StringBuilder builder = new StringBuilder();
+            new NationalIdGenerator(3).next(builder);
+            assertThat(new String(bytes, 1, 10, StandardCharsets.US_ASCII))
+                    .isEqualTo(builder.toString())
+                    .isEqualTo(new NationalIdGenerator(3).next());
+            assertThatThrownBy(() -> new NationalIdGenerator(3).next(bytes, 13))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("Exceptional weights")
+        void exceptionalWeightsTest() {
+            assertThatThrownBy(() -> new NationalIdGenerator(1, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new NationalIdGenerator(1, hometown -> 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("No hometown has a positive weight");
+            assertThatThrownBy(() -> new NationalIdGenerator(1, hometown -> -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+}
@@ -19,6 +19,7 @@ package com.persiantools4j.module.nationalid;
 import com.persiantools4j.collection.hometown.Hometown;
 import com.persiantools4j.exception.ParseException;
 import com.persiantools4j.exception.ValidationException;
+import com.persiantools4j.util.BulkUtils;
 import com.persiantools4j.util.StringUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +31,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -333,4 +336,69 @@ class NationalIdServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("Is valid all")
+    class IsValidAllTest {
+
+        @Test
+        @DisplayName("Is valid all with direct buffer")
+        void isValidAllWithDirectBufferTest() {
+            String[] records = {"6104038931", "6104038932", "0684159414", "2222222222", "1234567890", "12345abcde",
+                    "1111111111"};
+            int stride = 12;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(4 + records.length * stride);
+            for (int i = 0; i < records.length; i++) {
+                buffer.position(4 + i * stride);
+                buffer.put(records[i].getBytes(StandardCharsets.US_ASCII));
+            }
+            buffer.clear();
+            long[] bitmask = {-1L};
+            assertThat(nationalIdService.isValidAll(buffer, 4, stride, records.length, bitmask)).isEqualTo(3);
+            assertThat(bitmask[0]).isEqualTo(-1L << records.length | 0b1000101L);
+            assertThat(buffer.position()).isZero();
+        }
+
+        @Test
+        @DisplayName("Is valid all agrees with is valid")
+        void isValidAllAgreesWithIsValidTest() {
+            String[] records = Stream.concat(validCases(), invalidCases())
+                    .map(arguments -> ((String) arguments.get()[0]).trim())
+                    .filter(nationalId -> nationalId.length() == 10)
+                    .toArray(String[]::new);
+            ByteBuffer buffer = ByteBuffer.wrap(String.join("", records).getBytes(StandardCharsets.US_ASCII));
+            long[] bitmask = new long[1];
+            nationalIdService.isValidAll(buffer, 0, 10, records.length, bitmask);
+            for (int i = 0; i < records.length; i++) {
+                assertThat(BulkUtils.getBit(bitmask, i)).isEqualTo(nationalIdService.isValid(records[i]));
+            }
+        }
+
+        @Test
+        @DisplayName("Is valid all with numeric values")
+        void isValidAllWithNumericValuesTest() {
+            long[] nationalIds = {6104038931L, 6104038932L, 684159414L, 2222222222L, 1234567890L, -6104038931L,
+                    1111111111L, 61040389310L};
+            long[] bitmask = new long[1];
+            assertThat(nationalIdService.isValidAll(nationalIds, bitmask)).isEqualTo(3);
+            assertThat(bitmask[0]).isEqualTo(0b1000101L);
+            assertThat(nationalIdService.isValid(684159414L)).isTrue();
+            assertThat(nationalIdService.isValid(-6104038931L)).isFalse();
+            assertThatThrownBy(() -> nationalIdService.isValidAll(null, bitmask))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Is valid all with exceptional arguments")
+        void isValidAllWithExceptionalArgumentsTest() {
+            ByteBuffer buffer = ByteBuffer.allocate(20);
+            assertThatThrownBy(() -> nationalIdService.isValidAll(buffer, 0, 9, 2, new long[1]))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> nationalIdService.isValidAll(buffer, 0, 10, 2, new long[0]))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> nationalIdService.isValidAll(buffer, 1, 10, 2, new long[1]))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+    }
+
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.phonenumber;
+
+import com.persiantools4j.collection.operator.Operator;
+import com.persiantools4j.exception.ParseException;
+import com.persiantools4j.exception.ValidationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Phone number service")
+class PhoneNumberServiceTest {
+
+    private static PhoneNumberService phoneNumberService;
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+                Arguments.of("09121234567", 9121234567L, "mci"),
+                Arguments.of("9121234567", 9121234567L, "mci"),
+                Arguments.of("+989121234567", 9121234567L, "mci"),
+                Arguments.of("00989121234567", 9121234567L, "mci"),
+                Arguments.of("989121234567", 9121234567L, "mci"),
+                Arguments.of(" +98 912 123 4567 ", 9121234567L, "mci"),
+                Arguments.of("0912-123-4567", 9121234567L, "mci"),
+                Arguments.of("۰۹۳۵۱۲۳۴۵۶۷", 9351234567L, "irancell"),
+                Arguments.of("٠٩٢٠١٢٣٤٥٦٧", 9201234567L, "rightel"),
+                Arguments.of("09321234567", 9321234567L, "taliya"),
+                Arguments.of("09981234567", 9981234567L, "shatel-mobile"),
+                Arguments.of("09990234567", 9990234567L, "lotustel"),
+                Arguments.of("09991434567", 9991434567L, "azartel")
+        );
+    }
+
+    private static Stream<Arguments> invalidFormatCases() {
+        return Stream.of(
+                Arguments.of("0912123456"),
+                Arguments.of("091212345678"),
+                Arguments.of("08121234567"),
+                Arguments.of("+09121234567"),
+                Arguments.of("++989121234567"),
+                Arguments.of("9+89121234567"),
+                Arguments.of("1198912123456"),
+                Arguments.of("0912123456a"),
+                Arguments.of("002219121234567")
+        );
+    }
+
+    private static Stream<Arguments> unknownOperatorCases() {
+        return Stream.of(
+                Arguments.of("09701234567"),
+                Arguments.of("+989991234567"),
+                Arguments.of("09061234567")
+        );
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        phoneNumberService = new PhoneNumberService();
+    }
+
+    @Nested
+    @DisplayName("Normalize")
+    class NormalizeTest {
+
+        @ParameterizedTest
+        @DisplayName("Normalize with valid phone number")
+        @MethodSource("com.persiantools4j.module.phonenumber.PhoneNumberServiceTest#validCases")
+        void normalizeWithValidPhoneNumberTest(String phoneNumber, long expected) {
+            assertThat(phoneNumberService.normalize(phoneNumber)).isEqualTo("0" + expected);
+            assertThat(phoneNumberService.canonicalize(phoneNumber)).isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional phone number of null and empty")
+        @ValueSource(strings = " ")
+        @NullAndEmptySource
+        void normalizeWithExceptionalPhoneNumberOfNullAndEmptyTest(String phoneNumber) {
+            assertThatThrownBy(() -> phoneNumberService.normalize(phoneNumber))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Phone number is null or empty");
+            assertThat(phoneNumberService.canonicalize(phoneNumber)).isEqualTo(-1);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional phone number")
+        @MethodSource("com.persiantools4j.module.phonenumber.PhoneNumberServiceTest#invalidFormatCases")
+        void normalizeWithExceptionalPhoneNumberTest(String phoneNumber) {
+            assertThatThrownBy(() -> phoneNumberService.normalize(phoneNumber))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid phone number format");
+            assertThat(phoneNumberService.canonicalize(phoneNumber)).isEqualTo(-1);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Validate")
+    class ValidateTest {
+
+        @ParameterizedTest
+        @DisplayName("Validate with valid phone number")
+        @MethodSource("com.persiantools4j.module.phonenumber.PhoneNumberServiceTest#validCases")
+        void validateWithValidPhoneNumberTest(String phoneNumber) {
+            assertThatCode(() -> phoneNumberService.validate(phoneNumber)).doesNotThrowAnyException();
+            assertThat(phoneNumberService.isValid(phoneNumber)).isTrue();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with phone number of unknown operator")
+        @MethodSource("com.persiantools4j.module.phonenumber.PhoneNumberServiceTest#unknownOperatorCases")
+        void validateWithPhoneNumberOfUnknownOperatorTest(String phoneNumber) {
+            assertThatThrownBy(() -> phoneNumberService.validate(phoneNumber))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageStartingWith("Invalid phone number: ");
+            assertThat(phoneNumberService.isValid(phoneNumber)).isFalse();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional phone number format")
+        @MethodSource("com.persiantools4j.module.phonenumber.PhoneNumberServiceTest#invalidFormatCases")
+        void validateWithExceptionalPhoneNumberFormatTest(String phoneNumber) {
+            assertThatThrownBy(() -> phoneNumberService.validate(phoneNumber))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid phone number format");
+            assertThat(phoneNumberService.isValid(phoneNumber)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Canonicalize all")
+        void canonicalizeAllTest() {
+            CharSequence[] phoneNumbers = {"09121234567", null, "09701234567", new StringBuilder("+98 935 123 4567"),
+                    "0912"};
+            long[] canonicalPhoneNumbers = new long[phoneNumbers.length];
+            assertThat(phoneNumberService.canonicalizeAll(phoneNumbers, canonicalPhoneNumbers)).isEqualTo(2);
+            assertThat(canonicalPhoneNumbers).containsExactly(9121234567L, -1, -1, 9351234567L, -1);
+            assertThatThrownBy(() -> phoneNumberService.canonicalizeAll(phoneNumbers, new long[1]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Parse")
+    class ParseTest {
+
+        @ParameterizedTest
+        @DisplayName("Parse with valid phone number")
+        @MethodSource("com.persiantools4j.module.phonenumber.PhoneNumberServiceTest#validCases")
+        void parseWithValidPhoneNumberTest(String phoneNumber, long expectedValue, String expectedOperatorId) {
+            PhoneNumber actualPhoneNumber = phoneNumberService.parse(phoneNumber);
+            assertThat(actualPhoneNumber.getNumber()).isEqualTo("0" + expectedValue);
+            assertThat(actualPhoneNumber.getValue()).isEqualTo(expectedValue);
+            assertThat(actualPhoneNumber.getOperator().getId()).isEqualTo(expectedOperatorId);
+            assertThat(phoneNumberService.findOperator(phoneNumber).map(Operator::getId))
+                    .contains(expectedOperatorId);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Parse with phone number of unknown operator")
+        @MethodSource("com.persiantools4j.module.phonenumber.PhoneNumberServiceTest#unknownOperatorCases")
+        void parseWithPhoneNumberOfUnknownOperatorTest(String phoneNumber) {
+            assertThatThrownBy(() -> phoneNumberService.parse(phoneNumber))
+                    .isInstanceOf(ParseException.class)
+                    .hasMessageStartingWith("Unable to find operator associated to the phone number: ");
+            assertThat(phoneNumberService.findOperator(phoneNumber)).isEmpty();
+        }
+
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.plate;
+
+import com.persiantools4j.exception.ValidationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("License plate service")
+class LicensePlateServiceTest {
+
+    private static LicensePlateService licensePlateService;
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+                Arguments.of("12ب345-67", "12ب345-67", 38634567),
+                Arguments.of("۱۲ ب ۳۴۵ - ۶۷", "12ب345-67", 38634567),
+                Arguments.of(" 12 ب ٣٤٥ | ۶۷ ", "12ب345-67", 38634567),
+                Arguments.of("۱۲ الف ۳۴۵ ایران ۶۷", "12الف345-67", 38534567),
+                Arguments.of("12ا345ایران67", "12الف345-67", 38534567),
+                Arguments.of("٩٩ ي ٩٩٩ - ٩٩", "99ی999-99", 319199999),
+                Arguments.of("10ك100-10", "10ک100-10", 33610010)
+        );
+    }
+
+    private static Stream<Arguments> invalidFormatCases() {
+        return Stream.of(
+                Arguments.of("1ب345-67"),
+                Arguments.of("012ب345-67"),
+                Arguments.of("12ب045-67"),
+                Arguments.of("12ب345-07"),
+                Arguments.of("12ب3456-67"),
+                Arguments.of("12ب345-678"),
+                Arguments.of("12A345-67"),
+                Arguments.of("12چ345-67"),
+                Arguments.of("12ب345"),
+                Arguments.of("12"),
+                Arguments.of("12ب345-67x")
+        );
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        licensePlateService = new LicensePlateService();
+    }
+
+    @Nested
+    @DisplayName("Normalize")
+    class NormalizeTest {
+
+        @ParameterizedTest
+        @DisplayName("Normalize with valid license plate")
+        @MethodSource("com.persiantools4j.module.plate.LicensePlateServiceTest#validCases")
+        void normalizeWithValidLicensePlateTest(String plate, String expected, int expectedEncoded) {
+            assertThat(licensePlateService.normalize(plate)).isEqualTo(expected);
+            assertThat(licensePlateService.encode(plate)).isEqualTo(expectedEncoded);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional license plate of null and empty")
+        @ValueSource(strings = " ")
+        @NullAndEmptySource
+        void normalizeWithExceptionalLicensePlateOfNullAndEmptyTest(String plate) {
+            assertThatThrownBy(() -> licensePlateService.normalize(plate))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("License plate is null or empty");
+            assertThat(licensePlateService.encode(plate)).isEqualTo(-1);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional license plate")
+        @MethodSource("com.persiantools4j.module.plate.LicensePlateServiceTest#invalidFormatCases")
+        void normalizeWithExceptionalLicensePlateTest(String plate) {
+            assertThatThrownBy(() -> licensePlateService.normalize(plate))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid license plate format");
+            assertThat(licensePlateService.encode(plate)).isEqualTo(-1);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Validate")
+    class ValidateTest {
+
+        @ParameterizedTest
+        @DisplayName("Validate with valid license plate")
+        @MethodSource("com.persiantools4j.module.plate.LicensePlateServiceTest#validCases")
+        void validateWithValidLicensePlateTest(String plate) {
+            assertThatCode(() -> licensePlateService.validate(plate)).doesNotThrowAnyException();
+            assertThat(licensePlateService.isValid(plate)).isTrue();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional license plate")
+        @MethodSource("com.persiantools4j.module.plate.LicensePlateServiceTest#invalidFormatCases")
+        void validateWithExceptionalLicensePlateTest(String plate) {
+            assertThatThrownBy(() -> licensePlateService.validate(plate))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid license plate format");
+            assertThat(licensePlateService.isValid(plate)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Encode all")
+        void encodeAllTest() {
+            CharSequence[] plates = {"12ب345-67", null, "12A345-67", new StringBuilder("۱۲ الف ۳۴۵ - ۶۷")};
+            int[] encodedPlates = new int[plates.length];
+            assertThat(licensePlateService.encodeAll(plates, encodedPlates)).isEqualTo(2);
+            assertThat(encodedPlates).containsExactly(38634567, -1, -1, 38534567);
+            assertThatThrownBy(() -> licensePlateService.encodeAll(plates, new int[1]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Parse")
+    class ParseTest {
+
+        @Test
+        @DisplayName("Parse with single valid license plate")
+        void parseWithSingleValidLicensePlateTest() {
+            LicensePlate licensePlate = licensePlateService.parse("۱۲ الف ۳۴۵ - ۶۷");
+            assertThat(licensePlate.getPlate()).isEqualTo("12الف345-67");
+            assertThat(licensePlate.getEncoded()).isEqualTo(38534567);
+            assertThat(licensePlate.getFirstNumber()).isEqualTo(12);
+            assertThat(licensePlate.getLetter()).isEqualTo("الف");
+            assertThat(licensePlate.getSerial()).isEqualTo(345);
+            assertThat(licensePlate.getRegion()).isEqualTo(67);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Parse with valid license plate")
+        @MethodSource("com.persiantools4j.module.plate.LicensePlateServiceTest#validCases")
+        void parseWithValidLicensePlateTest(String plate, String expected, int expectedEncoded) {
+            assertThat(licensePlateService.parse(plate)).isEqualTo(licensePlateService.decode(expectedEncoded));
+        }
+
+        @ParameterizedTest
+        @DisplayName("Decode with exceptional encoded license plate")
+        @ValueSource(ints = {-1, 0, 38634507, 38604567, 38400000 + 4567, 31999999 + 9 * 3200000})
+        void decodeWithExceptionalEncodedLicensePlateTest(int encoded) {
+            assertThatThrownBy(() -> licensePlateService.decode(encoded))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageStartingWith("Invalid encoded license plate: ");
+        }
+
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.module.postalcode;
+
+import com.persiantools4j.collection.postalcode.PostalRegion;
+import com.persiantools4j.exception.ParseException;
+import com.persiantools4j.exception.ValidationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Postal code service")
+class PostalCodeServiceTest {
+
+    private static PostalCodeService postalCodeService;
+
+    private static Stream<Arguments> validCases() {
+        return Stream.of(
+                Arguments.of("1317876543", 1317876543L, "تهران"),
+                Arguments.of(" 13178-76543 ", 1317876543L, "تهران"),
+                Arguments.of("۱۳۱۷۸-۷۶۵۴۳", 1317876543L, "تهران"),
+                Arguments.of("٧٥١٤٩١٣٥٧٩", 7514913579L, "بوشهر"),
+                Arguments.of("7581673450", 7581673450L, "کهگیلویه و بویراحمد"),
+                Arguments.of("9911813450", 9911813450L, "سیستان و بلوچستان")
+        );
+    }
+
+    private static Stream<Arguments> invalidFormatCases() {
+        return Stream.of(
+                Arguments.of("131787654"),
+                Arguments.of("13178765431"),
+                Arguments.of("1317a76543"),
+                Arguments.of("1317876542"),
+                Arguments.of("1307876543"),
+                Arguments.of("1317576543"),
+                Arguments.of("1111876543"),
+                Arguments.of("+1317876543")
+        );
+    }
+
+    private static Stream<Arguments> unknownRegionCases() {
+        return Stream.of(
+                Arguments.of("7561713450"),
+                Arguments.of("3614713450")
+        );
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        postalCodeService = new PostalCodeService();
+    }
+
+    @Nested
+    @DisplayName("Normalize")
+    class NormalizeTest {
+
+        @ParameterizedTest
+        @DisplayName("Normalize with valid postal code")
+        @MethodSource("com.persiantools4j.module.postalcode.PostalCodeServiceTest#validCases")
+        void normalizeWithValidPostalCodeTest(String postalCode, long expected) {
+            assertThat(postalCodeService.normalize(postalCode)).isEqualTo(String.valueOf(expected));
+            assertThat(postalCodeService.canonicalize(postalCode)).isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional postal code of null and empty")
+        @ValueSource(strings = " ")
+        @NullAndEmptySource
+        void normalizeWithExceptionalPostalCodeOfNullAndEmptyTest(String postalCode) {
+            assertThatThrownBy(() -> postalCodeService.normalize(postalCode))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Postal code is null or empty");
+            assertThat(postalCodeService.canonicalize(postalCode)).isEqualTo(-1);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Normalize with exceptional postal code")
+        @MethodSource("com.persiantools4j.module.postalcode.PostalCodeServiceTest#invalidFormatCases")
+        void normalizeWithExceptionalPostalCodeTest(String postalCode) {
+            assertThatThrownBy(() -> postalCodeService.normalize(postalCode))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid postal code format");
+            assertThat(postalCodeService.canonicalize(postalCode)).isEqualTo(-1);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Validate")
+    class ValidateTest {
+
+        @ParameterizedTest
+        @DisplayName("Validate with valid postal code")
+        @MethodSource("com.persiantools4j.module.postalcode.PostalCodeServiceTest#validCases")
+        void validateWithValidPostalCodeTest(String postalCode) {
+            assertThatCode(() -> postalCodeService.validate(postalCode)).doesNotThrowAnyException();
+            assertThat(postalCodeService.isValid(postalCode)).isTrue();
+        }
+
+        @ParameterizedTest
+        @DisplayName("Validate with exceptional postal code format")
+        @MethodSource("com.persiantools4j.module.postalcode.PostalCodeServiceTest#invalidFormatCases")
+        void validateWithExceptionalPostalCodeFormatTest(String postalCode) {
+            assertThatThrownBy(() -> postalCodeService.validate(postalCode))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Invalid postal code format");
+            assertThat(postalCodeService.isValid(postalCode)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Validate in bulk")
+        void isValidAllTest() {
+            CharSequence[] postalCodes = {"1317876543", null, "1317576543", new StringBuilder("75149 13579"),
+                    "7561713450"};
+            long[] bitmask = new long[1];
+            assertThat(postalCodeService.isValidAll(postalCodes, bitmask)).isEqualTo(3);
+            assertThat(bitmask[0]).isEqualTo(0b11001L);
+            assertThatThrownBy(() -> postalCodeService.isValidAll(postalCodes, new long[0]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Parse")
+    class ParseTest {
+
+        @ParameterizedTest
+        @DisplayName("Parse with valid postal code")
+        @MethodSource("com.persiantools4j.module.postalcode.PostalCodeServiceTest#validCases")
+        void parseWithValidPostalCodeTest(String postalCode, long expectedValue, String expectedProvince) {
+            PostalCode actualPostalCode = postalCodeService.parse(postalCode);
+            assertThat(actualPostalCode.getCode()).isEqualTo(String.valueOf(expectedValue));
+            assertThat(actualPostalCode.getValue()).isEqualTo(expectedValue);
+            assertThat(actualPostalCode.getRegion().getProvince()).isEqualTo(expectedProvince);
+            assertThat(postalCodeService.findRegion(expectedValue).map(PostalRegion::getProvince))
+                    .contains(expectedProvince);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Parse with postal code of unknown region")
+        @MethodSource("com.persiantools4j.module.postalcode.PostalCodeServiceTest#unknownRegionCases")
+        void parseWithPostalCodeOfUnknownRegionTest(String postalCode) {
+            assertThatThrownBy(() -> postalCodeService.parse(postalCode))
+                    .isInstanceOf(ParseException.class)
+                    .hasMessageStartingWith("Unable to find region associated to the postal code: ");
+            assertThat(postalCodeService.findRegion(postalCodeService.canonicalize(postalCode))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Find regions in bulk")
+        void findRegionAllTest() {
+            CharSequence[] postalCodes = {"1317876543", null, "7561713450", "۷۵۸۱۶۷۳۴۵۰", "1317576543"};
+            PostalRegion[] regions = new PostalRegion[postalCodes.length];
+            assertThat(postalCodeService.findRegionAll(postalCodes, regions)).isEqualTo(2);
+            assertThat(regions[0].getProvince()).isEqualTo("تهران");
+            assertThat(regions[3].getProvince()).isEqualTo("کهگیلویه و بویراحمد");
+            assertThat(regions[1]).isNull();
+            assertThat(regions[2]).isNull();
+            assertThat(regions[4]).isNull();
+            assertThatThrownBy(() -> postalCodeService.findRegionAll(postalCodes, new PostalRegion[1]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+}
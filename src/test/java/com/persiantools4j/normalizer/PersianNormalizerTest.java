@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Persian normalizer")
+class PersianNormalizerTest {
+
+    private static PersianNormalizer normalizer;
+
+    private static Stream<Arguments> normalizeCases() {
+        return Stream.of(
+                Arguments.of(null, ""),
+                Arguments.of("", ""),
+                Arguments.of("   ", ""),
+                Arguments.of("اين يك تست كاربردي مي باشد", "این یک تست کاربردی می باشد"),
+                Arguments.of("٠١٢٣ ۴۵۶ 789", "0123 456 789"),
+                Arguments.of("کِتابٌ", "کتاب"),
+                Arguments.of("ســــلام", "سلام"),
+                Arguments.of("  سلام \t  دنیا  ", "سلام دنیا"),
+                Arguments.of("می‌‌خواهم", "می‌خواهم"),
+                Arguments.of("سلام‌ دنیا‌", "سلام دنیا"),
+                Arguments.of("‌سلام ‌ دنیا", "سلام دنیا"),
+                Arguments.of(" سطر اول \r\n  سطر دوم ", "سطر اول\r\nسطر دوم"),
+                Arguments.of("ﺳﻼﻡ", "سلام"),
+                Arguments.of("ﻳﻚ", "یک"),
+                Arguments.of("ﷲ", "الله")
+        );
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        normalizer = PersianNormalizer.builder()
+                .cleanSpaces()
+                .removeTatweel()
+                .removeDiacritics()
+                .englishDigits()
+                .arabicLetters()
+                .foldPresentationForms()
+                .build();
+    }
+
+    @ParameterizedTest
+    @DisplayName("Normalize")
+    @MethodSource("normalizeCases")
+    void normalizeTest(String input, String expected) throws IOException {
+        assertThat(normalizer.normalize(input)).isEqualTo(expected);
+        if (input != null) {
+            assertThat(normalizer.normalize((CharSequence) input, new StringBuilder())).hasToString(expected);
+            assertThat(normalizer.normalize(new StringReader(input), new StringBuilder())).hasToString(expected);
+            assertThat(normalizer.isNormalized(input)).isEqualTo(input.equals(expected));
+            assertThat(normalizer.isNormalized(expected)).isTrue();
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("Normalize without change")
+    @ValueSource(strings = {"سلام دنیا", "می‌خواهم", "test 123", "سطر اول\nسطر دوم"})
+    void normalizeWithoutChangeTest(String input) {
+        assertThat(normalizer.normalize(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Normalize with selected steps")
+    void normalizeWithSelectedStepsTest() {
+        PersianNormalizer persianNormalizer = PersianNormalizer.builder()
+                .arabicLetters()
+                .persianDigits()
+                .build();
+        assertThat(persianNormalizer.normalize("يك ٠١٢٣ 45  ـ ﻳ"))
+                .isEqualTo("یک ۰۱۲۳ 45  ـ ﻳ");
+        assertThat(PersianNormalizer.builder().build().normalize("  يك ٠ ")).isEqualTo("  يك ٠ ");
+        assertThat(PersianNormalizer.builder().persianDigits().englishDigits().build().normalize("٠۰"))
+                .isEqualTo("00");
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Persian normalizing reader")
+class PersianNormalizingReaderTest {
+
+    private static final String TEXT = " اين يك  تست ‌ ٠١٢ ﻳﻚ ﷲ \n  كتابِ  ";
+
+    private static PersianNormalizer normalizer;
+
+    @BeforeAll
+    static void beforeAll() {
+        normalizer = PersianNormalizer.builder()
+                .foldPresentationForms()
+                .arabicLetters()
+                .englishDigits()
+                .removeDiacritics()
+                .cleanSpaces()
+                .build();
+    }
+
+    private static String readFully(Reader reader, int chunkSize) throws IOException {
+        StringBuilder result = new StringBuilder();
+        char[] buffer = new char[chunkSize];
+        int count;
+        while ((count = reader.read(buffer, 0, chunkSize)) >= 0) {
+            result.append(buffer, 0, count);
+        }
+        return result.toString();
+    }
+
+    @ParameterizedTest
+    @DisplayName("Read in chunks")
+    @ValueSource(ints = {1, 2, 3, 7, 8192})
+    void readInChunksTest(int chunkSize) throws IOException {
+        Reader source = new FilterReader(new StringReader(TEXT)) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, chunkSize));
+            }
+        };
+        try (Reader reader = new PersianNormalizingReader(source, normalizer)) {
+            assertThat(readFully(reader, chunkSize)).isEqualTo(normalizer.normalize(TEXT));
+        }
+    }
+
+    @Test
+    @DisplayName("Read large text")
+    void readLargeTextTest() throws IOException {
+        String text = String.join("", Collections.nCopies(5000, TEXT));
+        try (Reader reader = new PersianNormalizingReader(new StringReader(text), normalizer)) {
+            assertThat(readFully(reader, 1000)).isEqualTo(normalizer.normalize(text));
+        }
+    }
+
+    @Test
+    @DisplayName("Read single characters and skip")
+    void readSingleCharactersAndSkipTest() throws IOException {
+        try (Reader reader = new PersianNormalizingReader(new StringReader("يك  ٢"), normalizer)) {
+            assertThat(reader.markSupported()).isFalse();
+            assertThat(reader.ready()).isTrue();
+            assertThat(reader.read()).isEqualTo('ی');
+            assertThat(reader.skip(2)).isEqualTo(2);
+            assertThat(reader.read()).isEqualTo('2');
+            assertThat(reader.read()).isEqualTo(-1);
+            assertThat(reader.skip(1)).isZero();
+            assertThatThrownBy(reader::reset).isInstanceOf(IOException.class);
+        }
+        assertThatThrownBy(() -> new PersianNormalizingReader(new StringReader(""), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.CharBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Persian normalizing transformer")
+class PersianNormalizingTransformerTest {
+
+    private static final String TEXT = " اين يك  تست ‌ ٠١٢ ﷺ \n  كتابِ  ";
+
+    private static final PersianNormalizer NORMALIZER = PersianNormalizer.builder()
+            .foldPresentationForms()
+            .arabicLetters()
+            .englishDigits()
+            .removeDiacritics()
+            .cleanSpaces()
+            .build();
+
+    @ParameterizedTest
+    @DisplayName("Transform in chunks")
+    @ValueSource(ints = {1, 2, 5, 64})
+    void transformInChunksTest(int chunkSize) {
+        PersianNormalizingTransformer transformer = new PersianNormalizingTransformer(NORMALIZER);
+        StringBuilder result = new StringBuilder();
+        CharBuffer output = CharBuffer.allocate(chunkSize);
+        for (int i = 0; i < TEXT.length(); i += chunkSize) {
+            CharBuffer input = CharBuffer.wrap(TEXT, i, Math.min(i + chunkSize, TEXT.length()));
+            boolean underflow;
+            do {
+                underflow = transformer.transform(input, output);
+                output.flip();
+                result.append(output);
+                output.clear();
+            } while (!underflow);
+        }
+        assertThat(result).hasToString(NORMALIZER.normalize(TEXT));
+    }
+
+    @Test
+    @DisplayName("Reset")
+    void resetTest() {
+        PersianNormalizingTransformer transformer = new PersianNormalizingTransformer(NORMALIZER);
+        CharBuffer output = CharBuffer.allocate(4);
+        assertThat(transformer.transform(CharBuffer.wrap("ﷺ"), output)).isFalse();
+        transformer.reset();
+        output.clear();
+        assertThat(transformer.transform(CharBuffer.wrap(" يك"), output)).isTrue();
+        output.flip();
+        assertThat(output.toString()).isEqualTo("یک");
+        assertThatThrownBy(() -> new PersianNormalizingTransformer(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
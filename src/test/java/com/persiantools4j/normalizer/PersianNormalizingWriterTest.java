@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Persian normalizing writer")
+class PersianNormalizingWriterTest {
+
+    private static final String TEXT = " اين يك  تست ‌ ٠١٢ ﻳﻚ ﷲ \n  كتابِ  ";
+
+    private static PersianNormalizer normalizer;
+
+    @BeforeAll
+    static void beforeAll() {
+        normalizer = PersianNormalizer.builder()
+                .foldPresentationForms()
+                .arabicLetters()
+                .englishDigits()
+                .removeDiacritics()
+                .cleanSpaces()
+                .build();
+    }
+
+    @Test
+    @DisplayName("Write in chunks")
+    void writeInChunksTest() throws IOException {
+        StringWriter result = new StringWriter();
+        try (Writer writer = new PersianNormalizingWriter(result, normalizer)) {
+            for (int i = 0; i < TEXT.length(); i += 3) {
+                writer.write(TEXT, i, Math.min(3, TEXT.length() - i));
+            }
+        }
+        assertThat(result).hasToString(normalizer.normalize(TEXT));
+    }
+
+    @Test
+    @DisplayName("Write single characters and arrays")
+    void writeSingleCharactersAndArraysTest() throws IOException {
+        StringWriter result = new StringWriter();
+        try (Writer writer = new PersianNormalizingWriter(result, normalizer)) {
+            for (char ch : TEXT.toCharArray()) {
+                writer.write(ch);
+            }
+            writer.write(TEXT.toCharArray());
+            writer.flush();
+        }
+        assertThat(result).hasToString(normalizer.normalize(TEXT + TEXT));
+        assertThatThrownBy(() -> new PersianNormalizingWriter(new StringWriter(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Write large text")
+    void writeLargeTextTest() throws IOException {
+        String text = String.join("", Collections.nCopies(5000, TEXT));
+        StringWriter result = new StringWriter();
+        try (Writer writer = new PersianNormalizingWriter(result, normalizer)) {
+            writer.write(text);
+        }
+        assertThat(result).hasToString(normalizer.normalize(text));
+    }
+
+}
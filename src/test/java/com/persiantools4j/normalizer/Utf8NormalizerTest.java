@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.normalizer;
+
+import com.persiantools4j.util.StringUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UTF-8 normalizer")
+class Utf8NormalizerTest {
+
+    private static byte[] utf8(String str) {
+        return str.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @ParameterizedTest
+    @DisplayName("To english digits")
+    @ValueSource(strings = {"۰۱۲۳۴۵۶۷۸۹", "٠١٢٣٤٥٦٧٨٩", "test ۱۲ تست ٣", "شماره: ۰۹۱۲ 😀 €", "no digits"})
+    void toEnglishDigitsTest(String input) {
+        byte[] expected = utf8(StringUtils.toEnglishDigits(input));
+        assertThat(Utf8Normalizer.toEnglishDigits(utf8(input))).isEqualTo(expected);
+        byte[] inPlace = utf8(input);
+        int length = Utf8Normalizer.toEnglishDigits(inPlace, 0, inPlace.length, inPlace, 0);
+        assertThat(Arrays.copyOf(inPlace, length)).isEqualTo(expected);
+        ByteBuffer dst = ByteBuffer.allocateDirect(inPlace.length);
+        Utf8Normalizer.toEnglishDigits(ByteBuffer.wrap(utf8(input)), dst);
+        dst.flip();
+        byte[] actual = new byte[dst.remaining()];
+        dst.get(actual);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Normalize persian")
+    @ValueSource(strings = {"اين يك تست كاربردي مي باشد", "٠١٢٣٤٥٦٧٨٩", "ؠ ؽ ؾ ؿ ي ٸ ۍ ێ ۑ ے ۓ", "ٶ ۄ ۊ ۏ",
+            "ك ڪ ګ ڬ ڮ ػ ؼ", "test 😀 ۱۲"})
+    void normalizePersianTest(String input) {
+        byte[] expected = utf8(StringUtils.normalizePersian(input));
+        assertThat(Utf8Normalizer.normalizePersian(utf8(input))).isEqualTo(expected);
+        byte[] dst = new byte[utf8(input).length + 2];
+        int length = Utf8Normalizer.normalizePersian(utf8(input), 0, utf8(input).length, dst, 2);
+        assertThat(Arrays.copyOfRange(dst, 2, 2 + length)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Return same array without change")
+    void returnSameArrayWithoutChangeTest() {
+        byte[] input = utf8("سلام ۱۲ test");
+        assertThat(Utf8Normalizer.normalizePersian(input)).isSameAs(input);
+        byte[] ascii = utf8("123 test");
+        assertThat(Utf8Normalizer.toEnglishDigits(ascii)).isSameAs(ascii);
+    }
+
+    @Test
+    @DisplayName("Convert buffers with ASCII runs")
+    void convertBuffersWithAsciiRunsTest() {
+        String input = "order 1234567890 of 2024-01-01: ۱۲۳۴ كتاب, shipped to a long ASCII address ٥٦ x";
+        byte[] bytes = utf8(input);
+        byte[] expected = utf8(StringUtils.normalizePersian(input));
+        ByteBuffer directSrc = ByteBuffer.allocateDirect(bytes.length);
+        directSrc.put(bytes).flip();
+        ByteBuffer directDst = ByteBuffer.allocateDirect(bytes.length);
+        Utf8Normalizer.normalizePersian(directSrc, directDst);
+        assertThat(directSrc.hasRemaining()).isFalse();
+        directDst.flip();
+        byte[] actual = new byte[directDst.remaining()];
+        directDst.get(actual);
+        assertThat(actual).isEqualTo(expected);
+        byte[] padded = new byte[bytes.length + 4];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+        ByteBuffer heapSrc = ByteBuffer.wrap(padded, 1, bytes.length + 2).slice();
+        heapSrc.position(2);
+        ByteBuffer heapDst = ByteBuffer.wrap(new byte[bytes.length + 5], 5, bytes.length).slice();
+        Utf8Normalizer.normalizePersian(heapSrc, heapDst);
+        assertThat(heapSrc.hasRemaining()).isFalse();
+        assertThat(Arrays.copyOf(heapDst.array(), heapDst.arrayOffset() + heapDst.position()))
+                .endsWith(expected);
+        ByteBuffer split = ByteBuffer.allocateDirect(bytes.length);
+        split.put(bytes, 0, input.indexOf('۱') + 1).flip();
+        ByteBuffer splitDst = ByteBuffer.allocate(bytes.length);
+        Utf8Normalizer.toEnglishDigits(split, splitDst);
+        assertThat(split.remaining()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Convert buffers in chunks")
+    void convertBuffersInChunksTest() {
+        String input = "۱۲۳ يك ٤٥ test";
+        byte[] bytes = utf8(input);
+        ByteBuffer src = ByteBuffer.allocate(3);
+        ByteBuffer dst = ByteBuffer.allocate(bytes.length);
+        for (byte b : bytes) {
+            src.put(b);
+            src.flip();
+            Utf8Normalizer.toEnglishDigits(src, dst);
+            src.compact();
+        }
+        dst.flip();
+        assertThat(StandardCharsets.UTF_8.decode(dst).toString()).isEqualTo("123 يك 45 test");
+        assertThatThrownBy(() -> Utf8Normalizer.toEnglishDigits(ByteBuffer.wrap(bytes), ByteBuffer.allocate(1)))
+                .isInstanceOf(BufferOverflowException.class);
+        assertThatThrownBy(() -> Utf8Normalizer.toEnglishDigits(bytes, 1, bytes.length, bytes, 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.number;
+
+import com.persiantools4j.exception.ParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Persian number words")
+class PersianNumberWordsTest {
+
+    private static Stream<Arguments> numberCases() {
+        return Stream.of(
+                Arguments.of(0L, "صفر"),
+                Arguments.of(7L, "هفت"),
+                Arguments.of(15L, "پانزده"),
+                Arguments.of(40L, "چهل"),
+                Arguments.of(99L, "نود و نه"),
+                Arguments.of(100L, "صد"),
+                Arguments.of(305L, "سیصد و پنج"),
+                Arguments.of(1000L, "یک هزار"),
+                Arguments.of(1200000L, "یک میلیون و دویست هزار"),
+                Arguments.of(2_000_017L, "دو میلیون و هفده"),
+                Arguments.of(-512L, "منفی پانصد و دوازده"),
+                Arguments.of(Long.MAX_VALUE, "نه کوینتیلیون و دویست و بیست و سه کوادریلیون و سیصد و هفتاد و دو " +
+                        "تریلیون و سی و شش میلیارد و هشتصد و پنجاه و چهار میلیون و هفتصد و هفتاد و پنج هزار و " +
+                        "هشتصد و هفت")
+        );
+    }
+
+    private static Stream<Arguments> decimalCases() {
+        return Stream.of(
+                Arguments.of("12.5", "دوازده ممیز پنج دهم"),
+                Arguments.of("0.25", "بیست و پنج صدم"),
+                Arguments.of("-3.125", "منفی سه ممیز صد و بیست و پنج هزارم"),
+                Arguments.of("1.0005", "یک ممیز پنج ده هزارم"),
+                Arguments.of("0.000001", "یک میلیونم"),
+                Arguments.of("1200.00", "یک هزار و دویست")
+        );
+    }
+
+    private static Stream<Arguments> parseCases() {
+        return Stream.of(
+                Arguments.of("یک میلیون و دویست هزار", 1200000L),
+                Arguments.of("يک ميليون و دويست هزار", 1200000L),
+                Arguments.of("هزار", 1000L),
+                Arguments.of("دو صد و پنج", 205L),
+                Arguments.of("یکصد و بیست", 120L),
+                Arguments.of("سیصد هزار و بیست و یک", 300021L),
+                Arguments.of("۲۵۰ هزار", 250000L),
+                Arguments.of("3 میلیون و 500 هزار", 3500000L),
+                Arguments.of("منفی هیجده", -18L),
+                Arguments.of("صفر", 0L)
+        );
+    }
+
+    @Nested
+    @DisplayName("To words")
+    class ToWordsTest {
+
+        @ParameterizedTest
+        @DisplayName("Convert number to words")
+        @MethodSource("com.persiantools4j.number.PersianNumberWordsTest#numberCases")
+        void toWordsTest(long number, String expected) throws IOException {
+            assertThat(PersianNumberWords.toWords(number)).isEqualTo(expected);
+            assertThat(PersianNumberWords.toWords(number, new StringBuilder("#"))).hasToString("#" + expected);
+            assertThat(PersianNumberWords.toWords(BigDecimal.valueOf(number))).isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Convert decimal number to words")
+        @MethodSource("com.persiantools4j.number.PersianNumberWordsTest#decimalCases")
+        void toWordsWithDecimalTest(String number, String expected) {
+            assertThat(PersianNumberWords.toWords(new BigDecimal(number))).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Convert minimum value to words")
+        void toWordsWithMinimumValueTest() {
+            assertThat(PersianNumberWords.toWords(Long.MIN_VALUE)).startsWith("منفی نه کوینتیلیون")
+                    .endsWith("هشتصد و هشت");
+        }
+
+        @Test
+        @DisplayName("Convert with exceptional arguments")
+        void toWordsWithExceptionalArgumentsTest() {
+            assertThatThrownBy(() -> PersianNumberWords.toWords(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> PersianNumberWords.toWords(1, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> PersianNumberWords.toWords(new BigDecimal("1e19")))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> PersianNumberWords.toWords(new BigDecimal("1e-19")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Parse")
+    class ParseTest {
+
+        @ParameterizedTest
+        @DisplayName("Parse words")
+        @MethodSource("com.persiantools4j.number.PersianNumberWordsTest#parseCases")
+        void parseTest(String words, long expected) {
+            assertThat(PersianNumberWords.parse(words)).isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Parse words of converted numbers")
+        @MethodSource("com.persiantools4j.number.PersianNumberWordsTest#numberCases")
+        void parseConvertedNumberTest(long number, String words) {
+            assertThat(PersianNumberWords.parse(words)).isEqualTo(number);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Parse exceptional words")
+        @ValueSource(strings = {"بیست سی", "پنج بیست", "هزار میلیون", "و پنج", "پنج و", "پنج و و شش", "صفر و یک",
+                "یک، دو", "سلام", "پنج منفی", "ده کوینتیلیون", "یک هزار هزار"})
+        void parseExceptionalWordsTest(String words) {
+            assertThatThrownBy(() -> PersianNumberWords.parse(words))
+                    .isInstanceOf(ParseException.class)
+                    .hasMessageStartingWith("Invalid number words: ");
+        }
+
+        @ParameterizedTest
+        @DisplayName("Parse null and empty words")
+        @ValueSource(strings = " ")
+        @NullAndEmptySource
+        void parseNullAndEmptyWordsTest(String words) {
+            assertThatThrownBy(() -> PersianNumberWords.parse(words))
+                    .isInstanceOf(ParseException.class)
+                    .hasMessage("Number words are null or empty");
+        }
+
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.slug;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Persian slugifier")
+class PersianSlugifierTest {
+
+    private static Stream<Arguments> slugifyCases() {
+        return Stream.of(
+                Arguments.of("سلام دنیا!", "سلام-دنیا"),
+                Arguments.of("  كتاب‌های  علمي  ", "کتاب-های-علمی"),
+                Arguments.of("قیمت: ۱۲٬۰۰۰ تومان؟", "قیمت-۱۲-۰۰۰-تومان"),
+                Arguments.of("«مُحَمَّد» و «علی»", "محمد-و-علی"),
+                Arguments.of("ســـلام، دنیا؛", "سلام-دنیا"),
+                Arguments.of("Hello, World! 2024", "hello-world-2024"),
+                Arguments.of("Don't Panic___now", "dont-panic-now"),
+                Arguments.of("۲۰×۳۰ سانتی‌متر", "۲۰-۳۰-سانتی-متر"),
+                Arguments.of("--!!--", ""),
+                Arguments.of("", "")
+        );
+    }
+
+    private static Stream<Arguments> transliteratedSlugifyCases() {
+        return Stream.of(
+                Arguments.of("سفر به شیراز", "sfr-beh-shiraz"),
+                Arguments.of("خانه‌های ایران", "khaneh-hay-iran"),
+                Arguments.of("عبدالله‌زاده", "abdallah-zadeh"),
+                Arguments.of("سعید و علی", "sid-va-ali"),
+                Arguments.of("قیمت ۱۴۰۳", "ghimt-1403"),
+                Arguments.of("Java و کاتلین", "java-va-katlin")
+        );
+    }
+
+    @Nested
+    @DisplayName("Slugify")
+    class SlugifyTest {
+
+        @ParameterizedTest
+        @DisplayName("Slugify with text")
+        @MethodSource("com.persiantools4j.slug.PersianSlugifierTest#slugifyCases")
+        void slugifyWithTextTest(String text, String expected) {
+            assertThat(PersianSlugifier.slugify(text)).isEqualTo(expected);
+            assertThat(PersianSlugifier.slugify(text, false)).isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Slugify with transliterated text")
+        @MethodSource("com.persiantools4j.slug.PersianSlugifierTest#transliteratedSlugifyCases")
+        void slugifyWithTransliteratedTextTest(String text, String expected) {
+            assertThat(PersianSlugifier.slugify(text, true)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Slugify into string builder")
+        void slugifyIntoStringBuilderTest() {
+            StringBuilder builder = new StringBuilder("/blog/");
+            assertThat(PersianSlugifier.slugify(" سلام دنیا ", false, builder)).isSameAs(builder);
+            assertThat(builder.toString()).isEqualTo("/blog/سلام-دنیا");
+            builder.append('/');
+            PersianSlugifier.slugify("-سلام-", true, builder);
+            assertThat(builder.toString()).isEqualTo("/blog/سلام-دنیا/slam");
+        }
+
+        @Test
+        @DisplayName("Slugify with null text")
+        void slugifyWithNullTextTest() {
+            assertThatThrownBy(() -> PersianSlugifier.slugify(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Text is null");
+            assertThatThrownBy(() -> PersianSlugifier.slugify(null, true, new StringBuilder()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Text is null");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Slugify all")
+    class SlugifyAllTest {
+
+        @Test
+        @DisplayName("Slugify stream")
+        void slugifyStreamTest() {
+            Stream<String> titles = Stream.of("سلام دنیا", "سفر به شیراز", "!!");
+            assertThat(PersianSlugifier.slugifyAll(titles, true).collect(Collectors.toList()))
+                    .containsExactly("slam-dnya", "sfr-beh-shiraz", "");
+            assertThat(PersianSlugifier.slugifyAll(Stream.of("الف ب", "ج د").parallel(), false)
+                    .collect(Collectors.toList()))
+                    .containsExactly("الف-ب", "ج-د");
+            assertThatThrownBy(() -> PersianSlugifier.slugifyAll(null, false))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Texts are null");
+        }
+
+        @Test
+        @DisplayName("Slugify array")
+        void slugifyArrayTest() {
+            CharSequence[] texts = {"سلام دنیا", null, new StringBuilder("Hello World"), "؟"};
+            String[] slugs = new String[texts.length];
+            assertThat(PersianSlugifier.slugifyAll(texts, slugs, false)).isEqualTo(2);
+            assertThat(slugs).containsExactly("سلام-دنیا", null, "hello-world", "");
+            assertThatThrownBy(() -> PersianSlugifier.slugifyAll(texts, new String[1], false))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Texts are null or output array is too short");
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.stemmer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Char array set")
+class CharArraySetTest {
+
+    @Test
+    @DisplayName("Contains ranges of a character array")
+    void containsTest() {
+        CharArraySet set = new CharArraySet("ایران", "تهران", "دختر", "ایران", "");
+        char[] buffer = "در ایران و تهران".toCharArray();
+        assertThat(set.contains(buffer, 3, 5)).isTrue();
+        assertThat(set.contains(buffer, 11, 5)).isTrue();
+        assertThat(set.contains(buffer, 3, 4)).isFalse();
+        assertThat(set.contains(buffer, 0, 2)).isFalse();
+        assertThat(set.contains(buffer, 0, 0)).isTrue();
+        assertThat(new CharArraySet().contains(buffer, 0, 0)).isFalse();
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.stemmer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Persian stemmer")
+class PersianStemmerTest {
+
+    private static PersianStemmer persianStemmer;
+
+    private static Stream<Arguments> stemCases() {
+        return Stream.of(
+                Arguments.of("کتاب", "کتاب"),
+                Arguments.of("کتاب‌ها", "کتاب"),
+                Arguments.of("کتابها", "کتاب"),
+                Arguments.of("کتاب‌هایمان", "کتاب"),
+                Arguments.of("کتاب‌های", "کتاب"),
+                Arguments.of("درختان", "درخت"),
+                Arguments.of("اطلاعات", "اطلاع"),
+                Arguments.of("بزرگ‌تر", "بزرگ"),
+                Arguments.of("بزرگ‌ترین", "بزرگ"),
+                Arguments.of("بزرگترین", "بزرگ"),
+                Arguments.of("خانه‌ام", "خانه"),
+                Arguments.of("خانه‌اش", "خانه"),
+                Arguments.of("دوستشان", "دوست"),
+                Arguments.of("كتابهاي", "کتاب"),
+                Arguments.of("ايران", "ایران"),
+                Arguments.of("دختر", "دختر"),
+                Arguments.of("دخترها", "دختر"),
+                Arguments.of("جهان", "جهان"),
+                Arguments.of("ها", "ها"),
+                Arguments.of("", "")
+        );
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        persianStemmer = new PersianStemmer();
+    }
+
+    @Nested
+    @DisplayName("Stem")
+    class StemTest {
+
+        @ParameterizedTest
+        @DisplayName("Stem word")
+        @MethodSource("com.persiantools4j.stemmer.PersianStemmerTest#stemCases")
+        void stemWordTest(String word, String expected) {
+            assertThat(persianStemmer.stem(word)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Stem range of a character array in place")
+        void stemRangeInPlaceTest() {
+            char[] buffer = "من كتابهاي تو".toCharArray();
+            int length = persianStemmer.stem(buffer, 3, 7);
+            assertThat(length).isEqualTo(4);
+            assertThat(new String(buffer, 3, length)).isEqualTo("کتاب");
+            assertThat(new String(buffer)).isEqualTo("من کتابهای تو");
+            assertThat(persianStemmer.stem(null)).isEmpty();
+            assertThatThrownBy(() -> persianStemmer.stem(buffer, 10, 5))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+    }
+
+}
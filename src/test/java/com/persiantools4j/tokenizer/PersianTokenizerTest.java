@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.tokenizer;
+
+import com.persiantools4j.enums.TokenType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Persian tokenizer")
+class PersianTokenizerTest {
+
+    private static Stream<Arguments> tokenizeCases() {
+        return Stream.of(
+                Arguments.of("سلام دنیا", new String[]{"WORD:سلام", "WORD:دنیا"}),
+                Arguments.of("من می‌خواهم بروم.", new String[]{"WORD:من", "WORD:می‌خواهم", "WORD:بروم",
+                        "PUNCTUATION:."}),
+                Arguments.of("کتاب‌ها، دفترها؛ «قلم»؟", new String[]{"WORD:کتاب‌ها", "PUNCTUATION:،",
+                        "WORD:دفترها", "PUNCTUATION:؛", "PUNCTUATION:«", "WORD:قلم", "PUNCTUATION:»",
+                        "PUNCTUATION:؟"}),
+                Arguments.of("قیمت ۱۲٬۵۰۰ یا 3.14 یا ١٢3", new String[]{"WORD:قیمت", "NUMBER:۱۲٬۵۰۰", "WORD:یا",
+                        "NUMBER:3.14", "WORD:یا", "NUMBER:١٢3"}),
+                Arguments.of("‌خانه‌ ‌ها‌", new String[]{"WORD:خانه", "WORD:ها"}),
+                Arguments.of("مُحَمَّد و Java", new String[]{"WORD:مُحَمَّد", "WORD:و", "WORD:Java"}),
+                Arguments.of("۱۰ام", new String[]{"NUMBER:۱۰", "WORD:ام"}),
+                Arguments.of("1.", new String[]{"NUMBER:1", "PUNCTUATION:."}),
+                Arguments.of(" \t\n", new String[0])
+        );
+    }
+
+    private static Stream<Arguments> fixHalfSpacesCases() {
+        return Stream.of(
+                Arguments.of("من می خواهم", new String[]{"WORD:من", "WORD:می خواهم"}),
+                Arguments.of("نمي دانم", new String[]{"WORD:نمي دانم"}),
+                Arguments.of("کتاب ها و بزرگ ترین", new String[]{"WORD:کتاب ها", "WORD:و", "WORD:بزرگ ترین"}),
+                Arguments.of("کتاب‌ ‌های من", new String[]{"WORD:کتاب‌ ‌های", "WORD:من"}),
+                Arguments.of("می\nخواهم", new String[]{"WORD:می", "WORD:خواهم"}),
+                Arguments.of("کتاب، ها", new String[]{"WORD:کتاب", "PUNCTUATION:،", "WORD:ها"}),
+                Arguments.of("میز ها", new String[]{"WORD:میز ها"})
+        );
+    }
+
+    private static List<String> tokenize(PersianTokenizer tokenizer, String text) {
+        int[] tokens = new int[3 * 32];
+        int count = tokenizer.tokenize(text, tokens);
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(TokenType.ofCode(tokens[3 * i + 2]) + ":" + text.substring(tokens[3 * i], tokens[3 * i + 1]));
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("Tokenize")
+    class TokenizeTest {
+
+        @ParameterizedTest
+        @DisplayName("Tokenize text")
+        @MethodSource("com.persiantools4j.tokenizer.PersianTokenizerTest#tokenizeCases")
+        void tokenizeTextTest(String text, String[] expected) {
+            assertThat(tokenize(new PersianTokenizer(), text)).containsExactly(expected);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Tokenize text with half-space fixing")
+        @MethodSource("com.persiantools4j.tokenizer.PersianTokenizerTest#fixHalfSpacesCases")
+        void tokenizeTextWithHalfSpaceFixingTest(String text, String[] expected) {
+            assertThat(tokenize(new PersianTokenizer(true), text)).containsExactly(expected);
+        }
+
+        @Test
+        @DisplayName("Tokenize into a full buffer")
+        void tokenizeIntoFullBufferTest() {
+            PersianTokenizer tokenizer = new PersianTokenizer();
+            String text = "یک دو سه چهار پنج";
+            int[] tokens = new int[3 * 2];
+            assertThat(tokenizer.tokenize(text, tokens)).isEqualTo(2);
+            assertThat(tokens).containsExactly(0, 2, 0, 3, 5, 0);
+            assertThat(tokenizer.tokenize(text, tokens[4], tokens)).isEqualTo(2);
+            assertThat(tokens).containsExactly(6, 8, 0, 9, 13, 0);
+            assertThat(tokenizer.tokenize(text, tokens[4], tokens)).isEqualTo(1);
+            assertThat(tokenizer.tokenize(text, text.length(), tokens)).isZero();
+        }
+
+        @Test
+        @DisplayName("Tokenize with exceptional arguments")
+        void tokenizeWithExceptionalArgumentsTest() {
+            PersianTokenizer tokenizer = new PersianTokenizer();
+            assertThatThrownBy(() -> tokenizer.tokenize(null, new int[3]))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> tokenizer.tokenize("متن", null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> tokenizer.tokenize("متن", 4, new int[3]))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> TokenType.ofCode(TokenType.values().length))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.transliteration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Persian transliterator")
+class PersianTransliteratorTest {
+
+    private static Stream<Arguments> toLatinCases() {
+        return Stream.of(
+                Arguments.of("ایران", "iran"),
+                Arguments.of("تهران", "thran"),
+                Arguments.of("شیراز", "shiraz"),
+                Arguments.of("خانه", "khaneh"),
+                Arguments.of("راه", "rah"),
+                Arguments.of("کوه", "kouh"),
+                Arguments.of("خواهر", "khahr"),
+                Arguments.of("علی", "ali"),
+                Arguments.of("یاسر", "yasr"),
+                Arguments.of("وحید", "vhid"),
+                Arguments.of("سایه", "sayeh"),
+                Arguments.of("مُحَمَّد", "mohamad"),
+                Arguments.of("خانه‌ای", "khanehi"),
+                Arguments.of("عبدالله‌زاده", "abdallahzadeh"),
+                Arguments.of("الله", "allah"),
+                Arguments.of("علي و كريم", "ali va krim"),
+                Arguments.of("۱۴۰۳، تهران؟", "1403, thran?"),
+                Arguments.of("Java", "Java")
+        );
+    }
+
+    private static Stream<Arguments> matchingNameCases() {
+        return Stream.of(
+                Arguments.of("Mohammad", "محمد"),
+                Arguments.of("Ali", "علی"),
+                Arguments.of("Zahra", "زهرا"),
+                Arguments.of("Fatemeh", "فاطمه"),
+                Arguments.of("Hossein", "حسین"),
+                Arguments.of("Reza", "رضا"),
+                Arguments.of("Saeed", "سعید"),
+                Arguments.of("Sa'eed", "سعید"),
+                Arguments.of("Abdollah", "عبدالله"),
+                Arguments.of("Maryam", "مریم"),
+                Arguments.of("Meysam", "میثم"),
+                Arguments.of("Khosrow", "خسرو"),
+                Arguments.of("Iran", "ایران"),
+                Arguments.of("Mohammad-Reza", "محمدرضا"),
+                Arguments.of("Mohammadreza", "محمد رضا"),
+                Arguments.of("ZEYNAB", "زينب"),
+                Arguments.of("Ali 2nd.", "علی ۲ند"),
+                Arguments.of("Reza, Ali", "رضا، علی")
+        );
+    }
+
+    @Nested
+    @DisplayName("To Latin")
+    class ToLatinTest {
+
+        @ParameterizedTest
+        @DisplayName("To Latin with Persian text")
+        @MethodSource("com.persiantools4j.transliteration.PersianTransliteratorTest#toLatinCases")
+        void toLatinWithPersianTextTest(String text, String expected) throws IOException {
+            assertThat(PersianTransliterator.toLatin(text)).isEqualTo(expected);
+            assertThat(PersianTransliterator.toLatin(text, new StringBuilder("> ")).toString())
+                    .isEqualTo("> " + expected);
+        }
+
+        @Test
+        @DisplayName("To Latin with null text")
+        void toLatinWithNullTextTest() {
+            assertThatThrownBy(() -> PersianTransliterator.toLatin(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Text is null");
+        }
+
+        @Test
+        @DisplayName("To Latin in bulk")
+        void toLatinAllTest() {
+            CharSequence[] texts = {"ایران", null, new StringBuilder("خانه")};
+            String[] latinTexts = new String[texts.length];
+            assertThat(PersianTransliterator.toLatinAll(texts, latinTexts)).isEqualTo(2);
+            assertThat(latinTexts).containsExactly("iran", null, "khaneh");
+            assertThatThrownBy(() -> PersianTransliterator.toLatinAll(texts, new String[1]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("To Persian")
+    class ToPersianTest {
+
+        @ParameterizedTest
+        @DisplayName("To Persian candidates with name")
+        @MethodSource("com.persiantools4j.transliteration.PersianTransliteratorTest#matchingNameCases")
+        void toPersianCandidatesWithNameTest(String latinName, String persianName) {
+            List<String> candidates = PersianTransliterator.toPersianCandidates(latinName, 20);
+            assertThat(candidates).hasSizeLessThanOrEqualTo(20).doesNotHaveDuplicates();
+            if (!latinName.contains("-") && !persianName.contains(" ") && !latinName.contains("'")) {
+                assertThat(candidates).contains(persianName.replace('ي', 'ی'));
+            }
+        }
+
+        @Test
+        @DisplayName("To Persian candidates ranking")
+        void toPersianCandidatesRankingTest() {
+            assertThat(PersianTransliterator.toPersianCandidates("Shiraz", 1)).containsExactly("شیراز");
+            assertThat(PersianTransliterator.toPersianCandidates("Mohammad", 3))
+                    .startsWith("محمد")
+                    .doesNotContain("مهممد");
+            assertThat(PersianTransliterator.toPersianCandidates("Ali Reza", 1)).containsExactly("علی رضا");
+            assertThat(PersianTransliterator.toPersianCandidates("Hossein", 1)).containsExactly("حسین");
+            assertThat(PersianTransliterator.toPersianCandidates("Fatemeh", 1)).containsExactly("فاطمه");
+            assertThat(PersianTransliterator.toPersianCandidates("Saeed", 1)).containsExactly("سعید");
+            assertThat(PersianTransliterator.toPersianCandidates("Iran", 1)).containsExactly("ایران");
+            assertThat(PersianTransliterator.toPersianCandidates("Fatemeh", 50)).contains("فاطمه");
+            assertThat(PersianTransliterator.toPersianCandidates("Iran 2024", 10)).contains("ایران ۲۰۲۴");
+        }
+
+        @Test
+        @DisplayName("To Persian candidates with exceptional arguments")
+        void toPersianCandidatesWithExceptionalArgumentsTest() {
+            assertThatThrownBy(() -> PersianTransliterator.toPersianCandidates(null, 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Text is null");
+            assertThatThrownBy(() -> PersianTransliterator.toPersianCandidates("Ali", 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid limit: 0");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Match")
+    class MatchTest {
+
+        @ParameterizedTest
+        @DisplayName("Match with matching names")
+        @MethodSource("com.persiantools4j.transliteration.PersianTransliteratorTest#matchingNameCases")
+        void matchWithMatchingNamesTest(String latinName, String persianName) {
+            assertThat(PersianTransliterator.matches(latinName, persianName)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Match with different names")
+        void matchWithDifferentNamesTest() {
+            assertThat(PersianTransliterator.matches("Ali", "رضا")).isFalse();
+            assertThat(PersianTransliterator.matches("Mohammad", "محمود")).isFalse();
+            assertThat(PersianTransliterator.matches("Hassan", "حسین")).isFalse();
+            assertThat(PersianTransliterator.matches("ali1", "علی")).isFalse();
+            assertThat(PersianTransliterator.matches("Alix", "علی")).isFalse();
+            assertThat(PersianTransliterator.matches("Ali", "علی۱")).isFalse();
+            assertThat(PersianTransliterator.matches(null, "علی")).isFalse();
+            assertThat(PersianTransliterator.matches("Ali", null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Match in bulk")
+        void matchAllTest() {
+            CharSequence[] latinNames = {"Ali", "Reza", null, "Maryam"};
+            CharSequence[] persianNames = {"علی", "حسن", "علی", "مريم"};
+            long[] bitmask = new long[1];
+            assertThat(PersianTransliterator.matchAll(latinNames, persianNames, bitmask)).isEqualTo(2);
+            assertThat(bitmask[0]).isEqualTo(0b1001L);
+            assertThatThrownBy(() -> PersianTransliterator.matchAll(latinNames, new CharSequence[1], bitmask))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Texts are null or of different lengths");
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.transliteration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Rule trie")
+class RuleTrieTest {
+
+    private RuleTrie<String> ruleTrie;
+
+    @BeforeEach
+    void beforeEach() {
+        ruleTrie = new RuleTrie<>(Character::isLetter);
+        ruleTrie.put("s", "S", false);
+        ruleTrie.put("sh", "SH", false);
+        ruleTrie.put("e", "E", false);
+        ruleTrie.put("eh", "EH", true);
+    }
+
+    @Test
+    @DisplayName("Find longest key")
+    void findLongestTest() {
+        int node = ruleTrie.findLongest("shah", 0);
+        assertThat(ruleTrie.length(node)).isEqualTo(2);
+        assertThat(ruleTrie.value(node, "shah", 0)).isEqualTo("SH");
+        node = ruleTrie.findLongest("sa", 0);
+        assertThat(ruleTrie.value(node, "sa", 0)).isEqualTo("S");
+        assertThat(ruleTrie.findLongest("shah", 2)).isZero();
+        assertThat(ruleTrie.maxLength()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Find word-end key")
+    void findWordEndTest() {
+        int node = ruleTrie.findLongest("meh", 1);
+        assertThat(ruleTrie.value(node, "meh", 1)).isEqualTo("EH");
+        node = ruleTrie.findLongest("meh meh", 1);
+        assertThat(ruleTrie.value(node, "meh meh", 1)).isEqualTo("EH");
+        node = ruleTrie.findLongest("mehr", 1);
+        assertThat(ruleTrie.length(node)).isEqualTo(1);
+        assertThat(ruleTrie.value(node, "mehr", 1)).isEqualTo("E");
+    }
+
+    @Test
+    @DisplayName("Find all keys")
+    void findAllTest() {
+        int[] nodes = new int[ruleTrie.maxLength()];
+        assertThat(ruleTrie.findAll("shah", 0, nodes)).isEqualTo(2);
+        assertThat(ruleTrie.length(nodes[0])).isEqualTo(1);
+        assertThat(ruleTrie.length(nodes[1])).isEqualTo(2);
+        assertThat(ruleTrie.findAll("ehr", 0, nodes)).isEqualTo(1);
+        assertThat(ruleTrie.findAll("eh", 0, nodes)).isEqualTo(2);
+        assertThat(ruleTrie.findAll("x", 0, nodes)).isZero();
+    }
+
+}
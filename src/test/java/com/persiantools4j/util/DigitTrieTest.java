@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Digit trie")
+class DigitTrieTest {
+
+    private static DigitTrie<String> digitTrie;
+
+    @BeforeAll
+    static void beforeAll() {
+        digitTrie = new DigitTrie<>();
+        for (int i = 0; i < 100; i++) {
+            digitTrie.put(String.valueOf(900 + i), "short");
+        }
+        digitTrie.put("9990", "long");
+        digitTrie.put("99914", "longer");
+        digitTrie.put("0", "zero");
+    }
+
+    @ParameterizedTest
+    @DisplayName("Find longest prefix")
+    @CsvSource({
+            "8121234567, ",
+            "9121234567, short",
+            "9011234567, short",
+            "9991234567, short",
+            "9990234567, long",
+            "9991434567, longer",
+            "0121234567, zero"
+    })
+    void findLongestPrefixTest(String digits, String expected) {
+        assertThat(digitTrie.findLongestPrefix(digits)).isEqualTo(expected);
+        assertThat(digitTrie.findLongestPrefix(Long.parseLong(digits), digits.length())).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Put exceptional prefix")
+    void putExceptionalPrefixTest() {
+        DigitTrie<String> trie = new DigitTrie<>();
+        assertThatThrownBy(() -> trie.put("", "empty")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trie.put("9a", "letter")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(trie.findLongestPrefix("9")).isNull();
+    }
+
+}
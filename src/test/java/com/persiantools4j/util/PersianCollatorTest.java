@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Persian collator")
+class PersianCollatorTest {
+
+    private static PersianCollator persianCollator;
+
+    private static Stream<Arguments> orderedCases() {
+        return Stream.of(
+                Arguments.of("آب", "اب"),
+                Arguments.of("بابا", "پدر"),
+                Arguments.of("جواد", "چمن"),
+                Arguments.of("زهرا", "ژاله"),
+                Arguments.of("کاوه", "گلناز"),
+                Arguments.of("وحید", "یاسر"),
+                Arguments.of("هادی", "یاسر"),
+                Arguments.of("كاوه", "گلناز"),
+                Arguments.of("علی", "علیرضا"),
+                Arguments.of("علی رضا", "علیرضا"),
+                Arguments.of("9", "الف"),
+                Arguments.of("۱۰", "9"),
+                Arguments.of("Zahra", "آرش"),
+                Arguments.of("-", "0"),
+                Arguments.of("یاسر", "€")
+        );
+    }
+
+    private static Stream<Arguments> equalWeightCases() {
+        return Stream.of(
+                Arguments.of("علی", "علي"),
+                Arguments.of("کاوه", "كاوه"),
+                Arguments.of("می‌خواهم", "میخواهم"),
+                Arguments.of("مُحَمَّد", "محمد"),
+                Arguments.of("محــمد", "محمد"),
+                Arguments.of(" علی  رضا ", "علی رضا"),
+                Arguments.of("١٢٣", "123"),
+                Arguments.of("Ali", "ali"),
+                Arguments.of("مسئله", "مسیله")
+        );
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        persianCollator = new PersianCollator();
+    }
+
+    @Nested
+    @DisplayName("Compare")
+    class CompareTest {
+
+        @ParameterizedTest
+        @DisplayName("Compare ordered strings")
+        @MethodSource("com.persiantools4j.util.PersianCollatorTest#orderedCases")
+        void compareOrderedStringsTest(String first, String second) {
+            assertThat(persianCollator.compare(first, second)).isNegative();
+            assertThat(persianCollator.compare(second, first)).isPositive();
+            assertThat(PersianCollator.compareSortKeys(persianCollator.getSortKey(first),
+                    persianCollator.getSortKey(second))).isNegative();
+            assertThat(persianCollator.getPrefixKey(first)).isLessThanOrEqualTo(persianCollator.getPrefixKey(second));
+        }
+
+        @ParameterizedTest
+        @DisplayName("Compare strings of equal weights")
+        @MethodSource("com.persiantools4j.util.PersianCollatorTest#equalWeightCases")
+        void compareStringsOfEqualWeightsTest(String first, String second) {
+            assertThat(persianCollator.getSortKey(first)).isEqualTo(persianCollator.getSortKey(second));
+            assertThat(persianCollator.getPrefixKey(first)).isEqualTo(persianCollator.getPrefixKey(second));
+            assertThat(Integer.signum(persianCollator.compare(first, second)))
+                    .isEqualTo(Integer.signum(first.compareTo(second)));
+        }
+
+        @Test
+        @DisplayName("Compare null and empty strings")
+        void compareNullAndEmptyStringsTest() {
+            assertThat(persianCollator.compare(null, null)).isZero();
+            assertThat(persianCollator.compare(null, "")).isNegative();
+            assertThat(persianCollator.compare("", "الف")).isNegative();
+            assertThat(persianCollator.compare("الف", new StringBuilder("الف"))).isZero();
+            assertThat(persianCollator.getSortKey(null)).isEmpty();
+            assertThat(persianCollator.getSortKey(" ‌ ")).isEmpty();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Sort")
+    class SortTest {
+
+        @Test
+        @DisplayName("Sort names")
+        void sortNamesTest() {
+            String[] names = {"یاسر", "ژاله", "پریا", null, "زهرا", "بهرام", "چنگیز", "جواد", "گلناز", "كاوه", "آرش",
+                    "ابراهیم"};
+            persianCollator.sort(names);
+            assertThat(names).containsExactly(null, "آرش", "ابراهیم", "بهرام", "پریا", "جواد", "چنگیز", "زهرا",
+                    "ژاله", "كاوه", "گلناز", "یاسر");
+            assertThatThrownBy(() -> persianCollator.sort(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Sort large array consistently with compare")
+        void sortLargeArrayTest() {
+            String alphabet = "آابپتثجچژکكگیيیه ‌ٔ0۱a";
+            Random random = new Random(42);
+            String[] values = new String[20_000];
+            for (int i = 0; i < values.length; i++) {
+                char[] chars = new char[1 + random.nextInt(12)];
+                for (int j = 0; j < chars.length; j++) {
+                    chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+                }
+                values[i] = new String(chars);
+            }
+            String[] expected = values.clone();
+            Arrays.sort(expected, persianCollator);
+            persianCollator.sort(values);
+            assertThat(values).containsExactly(expected);
+        }
+
+    }
+
+}
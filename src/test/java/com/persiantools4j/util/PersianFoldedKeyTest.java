@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Persian folded key")
+class PersianFoldedKeyTest {
+
+    private static Stream<Arguments> equalCases() {
+        return Stream.of(
+                Arguments.of("علی", "علی"),
+                Arguments.of("علي", "علی"),
+                Arguments.of(" بانك ملي ", "بانک ملی"),
+                Arguments.of("١٢٣", "۱۲۳"),
+                Arguments.of("\tتهران\n", new StringBuilder("تهران")),
+                Arguments.of("", "  ")
+        );
+    }
+
+    private static Stream<Arguments> notEqualCases() {
+        return Stream.of(
+                Arguments.of("علی", "علیا"),
+                Arguments.of("بانک ملت", "بانک ملی"),
+                Arguments.of("بانک  ملی", "بانک ملی"),
+                Arguments.of("123", "۱۲۳"),
+                Arguments.of("", null)
+        );
+    }
+
+    @Nested
+    @DisplayName("Folded equality")
+    class FoldedEqualsTest {
+
+        @ParameterizedTest
+        @DisplayName("Folded equals with equal sequences")
+        @MethodSource("com.persiantools4j.util.PersianFoldedKeyTest#equalCases")
+        void foldedEqualsWithEqualSequencesTest(CharSequence first, CharSequence second) {
+            assertThat(PersianFoldedKey.foldedEquals(first, second)).isTrue();
+            assertThat(PersianFoldedKey.foldedEquals(second, first)).isTrue();
+            assertThat(PersianFoldedKey.foldedHashCode(first)).isEqualTo(PersianFoldedKey.foldedHashCode(second));
+            assertThat(new PersianFoldedKey(first)).isEqualTo(new PersianFoldedKey(second));
+        }
+
+        @ParameterizedTest
+        @DisplayName("Folded equals with different sequences")
+        @MethodSource("com.persiantools4j.util.PersianFoldedKeyTest#notEqualCases")
+        void foldedEqualsWithDifferentSequencesTest(CharSequence first, CharSequence second) {
+            assertThat(PersianFoldedKey.foldedEquals(first, second)).isFalse();
+            assertThat(PersianFoldedKey.foldedEquals(second, first)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Folded equals with null sequences")
+        void foldedEqualsWithNullSequencesTest() {
+            assertThat(PersianFoldedKey.foldedEquals(null, null)).isTrue();
+            assertThat(PersianFoldedKey.foldedHashCode(null)).isZero();
+            assertThatThrownBy(() -> new PersianFoldedKey(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Folded hash code")
+    class FoldedHashCodeTest {
+
+        @ParameterizedTest
+        @DisplayName("Folded hash code matches the normalized string")
+        @MethodSource({"com.persiantools4j.util.PersianFoldedKeyTest#equalCases",
+                "com.persiantools4j.util.PersianFoldedKeyTest#notEqualCases"})
+        void foldedHashCodeMatchesNormalizedStringTest(CharSequence first, CharSequence second) {
+            assertThat(PersianFoldedKey.foldedHashCode(first))
+                    .isEqualTo(StringUtils.normalizePersian(first.toString()).hashCode());
+            assertThat(new PersianFoldedKey(first).hashCode())
+                    .isEqualTo(StringUtils.normalizePersian(first.toString()).hashCode());
+        }
+
+        @Test
+        @DisplayName("Use as hash map key")
+        void useAsHashMapKeyTest() {
+            Map<PersianFoldedKey, Integer> map = new HashMap<>();
+            map.put(new PersianFoldedKey("بانک ملی"), 1);
+            map.merge(new PersianFoldedKey(" بانك ملي"), 1, Integer::sum);
+            map.merge(new PersianFoldedKey("بانک ملت"), 1, Integer::sum);
+            assertThat(map).hasSize(2).containsEntry(new PersianFoldedKey("بانك ملي"), 2);
+            assertThat(map.keySet()).extracting(PersianFoldedKey::toString).contains("بانک ملی");
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Imorate (Amir Mohammad Hl) <dev.imorate@gmail.com> and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.persiantools4j.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Script statistics")
+class ScriptStatisticsTest {
+
+    @Test
+    @DisplayName("Fractions of empty text")
+    void fractionsOfEmptyTextTest() {
+        ScriptStatistics statistics = new ScriptStatistics();
+        assertThat(statistics.getLength()).isZero();
+        assertThat(statistics.getFirstNonPersianIndex()).isEqualTo(-1);
+        assertThat(statistics.getPersianLetterFraction()).isZero();
+        assertThat(statistics.getArabicLetterFraction()).isZero();
+        assertThat(statistics.getLatinLetterFraction()).isZero();
+        assertThat(statistics.getDigitFraction()).isZero();
+    }
+
+    @Test
+    @DisplayName("Reset")
+    void resetTest() {
+        ScriptStatistics statistics = StringUtils.analyzeScripts("يك 1 a", new ScriptStatistics());
+        assertThat(statistics.getArabicLetterFraction()).isEqualTo(2.0 / 6);
+        assertThat(statistics.getDigitFraction()).isEqualTo(1.0 / 6);
+        assertThat(statistics.getFirstNonPersianIndex()).isZero();
+        assertThat(statistics.reset()).isSameAs(statistics);
+        assertThat(statistics).hasToString(new ScriptStatistics().toString());
+    }
+
+}
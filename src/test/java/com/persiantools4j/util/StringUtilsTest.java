@@ -19,12 +19,15 @@ package com.persiantools4j.util;
 import com.persiantools4j.exception.ValidationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.stream.Stream;
 
@@ -62,6 +65,30 @@ class StringUtilsTest {
         );
     }
 
+    private static Stream<Arguments> toPersianDigitsCases() {
+        return Stream.of(
+                Arguments.of("", ""),
+                Arguments.of(" 123 ", "۱۲۳"),
+                Arguments.of("0123456789", "۰۱۲۳۴۵۶۷۸۹"),
+                Arguments.of("٠١٢٣٤٥٦٧٨٩", "۰۱۲۳۴۵۶۷۸۹"),
+                Arguments.of("1" + "تست" + "۲٣", "۱" + "تست" + "۲۳"),
+                Arguments.of("test", "test")
+        );
+    }
+
+    private static Stream<Arguments> formatPersianCases() {
+        return Stream.of(
+                Arguments.of(0L, "۰"),
+                Arguments.of(7L, "۷"),
+                Arguments.of(999L, "۹۹۹"),
+                Arguments.of(1000L, "۱٬۰۰۰"),
+                Arguments.of(1234567L, "۱٬۲۳۴٬۵۶۷"),
+                Arguments.of(-98765L, "-۹۸٬۷۶۵"),
+                Arguments.of(Long.MAX_VALUE, "۹٬۲۲۳٬۳۷۲٬۰۳۶٬۸۵۴٬۷۷۵٬۸۰۷"),
+                Arguments.of(Long.MIN_VALUE, "-۹٬۲۲۳٬۳۷۲٬۰۳۶٬۸۵۴٬۷۷۵٬۸۰۸")
+        );
+    }
+
     private static Stream<Arguments> toEnglishDigitsCases() {
         return Stream.of(
                 Arguments.of(null, ""),
@@ -119,6 +146,13 @@ class StringUtilsTest {
         assertThat(StringUtils.isBlank(input)).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @DisplayName("Get digit value")
+    @CsvSource({"0, 0", "9, 9", "۰, 0", "۷, 7", "٠, 0", "٩, 9", "a, -1", "/, -1", ":, -1", "ـ, -1"})
+    void getDigitValueTest(char input, int expected) {
+        assertThat(StringUtils.getDigitValue(input)).isEqualTo(expected);
+    }
+
     @ParameterizedTest
     @DisplayName("To english digits")
     @MethodSource("toEnglishDigitsCases")
@@ -126,6 +160,70 @@ class StringUtilsTest {
         assertThat(StringUtils.toEnglishDigits(input)).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @DisplayName("To persian digits")
+    @MethodSource("toPersianDigitsCases")
+    void toPersianDigitsTest(String input, String expected) throws IOException {
+        assertThat(StringUtils.toPersianDigits(input)).isEqualTo(expected);
+        assertThat(StringUtils.toPersianDigits(new StringBuilder(input))).isEqualTo(expected);
+        assertThat(StringUtils.toEnglishDigits(StringUtils.toPersianDigits(input)))
+                .isEqualTo(StringUtils.toEnglishDigits(input));
+        StringBuilder output = new StringBuilder("#");
+        assertThat(StringUtils.toPersianDigits(input.trim(), output)).isSameAs(output);
+        assertThat(output).hasToString("#" + expected);
+    }
+
+    @ParameterizedTest
+    @DisplayName("To persian digits without conversion")
+    @ValueSource(strings = {"۱۲۳", "test", "تست"})
+    void toPersianDigitsWithoutConversionTest(String input) {
+        assertThat(StringUtils.toPersianDigits(input)).isSameAs(input);
+        assertThat(StringUtils.toPersianDigits(null)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @DisplayName("Format persian")
+    @MethodSource("formatPersianCases")
+    void formatPersianTest(long number, String expected) throws IOException {
+        assertThat(StringUtils.formatPersian(number)).isEqualTo(expected);
+        StringBuilder output = new StringBuilder("#");
+        assertThat(StringUtils.formatPersian(number, output)).isSameAs(output);
+        assertThat(output).hasToString("#" + expected);
+    }
+
+    @ParameterizedTest
+    @DisplayName("To english digits without conversion")
+    @ValueSource(strings = {"123", "test", "تست"})
+    void toEnglishDigitsWithoutConversionTest(String input) {
+        assertThat(StringUtils.toEnglishDigits(input)).isSameAs(input);
+    }
+
+    @ParameterizedTest
+    @DisplayName("To english digits in place")
+    @MethodSource("toEnglishDigitsCases")
+    void toEnglishDigitsInPlaceTest(String input, String expected) {
+        if (input == null) {
+            return;
+        }
+        char[] chars = ("#" + input.trim() + "۹").toCharArray();
+        StringUtils.toEnglishDigits(chars, 1, chars.length - 2);
+        assertThat(new String(chars)).isEqualTo("#" + expected + "۹");
+        assertThatThrownBy(() -> StringUtils.toEnglishDigits(chars, 1, chars.length))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @DisplayName("To english digits into appendable")
+    @MethodSource("toEnglishDigitsCases")
+    void toEnglishDigitsIntoAppendableTest(String input, String expected) throws IOException {
+        if (input == null) {
+            return;
+        }
+        StringBuilder output = new StringBuilder("#");
+        assertThat(StringUtils.toEnglishDigits(new StringBuilder(input.trim()), output)).isSameAs(output);
+        assertThat(output).hasToString("#" + expected);
+    }
+
     @ParameterizedTest
     @DisplayName("Normalize persian")
     @MethodSource("normalizePersianCases")
@@ -134,6 +232,56 @@ class StringUtilsTest {
         assertThat(StringUtils.normalizePersian(input)).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @DisplayName("Normalize persian without conversion")
+    @ValueSource(strings = {"این یک تست کاربردی می باشد", "۰۱۲۳۴۵۶۷۸۹", "test"})
+    void normalizePersianWithoutConversionTest(String input) {
+        assertThat(StringUtils.normalizePersian(input)).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Normalize persian character")
+    void normalizePersianCharacterTest() {
+        assertThat(StringUtils.normalizePersian('ي')).isEqualTo('ی');
+        assertThat(StringUtils.normalizePersian('ك')).isEqualTo('ک');
+        assertThat(StringUtils.normalizePersian('٣')).isEqualTo('۳');
+        assertThat(StringUtils.normalizePersian('a')).isEqualTo('a');
+    }
+
+    @Test
+    @DisplayName("Analyze scripts")
+    void analyzeScriptsTest() {
+        ScriptStatistics statistics = new ScriptStatistics();
+        assertThat(StringUtils.analyzeScripts("سلام ۱۲ كتاب test3 é!", statistics)).isSameAs(statistics);
+        assertThat(statistics.getLength()).isEqualTo(21);
+        assertThat(statistics.getPersianLetterCount()).isEqualTo(7);
+        assertThat(statistics.getArabicLetterCount()).isEqualTo(1);
+        assertThat(statistics.getLatinLetterCount()).isEqualTo(5);
+        assertThat(statistics.getDigitCount()).isEqualTo(3);
+        assertThat(statistics.getWhitespaceCount()).isEqualTo(4);
+        assertThat(statistics.getOtherCount()).isEqualTo(1);
+        assertThat(statistics.getFirstNonPersianIndex()).isEqualTo(8);
+        StringUtils.analyzeScripts("سلام، دنیا", statistics);
+        assertThat(statistics.getFirstNonPersianIndex()).isEqualTo(-1);
+        assertThat(statistics.getPersianLetterFraction()).isEqualTo(0.8);
+        assertThat(StringUtils.isPersian("سلام، دنیا")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Analyze scripts all")
+    void analyzeScriptsAllTest() {
+        ScriptStatistics reused = new ScriptStatistics();
+        CharSequence[] inputs = {"test", null, new StringBuilder("تست")};
+        ScriptStatistics[] statistics = {reused, null, null};
+        StringUtils.analyzeScriptsAll(inputs, statistics);
+        assertThat(statistics[0]).isSameAs(reused);
+        assertThat(statistics[0].getLatinLetterFraction()).isEqualTo(1);
+        assertThat(statistics[1].getLength()).isZero();
+        assertThat(statistics[2].getPersianLetterCount()).isEqualTo(3);
+        assertThatThrownBy(() -> StringUtils.analyzeScriptsAll(inputs, new ScriptStatistics[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @ParameterizedTest
     @DisplayName("Is persian")
     @MethodSource("isPersianStringCases")